@@ -0,0 +1,24 @@
+package com.jobportal.cluster;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated scheduled method on at most one node at a time. Nodes that find the
+ * lock held skip the run. Durations accept the usual Spring Boot formats ("30s", "10m", ISO-8601).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterSingleton {
+
+    // Lock name; defaults to SimpleClassName.methodName
+    String name() default "";
+
+    // Lease length, renewed while the task is still running
+    String lockAtMostFor() default "5m";
+
+    // Minimum hold so other nodes don't rerun a task that finished quickly within the same interval
+    String lockAtLeastFor() default "0s";
+}
@@ -0,0 +1,109 @@
+package com.jobportal.cluster;
+
+import com.jobportal.service.SchedulerLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterSingletonAspect {
+
+    private final SchedulerLockService schedulerLockService;
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void stop() {
+        renewer.shutdownNow();
+    }
+
+    @Around("@annotation(clusterSingleton)")
+    public Object runOnce(ProceedingJoinPoint joinPoint, ClusterSingleton clusterSingleton) throws Throwable {
+        String name = lockName(joinPoint, clusterSingleton);
+        Duration lockAtMostFor = DurationStyle.detectAndParse(clusterSingleton.lockAtMostFor());
+        Duration lockAtLeastFor = DurationStyle.detectAndParse(clusterSingleton.lockAtLeastFor());
+
+        Optional<SchedulerLockService.Lease> acquired;
+        try {
+            acquired = schedulerLockService.tryAcquire(name, lockAtMostFor);
+        } catch (Exception e) {
+            // Without the lock table we can't know who runs it, so nobody does
+            log.error("Failed to acquire scheduler lock {}, skipping run", name, e);
+            meterRegistry.counter("scheduler.lock.errors", "lock", name).increment();
+            return null;
+        }
+        if (acquired.isEmpty()) {
+            log.debug("Scheduler lock {} held by another node, skipping run", name);
+            meterRegistry.counter("scheduler.lock.skipped", "lock", name).increment();
+            return null;
+        }
+
+        SchedulerLockService.Lease lease = acquired.get();
+        meterRegistry.counter("scheduler.lock.acquired", "lock", name).increment();
+
+        // Renew at half the lease so a long run never outlives its lock
+        long renewEveryMs = Math.max(lockAtMostFor.toMillis() / 2, 1);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+                () -> renew(lease, lockAtMostFor), renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            renewal.cancel(false);
+            sample.stop(meterRegistry.timer("scheduler.lock.held", "lock", name));
+            try {
+                schedulerLockService.release(lease, lockAtLeastFor);
+            } catch (Exception e) {
+                // The lease simply runs out at lockAtMostFor
+                log.warn("Failed to release scheduler lock {}", name, e);
+            }
+        }
+    }
+
+    private void renew(SchedulerLockService.Lease lease, Duration lockAtMostFor) {
+        try {
+            if (schedulerLockService.extend(lease, lockAtMostFor)) {
+                meterRegistry.counter("scheduler.lock.renewed", "lock", lease.name()).increment();
+            } else {
+                meterRegistry.counter("scheduler.lock.lost", "lock", lease.name()).increment();
+                log.warn("Scheduler lock {} expired before renewal, another node may run concurrently", lease.name());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew scheduler lock {}", lease.name(), e);
+        }
+    }
+
+    private static String lockName(ProceedingJoinPoint joinPoint, ClusterSingleton clusterSingleton) {
+        if (StringUtils.hasText(clusterSingleton.name())) {
+            return clusterSingleton.name();
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName() + "." + signature.getName();
+    }
+}
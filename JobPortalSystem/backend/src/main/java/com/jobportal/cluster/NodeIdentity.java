@@ -0,0 +1,31 @@
+package com.jobportal.cluster;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+@Component
+@Slf4j
+@Getter
+public class NodeIdentity {
+
+    private final String id;
+
+    public NodeIdentity(@Value("${cluster.node-id:}") String configuredId) {
+        this.id = StringUtils.hasText(configuredId) ? configuredId : hostName() + "-" + ProcessHandle.current().pid();
+        log.info("Cluster node id: {}", id);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -1,106 +1,107 @@
-package com.jobportal.controller;
-
-import com.jobportal.dto.JwtResponse;
-import com.jobportal.dto.LoginRequest;
-import com.jobportal.dto.RegisterRequest;
-import com.jobportal.entity.User;
-import com.jobportal.service.AuthService;
-import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import java.util.HashMap;
-import java.util.Map;
-
-@RestController
-@RequestMapping("/api/auth")
-@RequiredArgsConstructor
-@Slf4j
-@Tag(name = "Authentication", description = "Authentication management APIs")
-@CrossOrigin(origins = "*", maxAge = 3600)
-public class AuthController {
-
-    private final AuthService authService;
-
-    @PostMapping("/login")
-    @Operation(summary = "User login", description = "Authenticate user and return JWT token")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            JwtResponse jwtResponse = authService.authenticateUser(loginRequest);
-            return ResponseEntity.ok(jwtResponse);
-        } catch (Exception e) {
-            log.error("Login failed for user: {}", loginRequest.getEmail(), e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Invalid credentials");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @PostMapping("/register")
-    @Operation(summary = "User registration", description = "Register a new user")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
-        try {
-            User user = authService.registerUser(registerRequest);
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "User registered successfully!");
-            response.put("user", Map.of(
-                "id", user.getId(),
-                "email", user.getEmail(),
-                "firstName", user.getFirstName(),
-                "lastName", user.getLastName(),
-                "role", user.getRole()
-            ));
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Registration failed for user: {}", registerRequest.getEmail(), e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Registration failed");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @PostMapping("/logout")
-    @Operation(summary = "User logout", description = "Logout user (client should remove token)")
-    public ResponseEntity<?> logoutUser() {
-        Map<String, String> response = new HashMap<>();
-        response.put("message", "User logged out successfully!");
-        return ResponseEntity.ok(response);
-    }
-
-    @GetMapping("/me")
-    @Operation(summary = "Get current user", description = "Get current authenticated user details")
-    public ResponseEntity<?> getCurrentUser() {
-        try {
-            User user = authService.getCurrentUser();
-            Map<String, Object> response = new HashMap<>();
-            response.put("user", Map.of(
-                "id", user.getId(),
-                "email", user.getEmail(),
-                "firstName", user.getFirstName(),
-                "lastName", user.getLastName(),
-                "role", user.getRole(),
-                "isActive", user.getIsActive(),
-                "isVerified", user.getIsVerified(),
-                "profilePicture", user.getProfilePicture(),
-                "bio", user.getBio(),
-                "location", user.getLocation(),
-                "website", user.getWebsite(),
-                "linkedinUrl", user.getLinkedinUrl(),
-                "githubUrl", user.getGithubUrl()
-            ));
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Failed to get current user", e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Failed to get user details");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-}
+package com.jobportal.controller;
+
+import com.jobportal.dto.JwtResponse;
+import com.jobportal.dto.LoginRequest;
+import com.jobportal.dto.RegisterRequest;
+import com.jobportal.entity.User;
+import com.jobportal.service.AuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Authentication", description = "Authentication management APIs")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/login")
+    @Operation(summary = "User login", description = "Authenticate user and return JWT token")
+    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        try {
+            JwtResponse jwtResponse = authService.authenticateUser(loginRequest);
+            return ResponseEntity.ok(jwtResponse);
+        } catch (Exception e) {
+            log.error("Login failed for user: {}", loginRequest.getEmail(), e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Invalid credentials");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping("/register")
+    @Operation(summary = "User registration", description = "Register a new user")
+    public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
+        try {
+            User user = authService.registerUser(registerRequest);
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "User registered successfully!");
+            response.put("user", Map.of(
+                "id", user.getId(),
+                "email", user.getEmail(),
+                "firstName", user.getFirstName(),
+                "lastName", user.getLastName(),
+                "role", user.getRole()
+            ));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Registration failed for user: {}", registerRequest.getEmail(), e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Registration failed");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "User logout", description = "Logout user (client should remove token)")
+    public ResponseEntity<?> logoutUser() {
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "User logged out successfully!");
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/me")
+    @Operation(summary = "Get current user", description = "Get current authenticated user details")
+    public ResponseEntity<?> getCurrentUser() {
+        try {
+            User user = authService.getCurrentUser();
+            Map<String, Object> response = new HashMap<>();
+            // Map.of takes at most ten pairs and rejects the null profile fields
+            Map<String, Object> userDetails = new HashMap<>();
+            userDetails.put("id", user.getId());
+            userDetails.put("email", user.getEmail());
+            userDetails.put("firstName", user.getFirstName());
+            userDetails.put("lastName", user.getLastName());
+            userDetails.put("role", user.getRole());
+            userDetails.put("isActive", user.getIsActive());
+            userDetails.put("isVerified", user.getIsVerified());
+            userDetails.put("profilePicture", user.getProfilePicture());
+            userDetails.put("bio", user.getBio());
+            userDetails.put("location", user.getLocation());
+            userDetails.put("website", user.getWebsite());
+            userDetails.put("linkedinUrl", user.getLinkedinUrl());
+            userDetails.put("githubUrl", user.getGithubUrl());
+            response.put("user", userDetails);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to get current user", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get user details");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobportal.controller;
+
+import com.jobportal.dto.JobResponse;
+import com.jobportal.entity.User;
+import com.jobportal.matching.FeedService;
+import com.jobportal.service.AuthService;
+import com.jobportal.service.JobMembershipService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Feed", description = "Personalized job feed APIs")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class FeedController {
+
+    private final FeedService feedService;
+    private final AuthService authService;
+    private final JobMembershipService jobMembershipService;
+
+    @GetMapping
+    @Operation(summary = "Get my feed", description = "Get jobs recommended for the current user")
+    public ResponseEntity<?> getFeed(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            List<JobResponse> jobResponses = feedService.getFeed(currentUser, limit).stream()
+                    .map(JobResponse::fromJob)
+                    .collect(Collectors.toList());
+            jobMembershipService.annotate(jobResponses, currentUser.getId());
+            return ResponseEntity.ok(jobResponses);
+        } catch (Exception e) {
+            log.error("Failed to get job feed", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get job feed");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
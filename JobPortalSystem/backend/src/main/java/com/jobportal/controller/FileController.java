@@ -0,0 +1,168 @@
+package com.jobportal.controller;
+
+import com.jobportal.storage.FileStorageService;
+import com.jobportal.storage.ImageDerivativeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+// Serves stored files straight from disk; never touches Jackson or JPA. Mapped without the
+// usual /api segment so that, under the /api context path, it answers FileStorageService.URL_PREFIX
+@RestController
+@RequestMapping("/files")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Files", description = "Stored file download APIs")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class FileController {
+
+    // Tomcat's sendfile hand-off: it writes the file from the kernel after the servlet returns
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Served in place of a thumbnail that is still being generated, so caches come back for it soon
+    private static final String PENDING_CACHE_CONTROL = "public, max-age=60";
+
+    private final FileStorageService fileStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+
+    @GetMapping("/{name}")
+    @Operation(summary = "Download a file",
+            description = "Download a stored file; supports Range and ETag. Images accept ?size= for a thumbnail")
+    public void getFile(@PathVariable String name, @RequestParam(required = false) Integer size,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<Path> file = fileStorageService.resolve(name);
+        if (file.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (size != null && size > 0 && FileStorageService.isImage(name)) {
+            // Sizes snap to the configured ones so arbitrary values cannot fill the disk
+            Optional<Integer> snapped = imageDerivativeService.snapSize(size);
+            if (snapped.isPresent()) {
+                Optional<Path> derivative = fileStorageService.resolveDerivative(name, snapped.get());
+                if (derivative.isPresent()) {
+                    String derivativeName = derivative.get().getFileName().toString();
+                    serve(derivative.get(), derivativeName, FileStorageService.baseName(derivativeName),
+                            cacheControl(name), request, response);
+                    return;
+                }
+                imageDerivativeService.submit(name, snapped.get());
+                serve(file.get(), name, FileStorageService.baseName(name), PENDING_CACHE_CONTROL, request, response);
+                return;
+            }
+        }
+        serve(file.get(), name, FileStorageService.baseName(name), cacheControl(name), request, response);
+    }
+
+    private static String cacheControl(String name) {
+        return (FileStorageService.isImage(name) ? "public" : "private") + ", max-age=31536000, immutable";
+    }
+
+    private void serve(Path path, String name, String tag, String cacheControl, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        // Content-addressed, so the hash is a strong validator and the bytes never change
+        String etag = "\"" + tag + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(FileStorageService.contentType(name));
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    // Returns {start, end} for a satisfiable single range, an empty array to ignore the header
+    // (multiple or malformed ranges get the full file), or null when the range is unsatisfiable
+    private static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.contains(",")) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return null;
+                }
+                return new long[] {Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -1,214 +1,342 @@
-package com.jobportal.controller;
-
-import com.jobportal.dto.ApplicationRequest;
-import com.jobportal.dto.ApplicationResponse;
-import com.jobportal.entity.JobApplication;
-import com.jobportal.entity.User;
-import com.jobportal.service.AuthService;
-import com.jobportal.service.JobApplicationService;
-import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-@RestController
-@RequestMapping("/api/applications")
-@RequiredArgsConstructor
-@Slf4j
-@Tag(name = "Job Applications", description = "Job application management APIs")
-@CrossOrigin(origins = "*", maxAge = 3600)
-public class JobApplicationController {
-
-    private final JobApplicationService jobApplicationService;
-    private final AuthService authService;
-
-    @PostMapping
-    @Operation(summary = "Apply for a job", description = "Submit a job application")
-    public ResponseEntity<?> applyForJob(@Valid @RequestBody ApplicationRequest applicationRequest) {
-        try {
-            User currentUser = authService.getCurrentUser();
-            JobApplication application = jobApplicationService.createApplication(applicationRequest, currentUser);
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
-        } catch (Exception e) {
-            log.error("Failed to create application", e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Failed to apply for job");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @GetMapping
-    @Operation(summary = "Get my applications", description = "Get applications submitted by current user")
-    public ResponseEntity<Page<ApplicationResponse>> getMyApplications(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "appliedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        
-        User currentUser = authService.getCurrentUser();
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<JobApplication> applications = jobApplicationService.getApplicationsByUser(currentUser, pageable);
-        Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
-        
-        return ResponseEntity.ok(applicationResponses);
-    }
-
-    @GetMapping("/job/{jobId}")
-    @Operation(summary = "Get applications for a job", description = "Get all applications for a specific job")
-    public ResponseEntity<?> getApplicationsForJob(
-            @PathVariable Long jobId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "appliedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        
-        try {
-            User currentUser = authService.getCurrentUser();
-            Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-            Pageable pageable = PageRequest.of(page, size, sort);
-            
-            Page<JobApplication> applications = jobApplicationService.getApplicationsByJob(jobId, pageable);
-            Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
-            
-            return ResponseEntity.ok(applicationResponses);
-        } catch (Exception e) {
-            log.error("Failed to get applications for job: {}", jobId, e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Failed to get applications");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @GetMapping("/{id}")
-    @Operation(summary = "Get application by ID", description = "Get application details by ID")
-    public ResponseEntity<?> getApplicationById(@PathVariable Long id) {
-        try {
-            JobApplication application = jobApplicationService.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Application not found"));
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
-        } catch (Exception e) {
-            log.error("Failed to get application with id: {}", id, e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Application not found");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @PutMapping("/{id}/status")
-    @Operation(summary = "Update application status", description = "Update the status of an application")
-    public ResponseEntity<?> updateApplicationStatus(
-            @PathVariable Long id,
-            @RequestParam JobApplication.ApplicationStatus status,
-            @RequestParam(required = false) String notes) {
-        
-        try {
-            User currentUser = authService.getCurrentUser();
-            JobApplication application = jobApplicationService.updateApplicationStatus(id, status, notes, currentUser);
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
-        } catch (Exception e) {
-            log.error("Failed to update application status for id: {}", id, e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Failed to update application status");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @PostMapping("/{id}/interview")
-    @Operation(summary = "Schedule interview", description = "Schedule an interview for an application")
-    public ResponseEntity<?> scheduleInterview(
-            @PathVariable Long id,
-            @RequestParam String interviewTime,
-            @RequestParam(required = false) String notes) {
-        
-        try {
-            User currentUser = authService.getCurrentUser();
-            LocalDateTime interviewDateTime = LocalDateTime.parse(interviewTime);
-            JobApplication application = jobApplicationService.scheduleInterview(id, interviewDateTime, notes, currentUser);
-            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
-        } catch (Exception e) {
-            log.error("Failed to schedule interview for application id: {}", id, e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Failed to schedule interview");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @DeleteMapping("/{id}")
-    @Operation(summary = "Withdraw application", description = "Withdraw a job application")
-    public ResponseEntity<?> withdrawApplication(@PathVariable Long id) {
-        try {
-            User currentUser = authService.getCurrentUser();
-            jobApplicationService.withdrawApplication(id, currentUser);
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "Application withdrawn successfully");
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Failed to withdraw application with id: {}", id, e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Failed to withdraw application");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-
-    @GetMapping("/status/{status}")
-    @Operation(summary = "Get applications by status", description = "Get applications filtered by status")
-    public ResponseEntity<Page<ApplicationResponse>> getApplicationsByStatus(
-            @PathVariable JobApplication.ApplicationStatus status,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "appliedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<JobApplication> applications = jobApplicationService.getApplicationsByStatus(status, pageable);
-        Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
-        
-        return ResponseEntity.ok(applicationResponses);
-    }
-
-    @GetMapping("/stats")
-    @Operation(summary = "Get application statistics", description = "Get application statistics for current user")
-    public ResponseEntity<?> getApplicationStats() {
-        try {
-            User currentUser = authService.getCurrentUser();
-            long totalApplications = jobApplicationService.getApplicationCountByUser(currentUser);
-            
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("totalApplications", totalApplications);
-            
-            return ResponseEntity.ok(stats);
-        } catch (Exception e) {
-            log.error("Failed to get application stats", e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Failed to get application statistics");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
-    }
-}
+package com.jobportal.controller;
+
+import com.jobportal.dto.ApplicationRequest;
+import com.jobportal.dto.ApplicationResponse;
+import com.jobportal.entity.JobApplication;
+import com.jobportal.entity.User;
+import com.jobportal.matching.ApplicantRankingService;
+import com.jobportal.search.CandidateSearchService;
+import com.jobportal.service.ApplicationExportService;
+import com.jobportal.service.AuthService;
+import com.jobportal.service.JobApplicationService;
+import com.jobportal.service.ResumeArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/applications")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Job Applications", description = "Job application management APIs")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class JobApplicationController {
+
+    private final JobApplicationService jobApplicationService;
+    private final AuthService authService;
+    private final ApplicationExportService applicationExportService;
+    private final ResumeArchiveService resumeArchiveService;
+    private final CandidateSearchService candidateSearchService;
+    private final ApplicantRankingService applicantRankingService;
+
+    @PostMapping
+    @Operation(summary = "Apply for a job", description = "Submit a job application")
+    public ResponseEntity<?> applyForJob(@Valid @RequestBody ApplicationRequest applicationRequest) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            JobApplication application = jobApplicationService.createApplication(applicationRequest, currentUser);
+            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+        } catch (Exception e) {
+            log.error("Failed to create application", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to apply for job");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "Get my applications", description = "Get applications submitted by current user")
+    public ResponseEntity<Page<ApplicationResponse>> getMyApplications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "appliedAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        User currentUser = authService.getCurrentUser();
+        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
+            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        Page<JobApplication> applications = jobApplicationService.getApplicationsByUser(currentUser, pageable);
+        Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
+        
+        return ResponseEntity.ok(applicationResponses);
+    }
+
+    @GetMapping("/job/{jobId}")
+    @Operation(summary = "Get applications for a job",
+            description = "Get all applications for a specific job, best skill match first unless another sort is given")
+    public ResponseEntity<?> getApplicationsForJob(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "matchScore") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        try {
+            User currentUser = authService.getCurrentUser();
+            if (sortBy.equals("matchScore")) {
+                Page<ApplicationResponse> ranked = applicantRankingService
+                        .getRankedApplications(jobId, currentUser, PageRequest.of(page, size))
+                        .map(scored -> {
+                            ApplicationResponse response = ApplicationResponse.fromApplication(scored.application());
+                            response.setMatchScore(scored.score());
+                            return response;
+                        });
+                return ResponseEntity.ok(ranked);
+            }
+
+            Sort sort = sortDir.equalsIgnoreCase("desc") ? 
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            
+            Page<JobApplication> applications = jobApplicationService.getApplicationsByJob(jobId, pageable);
+            Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
+            
+            return ResponseEntity.ok(applicationResponses);
+        } catch (Exception e) {
+            log.error("Failed to get applications for job: {}", jobId, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get applications");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/job/{jobId}/search")
+    @Operation(summary = "Search applicants for a job",
+            description = "Full-text search over applicants' resumes and cover letters, e.g. kubernetes AND go OR golang")
+    public ResponseEntity<?> searchApplicationsForJob(@PathVariable Long jobId, @RequestParam String q) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            List<ApplicationResponse> applications = candidateSearchService.search(jobId, q, currentUser).stream()
+                    .map(ApplicationResponse::fromApplication)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(applications);
+        } catch (Exception e) {
+            log.error("Failed to search applications for job: {}", jobId, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to search applications");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/job/{jobId}/export")
+    @Operation(summary = "Export applications for a job", description = "Stream all applications for a job as CSV or NDJSON")
+    public ResponseEntity<?> exportApplicationsForJob(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "csv") String format) {
+        
+        try {
+            // Token id and a JDBC check, as for resume downloads, so open-in-view holds no connection
+            Long userId = authService.findCurrentUserId()
+                    .orElseThrow(() -> new RuntimeException("User not authenticated"));
+            ApplicationExportService.Format exportFormat = ApplicationExportService.Format.valueOf(format.toUpperCase());
+            applicationExportService.checkExportAccess(jobId, userId);
+            
+            StreamingResponseBody body = out -> applicationExportService.export(jobId, exportFormat, out);
+            boolean csv = exportFormat == ApplicationExportService.Format.CSV;
+            return ResponseEntity.ok()
+                    .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                            : MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"job-" + jobId + "-applications." + (csv ? "csv" : "ndjson") + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            log.error("Failed to export applications for job: {}", jobId, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to export applications");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/job/{jobId}/resumes")
+    @Operation(summary = "Download resumes for a job", description = "Stream a ZIP of applicants' resumes, optionally filtered by status")
+    public ResponseEntity<?> downloadResumesForJob(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) JobApplication.ApplicationStatus status,
+            HttpServletRequest request) {
+        
+        try {
+            // The caller's id comes from the token so nothing here opens a JPA session whose
+            // connection open-in-view would keep for the whole download
+            Long userId = authService.findCurrentUserId()
+                    .orElseThrow(() -> new RuntimeException("User not authenticated"));
+            resumeArchiveService.checkArchiveAccess(jobId, userId);
+            Runnable release = resumeArchiveService.tryAcquire(userId).orElse(null);
+            if (release == null) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Too many downloads");
+                error.put("message", "Wait for your other resume downloads to finish");
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+            }
+            // Also give the permit back when the body never runs, e.g. on timeout or a dropped client
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor("resumeArchivePermit",
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                            release.run();
+                        }
+                    });
+
+            StreamingResponseBody body = out -> {
+                try {
+                    resumeArchiveService.writeArchive(jobId, status, out);
+                } finally {
+                    release.run();
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/zip"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"job-" + jobId + "-resumes.zip\"")
+                    .body(body);
+        } catch (Exception e) {
+            log.error("Failed to download resumes for job: {}", jobId, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to download resumes");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get application by ID", description = "Get application details by ID")
+    public ResponseEntity<?> getApplicationById(@PathVariable Long id) {
+        try {
+            JobApplication application = jobApplicationService.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Application not found"));
+            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+        } catch (Exception e) {
+            log.error("Failed to get application with id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Application not found");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PutMapping("/{id}/status")
+    @Operation(summary = "Update application status", description = "Update the status of an application")
+    public ResponseEntity<?> updateApplicationStatus(
+            @PathVariable Long id,
+            @RequestParam JobApplication.ApplicationStatus status,
+            @RequestParam(required = false) String notes) {
+        
+        try {
+            User currentUser = authService.getCurrentUser();
+            JobApplication application = jobApplicationService.updateApplicationStatus(id, status, notes, currentUser);
+            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+        } catch (Exception e) {
+            log.error("Failed to update application status for id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to update application status");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping("/{id}/interview")
+    @Operation(summary = "Schedule interview", description = "Schedule an interview for an application")
+    public ResponseEntity<?> scheduleInterview(
+            @PathVariable Long id,
+            @RequestParam String interviewTime,
+            @RequestParam(required = false) String notes) {
+        
+        try {
+            User currentUser = authService.getCurrentUser();
+            LocalDateTime interviewDateTime = LocalDateTime.parse(interviewTime);
+            JobApplication application = jobApplicationService.scheduleInterview(id, interviewDateTime, notes, currentUser);
+            return ResponseEntity.ok(ApplicationResponse.fromApplication(application));
+        } catch (Exception e) {
+            log.error("Failed to schedule interview for application id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to schedule interview");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Withdraw application", description = "Withdraw a job application")
+    public ResponseEntity<?> withdrawApplication(@PathVariable Long id) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            jobApplicationService.withdrawApplication(id, currentUser);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Application withdrawn successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to withdraw application with id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to withdraw application");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get applications by status", description = "Get applications filtered by status")
+    public ResponseEntity<Page<ApplicationResponse>> getApplicationsByStatus(
+            @PathVariable JobApplication.ApplicationStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "appliedAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
+            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        Page<JobApplication> applications = jobApplicationService.getApplicationsByStatus(status, pageable);
+        Page<ApplicationResponse> applicationResponses = applications.map(ApplicationResponse::fromApplication);
+        
+        return ResponseEntity.ok(applicationResponses);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get application statistics", description = "Get application statistics for current user")
+    public ResponseEntity<?> getApplicationStats() {
+        try {
+            User currentUser = authService.getCurrentUser();
+            long totalApplications = jobApplicationService.getApplicationCountByUser(currentUser);
+            
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("totalApplications", totalApplications);
+            
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            log.error("Failed to get application stats", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to get application statistics");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jobportal.controller;
+
+import com.jobportal.dto.SavedSearchRequest;
+import com.jobportal.dto.SavedSearchResponse;
+import com.jobportal.entity.SavedSearch;
+import com.jobportal.entity.User;
+import com.jobportal.service.AuthService;
+import com.jobportal.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Saved Searches", description = "Saved job search and alert APIs")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+    private final AuthService authService;
+
+    @PostMapping
+    @Operation(summary = "Save a search", description = "Save job search filters and get alerted about new matching jobs")
+    public ResponseEntity<?> createSavedSearch(@Valid @RequestBody SavedSearchRequest request) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            SavedSearch savedSearch = savedSearchService.createSavedSearch(request, currentUser);
+            return ResponseEntity.ok(SavedSearchResponse.fromSavedSearch(savedSearch));
+        } catch (Exception e) {
+            log.error("Failed to save search", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to save search");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "Get saved searches", description = "Get current user's saved searches")
+    public ResponseEntity<List<SavedSearchResponse>> getSavedSearches() {
+        User currentUser = authService.getCurrentUser();
+        List<SavedSearchResponse> savedSearches = savedSearchService.getSavedSearchesByUser(currentUser).stream()
+                .map(SavedSearchResponse::fromSavedSearch)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(savedSearches);
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update saved search", description = "Update a saved search's filters or alert setting")
+    public ResponseEntity<?> updateSavedSearch(@PathVariable Long id, @Valid @RequestBody SavedSearchRequest request) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            SavedSearch savedSearch = savedSearchService.updateSavedSearch(id, request, currentUser);
+            return ResponseEntity.ok(SavedSearchResponse.fromSavedSearch(savedSearch));
+        } catch (Exception e) {
+            log.error("Failed to update saved search with id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to update saved search");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete saved search", description = "Delete a saved search and its alerts")
+    public ResponseEntity<?> deleteSavedSearch(@PathVariable Long id) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            savedSearchService.deleteSavedSearch(id, currentUser);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Saved search deleted successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to delete saved search with id: {}", id, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to delete saved search");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
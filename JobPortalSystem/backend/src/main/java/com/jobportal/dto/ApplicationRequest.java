@@ -1,15 +1,15 @@
-package com.jobportal.dto;
-
-import jakarta.validation.constraints.NotNull;
-import lombok.Data;
-
-@Data
-public class ApplicationRequest {
-    
-    @NotNull(message = "Job ID is required")
-    private Long jobId;
-    
-    private String coverLetter;
-    
-    private String resumeUrl;
-}
+package com.jobportal.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ApplicationRequest {
+    
+    @NotNull(message = "Job ID is required")
+    private Long jobId;
+    
+    private String coverLetter;
+    
+    private String resumeUrl;
+}
@@ -0,0 +1,29 @@
+package com.jobportal.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class JobImportResponse {
+    
+    private String importId;
+    private String format;
+    private String status;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsFailed;
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    
+    // Capped; rowsFailed has the full count
+    private List<RowError> errors;
+    
+    @Data
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.jobportal.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+// One line of a bulk import; references may be given by id or by name
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class JobImportRow extends JobRequest {
+    
+    private String category;
+    
+    private List<String> skills;
+}
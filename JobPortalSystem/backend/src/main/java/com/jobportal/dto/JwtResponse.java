@@ -1,27 +1,27 @@
-package com.jobportal.dto;
-
-import com.jobportal.entity.User;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-
-@Data
-@AllArgsConstructor
-public class JwtResponse {
-    
-    private String token;
-    private String type = "Bearer";
-    private Long id;
-    private String email;
-    private String firstName;
-    private String lastName;
-    private User.Role role;
-    
-    public JwtResponse(String token, Long id, String email, String firstName, String lastName, User.Role role) {
-        this.token = token;
-        this.id = id;
-        this.email = email;
-        this.firstName = firstName;
-        this.lastName = lastName;
-        this.role = role;
-    }
-}
+package com.jobportal.dto;
+
+import com.jobportal.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class JwtResponse {
+    
+    private String token;
+    private String type = "Bearer";
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private User.Role role;
+    
+    public JwtResponse(String token, Long id, String email, String firstName, String lastName, User.Role role) {
+        this.token = token;
+        this.id = id;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+    }
+}
@@ -1,16 +1,16 @@
-package com.jobportal.dto;
-
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-import lombok.Data;
-
-@Data
-public class LoginRequest {
-    
-    @NotBlank(message = "Email is required")
-    @Email(message = "Please provide a valid email")
-    private String email;
-    
-    @NotBlank(message = "Password is required")
-    private String password;
-}
+package com.jobportal.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class LoginRequest {
+    
+    @NotBlank(message = "Email is required")
+    @Email(message = "Please provide a valid email")
+    private String email;
+    
+    @NotBlank(message = "Password is required")
+    private String password;
+}
@@ -1,37 +1,37 @@
-package com.jobportal.dto;
-
-import com.jobportal.entity.User;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Size;
-import lombok.Data;
-
-@Data
-public class RegisterRequest {
-    
-    @NotBlank(message = "First name is required")
-    @Size(max = 50, message = "First name must not exceed 50 characters")
-    private String firstName;
-    
-    @NotBlank(message = "Last name is required")
-    @Size(max = 50, message = "Last name must not exceed 50 characters")
-    private String lastName;
-    
-    @NotBlank(message = "Email is required")
-    @Email(message = "Please provide a valid email")
-    @Size(max = 100, message = "Email must not exceed 100 characters")
-    private String email;
-    
-    @NotBlank(message = "Password is required")
-    @Size(min = 6, max = 120, message = "Password must be between 6 and 120 characters")
-    private String password;
-    
-    @Size(max = 15, message = "Phone number must not exceed 15 characters")
-    private String phone;
-    
-    private User.Role role = User.Role.JOB_SEEKER;
-    
-    private String location;
-    
-    private String bio;
-}
+package com.jobportal.dto;
+
+import com.jobportal.entity.User;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class RegisterRequest {
+    
+    @NotBlank(message = "First name is required")
+    @Size(max = 50, message = "First name must not exceed 50 characters")
+    private String firstName;
+    
+    @NotBlank(message = "Last name is required")
+    @Size(max = 50, message = "Last name must not exceed 50 characters")
+    private String lastName;
+    
+    @NotBlank(message = "Email is required")
+    @Email(message = "Please provide a valid email")
+    @Size(max = 100, message = "Email must not exceed 100 characters")
+    private String email;
+    
+    @NotBlank(message = "Password is required")
+    @Size(min = 6, max = 120, message = "Password must be between 6 and 120 characters")
+    private String password;
+    
+    @Size(max = 15, message = "Phone number must not exceed 15 characters")
+    private String phone;
+    
+    private User.Role role = User.Role.JOB_SEEKER;
+    
+    private String location;
+    
+    private String bio;
+}
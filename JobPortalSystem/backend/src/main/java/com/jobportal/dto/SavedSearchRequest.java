@@ -0,0 +1,26 @@
+package com.jobportal.dto;
+
+import com.jobportal.entity.Job;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SavedSearchRequest {
+    
+    @NotBlank(message = "Search name is required")
+    @Size(max = 100, message = "Search name must be at most 100 characters")
+    private String name;
+    
+    private String keyword;
+    
+    private String location;
+    
+    private Job.JobType jobType;
+    
+    private Job.ExperienceLevel experienceLevel;
+    
+    private Boolean isRemote;
+    
+    private Boolean alertsEnabled = true;
+}
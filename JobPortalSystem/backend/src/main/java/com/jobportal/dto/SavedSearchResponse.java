@@ -0,0 +1,37 @@
+package com.jobportal.dto;
+
+import com.jobportal.entity.Job;
+import com.jobportal.entity.SavedSearch;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SavedSearchResponse {
+    
+    private Long id;
+    private String name;
+    private String keyword;
+    private String location;
+    private Job.JobType jobType;
+    private Job.ExperienceLevel experienceLevel;
+    private Boolean isRemote;
+    private Boolean alertsEnabled;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public static SavedSearchResponse fromSavedSearch(SavedSearch savedSearch) {
+        SavedSearchResponse response = new SavedSearchResponse();
+        response.setId(savedSearch.getId());
+        response.setName(savedSearch.getName());
+        response.setKeyword(savedSearch.getKeyword());
+        response.setLocation(savedSearch.getLocation());
+        response.setJobType(savedSearch.getJobType());
+        response.setExperienceLevel(savedSearch.getExperienceLevel());
+        response.setIsRemote(savedSearch.getIsRemote());
+        response.setAlertsEnabled(savedSearch.getAlertsEnabled());
+        response.setCreatedAt(savedSearch.getCreatedAt());
+        response.setUpdatedAt(savedSearch.getUpdatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,58 @@
+package com.jobportal.dto;
+
+import com.jobportal.entity.User;
+import com.jobportal.storage.FileStorageService;
+import lombok.Data;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Public profile of a job seeker as shown in employer candidate search; contact details are left out
+@Data
+public class SeekerProfileResponse {
+    
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String profilePicture;
+    private String bio;
+    private String location;
+    private String website;
+    private String linkedinUrl;
+    private String githubUrl;
+    private Set<SkillSummary> skills;
+    // Keyword relevance of the bio; 0 when the search had no keywords
+    private Double matchScore;
+    
+    @Data
+    public static class SkillSummary {
+        private Long id;
+        private String name;
+        private String category;
+    }
+    
+    public static SeekerProfileResponse fromUser(User user) {
+        SeekerProfileResponse response = new SeekerProfileResponse();
+        response.setId(user.getId());
+        response.setFirstName(user.getFirstName());
+        response.setLastName(user.getLastName());
+        response.setProfilePicture(FileStorageService.sizedUrl(user.getProfilePicture(), FileStorageService.CARD_IMAGE_SIZE));
+        response.setBio(user.getBio());
+        response.setLocation(user.getLocation());
+        response.setWebsite(user.getWebsite());
+        response.setLinkedinUrl(user.getLinkedinUrl());
+        response.setGithubUrl(user.getGithubUrl());
+        if (user.getSkills() != null) {
+            response.setSkills(user.getSkills().stream()
+                .map(skill -> {
+                    SkillSummary skillSummary = new SkillSummary();
+                    skillSummary.setId(skill.getId());
+                    skillSummary.setName(skill.getName());
+                    skillSummary.setCategory(skill.getCategory().name());
+                    return skillSummary;
+                })
+                .collect(Collectors.toSet()));
+        }
+        return response;
+    }
+}
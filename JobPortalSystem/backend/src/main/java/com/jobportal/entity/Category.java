@@ -1,68 +1,70 @@
-package com.jobportal.entity;
-
-import jakarta.persistence.*;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
-import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
-
-@Entity
-@Table(name = "categories")
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class Category {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @NotBlank
-    @Size(max = 100)
-    @Column(name = "name", unique = true)
-    private String name;
-    
-    @Size(max = 500)
-    @Column(name = "description")
-    private String description;
-    
-    @Column(name = "icon")
-    private String icon;
-    
-    @Column(name = "color")
-    private String color;
-    
-    @Column(name = "is_active")
-    private Boolean isActive = true;
-    
-    @CreatedDate
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-    
-    @LastModifiedDate
-    @Column(name = "updated_at")
-    private LocalDateTime updatedAt;
-    
-    @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Job> jobs = new HashSet<>();
-    
-    // Helper methods
-    public void addJob(Job job) {
-        this.jobs.add(job);
-        job.setCategory(this);
-    }
-    
-    public void removeJob(Job job) {
-        this.jobs.remove(job);
-        job.setCategory(null);
-    }
-}
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "categories")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class Category {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "categories_id")
+    @TableGenerator(name = "categories_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "categories", allocationSize = 50)
+    private Long id;
+    
+    @NotBlank
+    @Size(max = 100)
+    @Column(name = "name", unique = true)
+    private String name;
+    
+    @Size(max = 500)
+    @Column(name = "description")
+    private String description;
+    
+    @Column(name = "icon")
+    private String icon;
+    
+    @Column(name = "color")
+    private String color;
+    
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private Set<Job> jobs = new HashSet<>();
+    
+    // Helper methods
+    public void addJob(Job job) {
+        this.jobs.add(job);
+        job.setCategory(this);
+    }
+    
+    public void removeJob(Job job) {
+        this.jobs.remove(job);
+        job.setCategory(null);
+    }
+}
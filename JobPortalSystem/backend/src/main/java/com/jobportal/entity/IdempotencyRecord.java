@@ -0,0 +1,60 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"user_id", "idempotency_key"})
+       },
+       indexes = {
+           @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+    
+    // SHA-256 of method, path and body; a reused key with a different request is rejected
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+    
+    @Column(name = "response_status")
+    private Integer responseStatus;
+    
+    @Column(name = "content_type")
+    private String contentType;
+    
+    @Lob
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    public enum Status {
+        IN_PROGRESS, COMPLETED
+    }
+}
@@ -1,73 +1,78 @@
-package com.jobportal.entity;
-
-import jakarta.persistence.*;
-import jakarta.validation.constraints.NotBlank;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "notifications")
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class Notification {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @NotBlank
-    @Column(name = "title")
-    private String title;
-    
-    @NotBlank
-    @Column(name = "message", columnDefinition = "TEXT")
-    private String message;
-    
-    @Enumerated(EnumType.STRING)
-    @Column(name = "type")
-    private NotificationType type;
-    
-    @Column(name = "is_read")
-    private Boolean isRead = false;
-    
-    @Column(name = "read_at")
-    private LocalDateTime readAt;
-    
-    @Column(name = "action_url")
-    private String actionUrl;
-    
-    @CreatedDate
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-    
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
-    
-    public enum NotificationType {
-        JOB_APPLICATION,
-        JOB_MATCH,
-        INTERVIEW_SCHEDULED,
-        APPLICATION_STATUS_UPDATE,
-        NEW_JOB_POSTED,
-        SYSTEM_NOTIFICATION,
-        REMINDER
-    }
-    
-    // Helper methods
-    public void markAsRead() {
-        this.isRead = true;
-        this.readAt = LocalDateTime.now();
-    }
-    
-    public boolean isUnread() {
-        return !isRead;
-    }
-}
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notifications",
+       indexes = {
+           @Index(name = "idx_notifications_user_type_created", columnList = "user_id, type, created_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class Notification {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications_id")
+    @TableGenerator(name = "notifications_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "notifications", allocationSize = 50)
+    private Long id;
+    
+    @NotBlank
+    @Column(name = "title")
+    private String title;
+    
+    @NotBlank
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private NotificationType type;
+    
+    @Column(name = "is_read")
+    private Boolean isRead = false;
+    
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+    
+    @Column(name = "action_url")
+    private String actionUrl;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    public enum NotificationType {
+        JOB_APPLICATION,
+        JOB_MATCH,
+        INTERVIEW_SCHEDULED,
+        APPLICATION_STATUS_UPDATE,
+        NEW_JOB_POSTED,
+        SYSTEM_NOTIFICATION,
+        REMINDER
+    }
+    
+    // Helper methods
+    public void markAsRead() {
+        this.isRead = true;
+        this.readAt = LocalDateTime.now();
+    }
+    
+    public boolean isUnread() {
+        return !isRead;
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_digest_entries",
+       indexes = {
+           @Index(name = "idx_digest_entries_user_type", columnList = "user_id, type, created_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationDigestEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_digest_entries_id")
+    @TableGenerator(name = "notification_digest_entries_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "notification_digest_entries", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 50)
+    private Notification.NotificationType type;
+    
+    @Column(name = "subject")
+    private String subject;
+    
+    @Column(name = "title", nullable = false)
+    private String title;
+    
+    @Column(name = "message", columnDefinition = "TEXT", nullable = false)
+    private String message;
+    
+    @Column(name = "action_url")
+    private String actionUrl;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,73 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = "event_id")
+       },
+       indexes = {
+           @Index(name = "idx_outbox_status_available", columnList = "status, available_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_events_id")
+    @TableGenerator(name = "outbox_events_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "outbox_events", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+    
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+    
+    @Column(name = "partition_key")
+    private Long partitionKey;
+    
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+    
+    @Column(name = "attempts")
+    private Integer attempts = 0;
+    
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+    
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    public enum OutboxStatus {
+        PENDING, PROCESSING, DONE, FAILED
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "processed_events",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"event_id", "handler"})
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+    
+    @Column(name = "handler", nullable = false, length = 100)
+    private String handler;
+    
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
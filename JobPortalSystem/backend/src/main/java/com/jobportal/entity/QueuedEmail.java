@@ -0,0 +1,65 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "email_queue",
+       indexes = {
+           @Index(name = "idx_email_queue_status_available", columnList = "status, available_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class QueuedEmail {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "email_queue_id")
+    @TableGenerator(name = "email_queue_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "email_queue", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+    
+    @Column(name = "subject", nullable = false)
+    private String subject;
+    
+    @Column(name = "body", columnDefinition = "TEXT", nullable = false)
+    private String body;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailStatus status = EmailStatus.PENDING;
+    
+    @Column(name = "attempts")
+    private Integer attempts = 0;
+    
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+    
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Sent rows are deleted; FAILED rows are kept with the last error for inspection
+    public enum EmailStatus {
+        PENDING, SENDING, FAILED
+    }
+}
@@ -1,44 +1,49 @@
-package com.jobportal.entity;
-
-import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "saved_jobs", 
-       uniqueConstraints = {
-           @UniqueConstraint(columnNames = {"user_id", "job_id"})
-       })
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class SavedJob {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @CreatedDate
-    @Column(name = "saved_at", nullable = false, updatable = false)
-    private LocalDateTime savedAt;
-    
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
-    
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "job_id", nullable = false)
-    private Job job;
-    
-    // Helper methods
-    public SavedJob(User user, Job job) {
-        this.user = user;
-        this.job = job;
-    }
-}
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "saved_jobs", 
+       uniqueConstraints = {
+           @UniqueConstraint(name = SavedJob.USER_JOB_KEY, columnNames = {"user_id", "job_id"})
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class SavedJob {
+    
+    // Created by migrate-unique-keys.sql on existing databases
+    public static final String USER_JOB_KEY = "uk_saved_jobs_user_job";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_jobs_id")
+    @TableGenerator(name = "saved_jobs_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "saved_jobs", allocationSize = 50)
+    private Long id;
+    
+    @CreatedDate
+    @Column(name = "saved_at", nullable = false, updatable = false)
+    private LocalDateTime savedAt;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private Job job;
+    
+    // Helper methods
+    public SavedJob(User user, Job job) {
+        this.user = user;
+        this.job = job;
+    }
+}
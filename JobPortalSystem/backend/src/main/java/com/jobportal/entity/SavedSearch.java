@@ -0,0 +1,68 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "saved_searches",
+       indexes = {
+           @Index(name = "idx_saved_searches_user", columnList = "user_id"),
+           @Index(name = "idx_saved_searches_updated_at", columnList = "updated_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class SavedSearch {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_searches_id")
+    @TableGenerator(name = "saved_searches_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "saved_searches", allocationSize = 50)
+    private Long id;
+    
+    @NotBlank
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+    
+    // Same filters as /api/jobs/search; null means any
+    @Column(name = "keyword")
+    private String keyword;
+    
+    @Column(name = "location")
+    private String location;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type")
+    private Job.JobType jobType;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level")
+    private Job.ExperienceLevel experienceLevel;
+    
+    @Column(name = "is_remote")
+    private Boolean isRemote;
+    
+    @Column(name = "alerts_enabled", nullable = false)
+    private Boolean alertsEnabled = true;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+}
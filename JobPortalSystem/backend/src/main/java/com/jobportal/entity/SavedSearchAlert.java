@@ -0,0 +1,35 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One row per job a user was alerted about, so edits to a job don't alert the same user again
+@Entity
+@Table(name = "saved_search_alerts",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"job_id", "user_id"})
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchAlert {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_search_alerts_id")
+    @TableGenerator(name = "saved_search_alerts_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "saved_search_alerts", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "alerted_at", nullable = false)
+    private LocalDateTime alertedAt;
+}
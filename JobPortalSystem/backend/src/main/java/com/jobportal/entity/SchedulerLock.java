@@ -0,0 +1,29 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduler_locks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLock {
+    
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+    
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+    
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
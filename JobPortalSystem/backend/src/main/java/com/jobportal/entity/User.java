@@ -1,138 +1,140 @@
-package com.jobportal.entity;
-
-import jakarta.persistence.*;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
-import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
-
-@Entity
-@Table(name = "users", 
-       uniqueConstraints = {
-           @UniqueConstraint(columnNames = "email")
-       })
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class User {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @NotBlank
-    @Size(max = 50)
-    @Column(name = "first_name")
-    private String firstName;
-    
-    @NotBlank
-    @Size(max = 50)
-    @Column(name = "last_name")
-    private String lastName;
-    
-    @NotBlank
-    @Size(max = 100)
-    @Email
-    @Column(name = "email")
-    private String email;
-    
-    @NotBlank
-    @Size(max = 120)
-    @Column(name = "password")
-    private String password;
-    
-    @Size(max = 15)
-    @Column(name = "phone")
-    private String phone;
-    
-    @Enumerated(EnumType.STRING)
-    @Column(name = "role")
-    private Role role;
-    
-    @Column(name = "is_active")
-    private Boolean isActive = true;
-    
-    @Column(name = "is_verified")
-    private Boolean isVerified = false;
-    
-    @Column(name = "profile_picture")
-    private String profilePicture;
-    
-    @Column(name = "resume_url")
-    private String resumeUrl;
-    
-    @Column(name = "bio", length = 1000)
-    private String bio;
-    
-    @Column(name = "location")
-    private String location;
-    
-    @Column(name = "website")
-    private String website;
-    
-    @Column(name = "linkedin_url")
-    private String linkedinUrl;
-    
-    @Column(name = "github_url")
-    private String githubUrl;
-    
-    @CreatedDate
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-    
-    @LastModifiedDate
-    @Column(name = "updated_at")
-    private LocalDateTime updatedAt;
-    
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<JobApplication> applications = new HashSet<>();
-    
-    @OneToMany(mappedBy = "postedBy", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Job> postedJobs = new HashSet<>();
-    
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<SavedJob> savedJobs = new HashSet<>();
-    
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Notification> notifications = new HashSet<>();
-    
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(name = "user_skills",
-               joinColumns = @JoinColumn(name = "user_id"),
-               inverseJoinColumns = @JoinColumn(name = "skill_id"))
-    private Set<Skill> skills = new HashSet<>();
-    
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Company company;
-    
-    public enum Role {
-        JOB_SEEKER, EMPLOYER, ADMIN
-    }
-    
-    // Helper methods
-    public String getFullName() {
-        return firstName + " " + lastName;
-    }
-    
-    public boolean isJobSeeker() {
-        return role == Role.JOB_SEEKER;
-    }
-    
-    public boolean isEmployer() {
-        return role == Role.EMPLOYER;
-    }
-    
-    public boolean isAdmin() {
-        return role == Role.ADMIN;
-    }
-}
+package com.jobportal.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "users", 
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = "email")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class User {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
+    private Long id;
+    
+    @NotBlank
+    @Size(max = 50)
+    @Column(name = "first_name")
+    private String firstName;
+    
+    @NotBlank
+    @Size(max = 50)
+    @Column(name = "last_name")
+    private String lastName;
+    
+    @NotBlank
+    @Size(max = 100)
+    @Email
+    @Column(name = "email")
+    private String email;
+    
+    @NotBlank
+    @Size(max = 120)
+    @Column(name = "password")
+    private String password;
+    
+    @Size(max = 15)
+    @Column(name = "phone")
+    private String phone;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role")
+    private Role role;
+    
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+    
+    @Column(name = "is_verified")
+    private Boolean isVerified = false;
+    
+    @Column(name = "profile_picture")
+    private String profilePicture;
+    
+    @Column(name = "resume_url")
+    private String resumeUrl;
+    
+    @Column(name = "bio", length = 1000)
+    private String bio;
+    
+    @Column(name = "location")
+    private String location;
+    
+    @Column(name = "website")
+    private String website;
+    
+    @Column(name = "linkedin_url")
+    private String linkedinUrl;
+    
+    @Column(name = "github_url")
+    private String githubUrl;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private Set<JobApplication> applications = new HashSet<>();
+    
+    @OneToMany(mappedBy = "postedBy", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private Set<Job> postedJobs = new HashSet<>();
+    
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private Set<SavedJob> savedJobs = new HashSet<>();
+    
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private Set<Notification> notifications = new HashSet<>();
+    
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "user_skills",
+               joinColumns = @JoinColumn(name = "user_id"),
+               inverseJoinColumns = @JoinColumn(name = "skill_id"))
+    private Set<Skill> skills = new HashSet<>();
+    
+    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private Company company;
+    
+    public enum Role {
+        JOB_SEEKER, EMPLOYER, ADMIN
+    }
+    
+    // Helper methods
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+    
+    public boolean isJobSeeker() {
+        return role == Role.JOB_SEEKER;
+    }
+    
+    public boolean isEmployer() {
+        return role == Role.EMPLOYER;
+    }
+    
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.JobApplication;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ApplicationStatusChangedEvent(String eventId,
+                                            Instant occurredAt,
+                                            Long applicationId,
+                                            Long jobId,
+                                            Long applicantId,
+                                            String jobTitle,
+                                            JobApplication.ApplicationStatus status) implements DomainEvent {
+
+    public static ApplicationStatusChangedEvent of(JobApplication application) {
+        return new ApplicationStatusChangedEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                application.getId(),
+                application.getJob().getId(),
+                application.getUser().getId(),
+                application.getJob().getTitle(),
+                application.getStatus()
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return applicationId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.JobApplication;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ApplicationSubmittedEvent(String eventId,
+                                        Instant occurredAt,
+                                        Long applicationId,
+                                        Long jobId,
+                                        Long applicantId,
+                                        Long employerId,
+                                        String applicantName,
+                                        String jobTitle) implements DomainEvent {
+
+    public static ApplicationSubmittedEvent of(JobApplication application) {
+        return new ApplicationSubmittedEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                application.getId(),
+                application.getJob().getId(),
+                application.getUser().getId(),
+                application.getJob().getPostedBy().getId(),
+                application.getUser().getFullName(),
+                application.getJob().getTitle()
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return jobId;
+    }
+}
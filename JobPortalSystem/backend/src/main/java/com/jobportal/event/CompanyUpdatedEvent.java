@@ -0,0 +1,28 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.Company;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CompanyUpdatedEvent(String eventId,
+                                  Instant occurredAt,
+                                  Long companyId,
+                                  String name,
+                                  String logoUrl) implements DomainEvent {
+
+    public static CompanyUpdatedEvent of(Company company) {
+        return new CompanyUpdatedEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                company.getId(),
+                company.getName(),
+                company.getLogoUrl()
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return companyId;
+    }
+}
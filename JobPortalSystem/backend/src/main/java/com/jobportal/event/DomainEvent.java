@@ -0,0 +1,13 @@
+package com.jobportal.event;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    String eventId();
+
+    Instant occurredAt();
+
+    // Events sharing a partition key are delivered in publish order
+    long partitionKey();
+}
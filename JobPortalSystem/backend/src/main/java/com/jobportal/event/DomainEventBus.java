@@ -0,0 +1,138 @@
+package com.jobportal.event;
+
+import com.jobportal.service.OutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes domain events: each event is written to the transactional outbox for the
+ * durable handlers and, once the transaction commits, handed to this node's
+ * {@code @EventListener} subscribers on worker threads. The same workers also run
+ * outbox deliveries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventBus {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxService outboxService;
+
+    @Value("${events.bus.ring-size:4096}")
+    private int ringSize;
+
+    @Value("${events.bus.workers:4}")
+    private int workerCount;
+
+    @Value("${events.bus.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    // One ring per worker; tasks are routed by partition key so related events stay ordered
+    private final List<BlockingQueue<Runnable>> rings = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<Runnable> ring = new ArrayBlockingQueue<>(ringSize);
+            Thread worker = new Thread(() -> drain(ring), "domain-event-worker-" + i);
+            worker.setDaemon(true);
+            rings.add(ring);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("Domain event bus started with {} workers (ring size {})", workerCount, ringSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public void publish(DomainEvent event) {
+        outboxService.append(event);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    // Local delivery only, for events the caller has already committed to the outbox itself
+    public void dispatch(DomainEvent event) {
+        execute(event.partitionKey(), () -> dispatchLocal(event));
+    }
+
+    public CompletableFuture<Void> execute(long partitionKey, Runnable task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Runnable tracked = () -> {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+
+        BlockingQueue<Runnable> ring = rings.get(Math.floorMod(Long.hashCode(partitionKey), rings.size()));
+        try {
+            if (ring.offer(tracked, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return future;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Ring is saturated: run on the caller rather than drop the task
+        log.warn("Domain event ring full, running task inline");
+        tracked.run();
+        return future;
+    }
+
+    private void drain(BlockingQueue<Runnable> ring) {
+        while (running || !ring.isEmpty()) {
+            try {
+                Runnable task = ring.poll(100, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    task.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatchLocal(DomainEvent event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            log.error("Failed to handle domain event {} ({})", event.getClass().getSimpleName(), event.eventId(), e);
+        }
+    }
+}
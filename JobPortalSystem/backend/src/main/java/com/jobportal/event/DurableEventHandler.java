@@ -0,0 +1,12 @@
+package com.jobportal.event;
+
+/**
+ * Side effect driven from the transactional outbox. Each handler sees a given event
+ * once per cluster; retried deliveries are filtered out via {@code processed_events}.
+ */
+public interface DurableEventHandler {
+
+    boolean supports(DomainEvent event);
+
+    void handle(DomainEvent event);
+}
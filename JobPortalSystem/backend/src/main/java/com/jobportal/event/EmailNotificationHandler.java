@@ -0,0 +1,40 @@
+package com.jobportal.event;
+
+import com.jobportal.mail.EmailDispatcher;
+import com.jobportal.mail.EmailMessage;
+import com.jobportal.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailNotificationHandler implements DurableEventHandler {
+
+    private final UserRepository userRepository;
+    private final EmailDispatcher emailDispatcher;
+
+    @Value("${mail.pipeline.link-base-url:http://localhost:3000}")
+    private String linkBaseUrl;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof NotificationCreatedEvent;
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        NotificationCreatedEvent notification = (NotificationCreatedEvent) event;
+        userRepository.findById(notification.userId())
+                .filter(user -> Boolean.TRUE.equals(user.getIsActive()) && user.getEmail() != null)
+                .ifPresent(user -> {
+                    String body = notification.message();
+                    if (notification.actionUrl() != null) {
+                        body += "\n\n" + linkBaseUrl + notification.actionUrl();
+                    }
+                    emailDispatcher.enqueue(new EmailMessage(user.getEmail(), notification.title(), body));
+                });
+    }
+}
@@ -0,0 +1,33 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.JobApplication;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record InterviewScheduledEvent(String eventId,
+                                      Instant occurredAt,
+                                      Long applicationId,
+                                      Long jobId,
+                                      Long applicantId,
+                                      String jobTitle,
+                                      LocalDateTime interviewAt) implements DomainEvent {
+
+    public static InterviewScheduledEvent of(JobApplication application) {
+        return new InterviewScheduledEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                application.getId(),
+                application.getJob().getId(),
+                application.getUser().getId(),
+                application.getJob().getTitle(),
+                application.getInterviewScheduledAt()
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return applicationId;
+    }
+}
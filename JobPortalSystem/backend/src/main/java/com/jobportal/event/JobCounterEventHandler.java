@@ -0,0 +1,24 @@
+package com.jobportal.event;
+
+import com.jobportal.service.ApplicationCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobCounterEventHandler implements DurableEventHandler {
+
+    private final ApplicationCounter applicationCounter;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof ApplicationSubmittedEvent;
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        applicationCounter.increment(((ApplicationSubmittedEvent) event).jobId());
+    }
+}
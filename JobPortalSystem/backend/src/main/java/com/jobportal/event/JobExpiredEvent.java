@@ -0,0 +1,22 @@
+package com.jobportal.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record JobExpiredEvent(String eventId,
+                              Instant occurredAt,
+                              Long jobId) implements DomainEvent {
+
+    public static JobExpiredEvent of(Long jobId) {
+        return new JobExpiredEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                jobId
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return jobId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.Notification;
+import com.jobportal.matching.JobMatchService;
+import com.jobportal.service.NotificationDigestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobMatchEventHandler implements DurableEventHandler {
+
+    private final JobMatchService jobMatchService;
+    private final NotificationDigestService notificationDigestService;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof JobPostedEvent && jobMatchService.isEnabled();
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        JobPostedEvent posted = (JobPostedEvent) event;
+        List<Long> seekerIds = jobMatchService.findMatchingSeekers(posted.jobId());
+        if (seekerIds.isEmpty()) {
+            return;
+        }
+
+        // Seekers matched by several new jobs in one window get a single digest
+        notificationDigestService.notifyAll(
+                seekerIds,
+                Notification.NotificationType.JOB_MATCH,
+                posted.title(),
+                "New Job Match",
+                "A new job matches your skills: " + posted.title(),
+                "/jobs/" + posted.jobId()
+        );
+        log.debug("Job {} matched {} seekers", posted.jobId(), seekerIds.size());
+    }
+}
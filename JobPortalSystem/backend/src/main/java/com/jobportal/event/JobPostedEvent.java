@@ -0,0 +1,36 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.Job;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record JobPostedEvent(String eventId,
+                             Instant occurredAt,
+                             Long jobId,
+                             Long postedById,
+                             String title,
+                             LocalDateTime applicationDeadline) implements DomainEvent {
+
+    public static JobPostedEvent of(Job job) {
+        return of(job.getId(), job.getPostedBy().getId(), job.getTitle(), job.getApplicationDeadline());
+    }
+
+    // For jobs inserted without loading an entity, e.g. bulk imports
+    public static JobPostedEvent of(Long jobId, Long postedById, String title, LocalDateTime applicationDeadline) {
+        return new JobPostedEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                jobId,
+                postedById,
+                title,
+                applicationDeadline
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return jobId;
+    }
+}
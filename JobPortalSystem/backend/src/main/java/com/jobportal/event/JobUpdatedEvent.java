@@ -0,0 +1,31 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.Job;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record JobUpdatedEvent(String eventId,
+                              Instant occurredAt,
+                              Long jobId,
+                              String title,
+                              Boolean isActive,
+                              LocalDateTime applicationDeadline) implements DomainEvent {
+
+    public static JobUpdatedEvent of(Job job) {
+        return new JobUpdatedEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                job.getId(),
+                job.getTitle(),
+                job.getIsActive(),
+                job.getApplicationDeadline()
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return jobId;
+    }
+}
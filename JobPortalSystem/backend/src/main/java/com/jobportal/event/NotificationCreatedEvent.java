@@ -0,0 +1,34 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.Notification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record NotificationCreatedEvent(String eventId,
+                                       Instant occurredAt,
+                                       Long notificationId,
+                                       Long userId,
+                                       Notification.NotificationType type,
+                                       String title,
+                                       String message,
+                                       String actionUrl) implements DomainEvent {
+
+    public static NotificationCreatedEvent of(Notification notification) {
+        return new NotificationCreatedEvent(
+                UUID.randomUUID().toString(),
+                Instant.now(),
+                notification.getId(),
+                notification.getUser().getId(),
+                notification.getType(),
+                notification.getTitle(),
+                notification.getMessage(),
+                notification.getActionUrl()
+        );
+    }
+
+    @Override
+    public long partitionKey() {
+        return userId;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.JobApplication;
+import com.jobportal.entity.Notification;
+import com.jobportal.service.NotificationDigestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationEventHandler implements DurableEventHandler {
+
+    private final NotificationDigestService notificationDigestService;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof ApplicationSubmittedEvent
+                || event instanceof ApplicationStatusChangedEvent
+                || event instanceof InterviewScheduledEvent;
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        if (event instanceof ApplicationSubmittedEvent submitted) {
+            onApplicationSubmitted(submitted);
+        } else if (event instanceof ApplicationStatusChangedEvent statusChanged) {
+            onApplicationStatusChanged(statusChanged);
+        } else if (event instanceof InterviewScheduledEvent interviewScheduled) {
+            onInterviewScheduled(interviewScheduled);
+        }
+    }
+
+    private void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        // Notify the job poster; bursts on popular jobs are merged into one digest
+        notificationDigestService.notify(
+                event.employerId(),
+                Notification.NotificationType.JOB_APPLICATION,
+                event.jobTitle(),
+                "New Job Application",
+                event.applicantName() + " has applied for your job: " + event.jobTitle(),
+                "/jobs/" + event.jobId() + "/applications"
+        );
+    }
+
+    private void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        // Applicants withdraw their own applications, nobody needs to be told
+        if (event.status() == JobApplication.ApplicationStatus.WITHDRAWN) {
+            return;
+        }
+
+        // Notify the applicant
+        String message = "Your application for " + event.jobTitle() +
+                        " has been " + event.status().name().toLowerCase().replace("_", " ");
+
+        notificationDigestService.notify(
+                event.applicantId(),
+                Notification.NotificationType.APPLICATION_STATUS_UPDATE,
+                event.jobTitle(),
+                "Application Status Update",
+                message,
+                "/applications/" + event.applicationId()
+        );
+    }
+
+    private void onInterviewScheduled(InterviewScheduledEvent event) {
+        // Notify the applicant
+        notificationDigestService.notify(
+                event.applicantId(),
+                Notification.NotificationType.INTERVIEW_SCHEDULED,
+                event.jobTitle(),
+                "Interview Scheduled",
+                "An interview has been scheduled for your application: " + event.jobTitle() +
+                " on " + event.interviewAt().toString(),
+                "/applications/" + event.applicationId()
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobportal.event;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.cluster.NodeIdentity;
+import com.jobportal.entity.OutboxEvent;
+import com.jobportal.repository.ProcessedEventRepository;
+import com.jobportal.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Claims pending outbox rows in batches and delivers them to {@link DurableEventHandler}s.
+ * Delivery is at-least-once; a row whose lease expires is picked up again by any node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+    private final DomainEventBus domainEventBus;
+    private final List<DurableEventHandler> handlers;
+    private final ProcessedEventRepository processedEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    @Value("${events.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${events.outbox.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${events.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval-ms:500}")
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<OutboxEvent> batch = outboxService.claimBatch(nodeIdentity.getId(), batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            dispatchBatch(batch);
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${events.outbox.purge-cron:0 30 3 * * *}")
+    @ClusterSingleton(lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void purge() {
+        outboxService.purgeProcessed();
+    }
+
+    private void dispatchBatch(List<OutboxEvent> batch) {
+        Map<OutboxEvent, CompletableFuture<Void>> deliveries = new LinkedHashMap<>();
+        for (OutboxEvent outboxEvent : batch) {
+            long partitionKey = outboxEvent.getPartitionKey() != null ? outboxEvent.getPartitionKey() : outboxEvent.getId();
+            deliveries.put(outboxEvent, domainEventBus.execute(partitionKey, () -> deliver(outboxEvent)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseSeconds);
+        List<Long> delivered = new ArrayList<>();
+        for (Map.Entry<OutboxEvent, CompletableFuture<Void>> delivery : deliveries.entrySet()) {
+            try {
+                delivery.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                delivered.add(delivery.getKey().getId());
+            } catch (ExecutionException e) {
+                outboxService.markFailed(delivery.getKey(), nodeIdentity.getId(), e.getCause());
+            } catch (TimeoutException e) {
+                // Left in PROCESSING; the row is reclaimed once its lease runs out
+                log.warn("Outbox event {} still running after lease, leaving it for reclaim",
+                        delivery.getKey().getEventId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxService.markDone(delivered, nodeIdentity.getId());
+        }
+    }
+
+    private void deliver(OutboxEvent outboxEvent) {
+        DomainEvent event = outboxService.deserialize(outboxEvent);
+        for (DurableEventHandler handler : handlers) {
+            if (!handler.supports(event)) {
+                continue;
+            }
+            String handlerName = ClassUtils.getUserClass(handler).getSimpleName();
+            transactionTemplate.executeWithoutResult(status -> {
+                // The marker commits with the handler's writes, so a redelivery is a no-op
+                if (processedEventRepository.markProcessed(event.eventId(), handlerName, LocalDateTime.now()) == 1) {
+                    handler.handle(event);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.jobportal.event;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.entity.Notification;
+import com.jobportal.persistence.IdBlockAllocator;
+import com.jobportal.search.SavedSearchPercolator;
+import com.jobportal.service.NotificationDigestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SavedSearchAlertHandler implements DurableEventHandler {
+
+    private static final String ALERTED_SQL = "SELECT user_id FROM saved_search_alerts WHERE job_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO saved_search_alerts (id, job_id, user_id, alerted_at) VALUES (?, ?, ?, ?)";
+    // Rows of jobs that are still open stay, so editing them never alerts the same users twice
+    private static final String PURGE_SQL =
+            "DELETE FROM saved_search_alerts WHERE alerted_at < ? AND job_id NOT IN (" +
+            "SELECT id FROM jobs WHERE is_active = true AND (application_deadline IS NULL OR application_deadline > ?))";
+
+    private final SavedSearchPercolator savedSearchPercolator;
+    private final NotificationDigestService notificationDigestService;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    @Value("${search.saved-searches.alert-retention-days:90}")
+    private int alertRetentionDays;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof JobPostedEvent
+                || (event instanceof JobUpdatedEvent updated && !Boolean.FALSE.equals(updated.isActive()));
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        Long jobId;
+        String title;
+        if (event instanceof JobPostedEvent posted) {
+            jobId = posted.jobId();
+            title = posted.title();
+        } else {
+            JobUpdatedEvent updated = (JobUpdatedEvent) event;
+            jobId = updated.jobId();
+            title = updated.title();
+        }
+
+        Set<Long> userIds = new LinkedHashSet<>(savedSearchPercolator.percolate(jobId));
+        if (userIds.isEmpty()) {
+            return;
+        }
+        // An edit can make a job match new searches; users already alerted about it are skipped
+        userIds.removeAll(jdbcTemplate.queryForList(ALERTED_SQL, Long.class, jobId));
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // The alert rows, and the notifications or digest entries below, commit in the outbox
+        // dispatcher's transaction together with the event's processed marker: a crash either
+        // keeps both or redelivers the event
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = userIds.stream()
+                .map(userId -> new Object[]{idBlockAllocator.next("saved_search_alerts"), jobId, userId, now})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        // Users matched by several new jobs in one window get a single digest
+        notificationDigestService.notifyAll(
+                userIds,
+                Notification.NotificationType.NEW_JOB_POSTED,
+                title,
+                "New Job Alert",
+                "A job matching your saved search was posted: " + title,
+                "/jobs/" + jobId
+        );
+        log.debug("Job {} alerted {} users through saved searches", jobId, userIds.size());
+    }
+
+    @Scheduled(cron = "${search.saved-searches.alert-purge-cron:0 15 4 * * *}")
+    @ClusterSingleton(lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void purgeAlerts() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = jdbcTemplate.update(PURGE_SQL,
+                Timestamp.valueOf(now.minusDays(alertRetentionDays)), Timestamp.valueOf(now));
+        log.info("Purged {} saved search alerts for closed jobs older than {} days", deleted, alertRetentionDays);
+    }
+}
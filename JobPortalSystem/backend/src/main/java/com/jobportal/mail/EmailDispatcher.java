@@ -0,0 +1,319 @@
+package com.jobportal.mail;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.cluster.NodeIdentity;
+import com.jobportal.entity.QueuedEmail;
+import com.jobportal.repository.QueuedEmailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.AddressException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Durable email pipeline. Callers write the message to the email_queue table in their own
+ * transaction; a worker on each node claims due rows, coalesces them per recipient, rate
+ * limits and sends them in connection-sharing batches. Only the messages the server did not
+ * accept are retried, with exponential backoff, and a permanent (5xx) rejection is final.
+ * A node that dies mid-send leaves its rows to be reclaimed once their lease runs out.
+ * Enqueue refuses new mail while the backlog is over its cap, and failed rows are purged
+ * once they are past their retention.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailDispatcher {
+
+    private final EmailTransport emailTransport;
+    private final MeterRegistry meterRegistry;
+    private final QueuedEmailRepository queuedEmailRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    @Value("${mail.pipeline.enabled:false}")
+    private boolean enabled;
+
+    @Value("${mail.pipeline.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.pipeline.coalesce-window-ms:2000}")
+    private long coalesceWindowMs;
+
+    @Value("${mail.pipeline.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${mail.pipeline.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.pipeline.retry-base-ms:1000}")
+    private long retryBaseMs;
+
+    @Value("${mail.pipeline.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${mail.pipeline.max-backlog:50000}")
+    private long maxBacklog;
+
+    @Value("${mail.pipeline.backlog-check-ms:1000}")
+    private long backlogCheckMs;
+
+    @Value("${mail.pipeline.retention-days:30}")
+    private int retentionDays;
+
+    private TokenBucket rateLimiter;
+    private Thread worker;
+    private volatile boolean running;
+
+    // Last count of unsent rows, refreshed at most every backlogCheckMs
+    private volatile long backlog;
+    private volatile long backlogCheckedAt;
+
+    private Counter enqueuedCounter;
+    private Counter coalescedCounter;
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+    private Timer sendTimer;
+
+    @PostConstruct
+    public void start() {
+        rateLimiter = new TokenBucket(ratePerSecond, (int) Math.ceil(ratePerSecond));
+
+        enqueuedCounter = meterRegistry.counter("mail.pipeline.enqueued");
+        coalescedCounter = meterRegistry.counter("mail.pipeline.coalesced");
+        sentCounter = meterRegistry.counter("mail.pipeline.sent");
+        retriedCounter = meterRegistry.counter("mail.pipeline.retried");
+        failedCounter = meterRegistry.counter("mail.pipeline.failed");
+        rejectedCounter = meterRegistry.counter("mail.pipeline.rejected");
+        sendTimer = meterRegistry.timer("mail.pipeline.send");
+
+        if (!enabled) {
+            log.info("Email pipeline disabled");
+            return;
+        }
+
+        running = true;
+        worker = new Thread(this::run, "email-dispatcher");
+        worker.setDaemon(true);
+        worker.setPriority(Thread.NORM_PRIORITY - 1);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    // Joins the caller's transaction, so the message commits or rolls back with it. A full
+    // queue throws, which rolls the caller back; the outbox retries the event with backoff.
+    public boolean enqueue(EmailMessage message) {
+        if (!enabled) {
+            return false;
+        }
+        if (currentBacklog() >= maxBacklog) {
+            rejectedCounter.increment();
+            throw new RuntimeException("Email queue is full (" + backlog + " unsent messages)");
+        }
+        QueuedEmail email = new QueuedEmail();
+        email.setRecipient(message.to());
+        email.setSubject(message.subject());
+        email.setBody(message.body());
+        email.setStatus(QueuedEmail.EmailStatus.PENDING);
+        email.setAttempts(0);
+        email.setAvailableAt(LocalDateTime.now());
+        queuedEmailRepository.save(email);
+        enqueuedCounter.increment();
+        return true;
+    }
+
+    @Scheduled(cron = "${mail.pipeline.purge-cron:0 45 3 * * *}")
+    @ClusterSingleton(lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void purgeFailed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer purged = transactionTemplate.execute(status -> queuedEmailRepository.deleteFailedBefore(cutoff));
+        log.info("Purged {} failed emails", purged);
+    }
+
+    private long currentBacklog() {
+        long now = System.currentTimeMillis();
+        if (now - backlogCheckedAt >= backlogCheckMs) {
+            backlog = queuedEmailRepository.countByStatusNot(QueuedEmail.EmailStatus.FAILED);
+            backlogCheckedAt = now;
+        }
+        return backlog;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                // The pause between polls is the coalescing window: a burst for one recipient
+                // piles up in the table and goes out as a single message
+                if (dispatchBatch() < batchSize) {
+                    Thread.sleep(coalesceWindowMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error in email dispatcher", e);
+                try {
+                    Thread.sleep(coalesceWindowMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    int dispatchBatch() throws InterruptedException {
+        List<QueuedEmail> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<QueuedEmail> batch = queuedEmailRepository.lockNextBatch(now, batchSize);
+            if (!batch.isEmpty()) {
+                List<Long> ids = batch.stream().map(QueuedEmail::getId).collect(Collectors.toList());
+                queuedEmailRepository.markSending(ids, nodeIdentity.getId(), now.plusSeconds(leaseSeconds));
+            }
+            return batch;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        send(coalesce(claimed));
+        return claimed.size();
+    }
+
+    // Each outgoing message with the queued rows it stands for
+    private Map<EmailMessage, List<QueuedEmail>> coalesce(List<QueuedEmail> emails) {
+        Map<String, List<QueuedEmail>> byRecipient = new LinkedHashMap<>();
+        for (QueuedEmail email : emails) {
+            byRecipient.computeIfAbsent(email.getRecipient(), to -> new ArrayList<>()).add(email);
+        }
+
+        Map<EmailMessage, List<QueuedEmail>> coalesced = new LinkedHashMap<>();
+        byRecipient.forEach((to, pending) -> {
+            if (pending.size() == 1) {
+                QueuedEmail email = pending.get(0);
+                coalesced.put(new EmailMessage(to, email.getSubject(), email.getBody()), pending);
+                return;
+            }
+            StringBuilder body = new StringBuilder();
+            for (QueuedEmail email : pending) {
+                if (body.length() > 0) {
+                    body.append("\n\n");
+                }
+                body.append(email.getSubject()).append('\n').append(email.getBody());
+            }
+            coalesced.put(new EmailMessage(to, "You have " + pending.size() + " new notifications", body.toString()),
+                    pending);
+            coalescedCounter.increment(pending.size() - 1);
+        });
+        return coalesced;
+    }
+
+    private void send(Map<EmailMessage, List<QueuedEmail>> batch) throws InterruptedException {
+        for (int i = 0; i < batch.size(); i++) {
+            rateLimiter.acquire();
+        }
+
+        Map<Object, Exception> failures;
+        long start = System.nanoTime();
+        try {
+            emailTransport.send(new ArrayList<>(batch.keySet()));
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(batch, e) : e.getFailedMessages();
+        } catch (Exception e) {
+            // Nothing says which went through, e.g. the connection or login failed
+            failures = allFailed(batch, e);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        List<Long> sent = new ArrayList<>();
+        Map<Object, Exception> failed = failures;
+        transactionTemplate.executeWithoutResult(status -> {
+            batch.forEach((message, emails) -> {
+                List<Long> ids = emails.stream().map(QueuedEmail::getId).collect(Collectors.toList());
+                Exception error = failed.get(message);
+                if (error == null) {
+                    sent.addAll(ids);
+                } else {
+                    reschedule(message, ids, attempt(emails), error);
+                }
+            });
+            if (!sent.isEmpty()) {
+                queuedEmailRepository.deleteSent(sent, nodeIdentity.getId());
+            }
+        });
+        sentCounter.increment(batch.size() - failures.size());
+    }
+
+    private void reschedule(EmailMessage message, List<Long> ids, int attempt, Exception error) {
+        if (isPermanent(error) || attempt >= maxAttempts) {
+            queuedEmailRepository.reschedule(ids, nodeIdentity.getId(), QueuedEmail.EmailStatus.FAILED,
+                    LocalDateTime.now(), String.valueOf(error));
+            failedCounter.increment();
+            log.error("Giving up on email to {} after {} attempts", message.to(), attempt, error);
+            return;
+        }
+        long backoffMs = retryBaseMs << Math.min(attempt - 1, 10);
+        queuedEmailRepository.reschedule(ids, nodeIdentity.getId(), QueuedEmail.EmailStatus.PENDING,
+                LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs)), String.valueOf(error));
+        retriedCounter.increment();
+        log.warn("Failed to send email to {} (attempt {}), retrying in {}ms", message.to(), attempt, backoffMs, error);
+    }
+
+    // attempts on the claimed rows is the value before this send
+    private static int attempt(List<QueuedEmail> emails) {
+        int attempts = 0;
+        for (QueuedEmail email : emails) {
+            attempts = Math.max(attempts, email.getAttempts() == null ? 0 : email.getAttempts());
+        }
+        return attempts + 1;
+    }
+
+    private static Map<Object, Exception> allFailed(Map<EmailMessage, List<QueuedEmail>> batch, Exception error) {
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        batch.keySet().forEach(message -> failures.put(message, error));
+        return failures;
+    }
+
+    // 5xx replies and malformed addresses fail the same way however often they are retried
+    static boolean isPermanent(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AddressException) {
+                return true;
+            }
+            if (cause instanceof SMTPAddressFailedException failed && failed.getReturnCode() >= 500) {
+                return true;
+            }
+            if (cause instanceof SMTPSendFailedException failed && failed.getReturnCode() >= 500) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,4 @@
+package com.jobportal.mail;
+
+public record EmailMessage(String to, String subject, String body) {
+}
@@ -0,0 +1,10 @@
+package com.jobportal.mail;
+
+import java.util.List;
+
+public interface EmailTransport {
+
+    // Sends the whole batch over one connection. When only some messages fail, throws a
+    // MailSendException whose failed messages are keyed by the EmailMessage that failed
+    void send(List<EmailMessage> messages) throws Exception;
+}
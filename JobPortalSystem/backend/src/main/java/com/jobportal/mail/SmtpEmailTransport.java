@@ -0,0 +1,73 @@
+package com.jobportal.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmtpEmailTransport implements EmailTransport {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${mail.pipeline.from:${spring.mail.username}}")
+    private String from;
+
+    @Override
+    public void send(List<EmailMessage> messages) throws Exception {
+        Map<Object, Exception> failed = new LinkedHashMap<>();
+        Map<MimeMessage, EmailMessage> sources = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+        for (EmailMessage message : messages) {
+            try {
+                MimeMessage mimeMessage = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+                helper.setFrom(from);
+                helper.setTo(message.to());
+                helper.setSubject(message.subject());
+                helper.setText(message.body());
+                mimeMessages.add(mimeMessage);
+                sources.put(mimeMessage, message);
+            } catch (MessagingException e) {
+                // A malformed address fails on its own instead of taking the batch down
+                failed.put(message, e);
+            }
+        }
+
+        try {
+            // JavaMailSenderImpl opens a single transport connection for the whole array
+            if (!mimeMessages.isEmpty()) {
+                mailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+            }
+        } catch (MailSendException e) {
+            // Rekey the failures by our message so the caller retries just those
+            int prepareFailures = failed.size();
+            e.getFailedMessages().forEach((mimeMessage, error) -> {
+                EmailMessage source = sources.get(mimeMessage);
+                if (source != null) {
+                    failed.put(source, error);
+                }
+            });
+            if (failed.size() == prepareFailures) {
+                throw e;
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            throw new MailSendException(failed);
+        }
+    }
+}
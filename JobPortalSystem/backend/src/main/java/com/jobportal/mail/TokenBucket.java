@@ -0,0 +1,33 @@
+package com.jobportal.mail;
+
+// Single-consumer rate limiter used by the email worker thread
+class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        refill();
+        while (tokens < 1) {
+            long waitNanos = (long) ((1 - tokens) / permitsPerNano);
+            Thread.sleep(Math.max(1, waitNanos / 1_000_000));
+            refill();
+        }
+        tokens -= 1;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,300 @@
+package com.jobportal.matching;
+
+import com.jobportal.entity.Job;
+import com.jobportal.entity.JobApplication;
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
+import com.jobportal.event.ApplicationSubmittedEvent;
+import com.jobportal.event.JobUpdatedEvent;
+import com.jobportal.repository.JobApplicationRepository;
+import com.jobportal.repository.SkillRepository;
+import com.jobportal.search.CandidateSearchService;
+import com.jobportal.search.Tokenizer;
+import com.jobportal.service.JobService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Ranks a job's applicants by how many of its required skills they have: a skill on the
+ * applicant's profile counts fully, one only mentioned in their resume or cover letter
+ * counts partly. The whole applicant set is scored in parallel once and the ranking cached
+ * per job, so paging through it only hydrates one page. A new application on this node
+ * drops the job's ranking; a short time-to-live covers applications and profile changes
+ * made elsewhere.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantRankingService {
+
+    private static final String JOB_SKILLS_SQL = "SELECT skill_id FROM job_skills WHERE job_id = ?";
+    private static final String APPLICANTS_SQL = "SELECT id, applied_at FROM job_applications WHERE job_id = ?";
+    // Only the applicant skills the job asks for come back
+    private static final String APPLICANT_SKILLS_SQL =
+            "SELECT a.id, us.skill_id FROM job_applications a " +
+            "JOIN user_skills us ON us.user_id = a.user_id " +
+            "JOIN job_skills js ON js.job_id = a.job_id AND js.skill_id = us.skill_id " +
+            "WHERE a.job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobService jobService;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final SkillRepository skillRepository;
+    private final CandidateSearchService candidateSearchService;
+
+    @Value("${applications.ranking.cache-size:500}")
+    private int cacheSize;
+
+    @Value("${applications.ranking.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${applications.ranking.resume-matches:true}")
+    private boolean resumeMatches;
+
+    // Weight of a required skill found only in the resume or cover letter
+    @Value("${applications.ranking.resume-weight:0.5}")
+    private double resumeWeight;
+
+    @Value("${applications.ranking.parallelism:0}")
+    private int parallelism;
+
+    private Map<Long, Ranking> cache;
+    private final Map<Long, CompletableFuture<Ranking>> inFlight = new ConcurrentHashMap<>();
+    // Bumped on every invalidation, so a ranking computed across one is not cached
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private ForkJoinPool pool;
+
+    // Application ids best first, with their scores
+    private record Ranking(long[] applicationIds, float[] scores, long expiresAt) {
+    }
+
+    public record ScoredApplication(JobApplication application, double score) {
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Ranking> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    @EventListener
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        invalidate(event.jobId());
+    }
+
+    @EventListener
+    public void onJobUpdated(JobUpdatedEvent event) {
+        invalidate(event.jobId());
+    }
+
+    // One page of the job's applicants, best match first
+    public Page<ScoredApplication> getRankedApplications(Long jobId, User user, Pageable pageable) {
+        Job job = jobService.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!job.getPostedBy().getId().equals(user.getId()) && !user.isAdmin()) {
+            throw new RuntimeException("You don't have permission to view applications for this job");
+        }
+
+        Ranking ranking = ranking(job);
+        int total = ranking.applicationIds().length;
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+        List<Long> ids = new ArrayList<>(to - from);
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            ids.add(ranking.applicationIds()[i]);
+            scores.put(ranking.applicationIds()[i], (double) ranking.scores()[i]);
+        }
+
+        Map<Long, JobApplication> applications = jobApplicationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+        List<ScoredApplication> page = ids.stream()
+                .map(applications::get)
+                .filter(Objects::nonNull)
+                .map(application -> new ScoredApplication(application, scores.get(application.getId())))
+                .collect(Collectors.toList());
+        return new PageImpl<>(page, pageable, total);
+    }
+
+    private void invalidate(Long jobId) {
+        generations.merge(jobId, 1L, Long::sum);
+        cache.remove(jobId);
+    }
+
+    private Ranking ranking(Job job) {
+        Long jobId = job.getId();
+        Ranking cached = cache.get(jobId);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+        // Concurrent requests for the same job wait for one computation
+        CompletableFuture<Ranking> mine = new CompletableFuture<>();
+        CompletableFuture<Ranking> running = inFlight.putIfAbsent(jobId, mine);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            long generation = generations.getOrDefault(jobId, 0L);
+            Ranking ranking = compute(jobId, job.getPostedBy().getId());
+            if (generation == generations.getOrDefault(jobId, 0L)) {
+                cache.put(jobId, ranking);
+            }
+            mine.complete(ranking);
+            return ranking;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(jobId, mine);
+        }
+    }
+
+    private Ranking compute(Long jobId, Long employerId) {
+        long start = System.currentTimeMillis();
+        List<Long> skillIds = jdbcTemplate.queryForList(JOB_SKILLS_SQL, Long.class, jobId);
+        Map<Long, Integer> bitBySkillId = new HashMap<>();
+        for (Long skillId : skillIds) {
+            bitBySkillId.putIfAbsent(skillId, bitBySkillId.size());
+        }
+        int skillCount = bitBySkillId.size();
+        int words = Math.max(1, (skillCount + 63) / 64);
+
+        Map<Long, Integer> rowByApplicationId = new HashMap<>();
+        List<long[]> applicants = new ArrayList<>();
+        stream(APPLICANTS_SQL, jobId, rs -> {
+            Timestamp appliedAt = rs.getTimestamp(2);
+            rowByApplicationId.put(rs.getLong(1), applicants.size());
+            applicants.add(new long[]{rs.getLong(1), appliedAt != null ? appliedAt.getTime() : 0});
+        });
+        int size = applicants.size();
+
+        // Required skills per applicant as bitsets, profile and resume separately
+        long[] profileBits = new long[size * words];
+        long[] resumeBits = new long[size * words];
+        if (skillCount > 0) {
+            stream(APPLICANT_SKILLS_SQL, jobId, rs -> {
+                Integer row = rowByApplicationId.get(rs.getLong(1));
+                Integer bit = bitBySkillId.get(rs.getLong(2));
+                if (row != null && bit != null) {
+                    profileBits[row * words + (bit >>> 6)] |= 1L << bit;
+                }
+            });
+            if (resumeMatches) {
+                markResumeMatches(jobId, employerId, bitBySkillId, rowByApplicationId, resumeBits, words);
+            }
+        }
+
+        float[] scores = new float[size];
+        Integer[] order = new Integer[size];
+        pool.submit(() -> {
+            IntStream.range(0, size).parallel().forEach(row -> {
+                order[row] = row;
+                if (skillCount == 0) {
+                    return;
+                }
+                int profile = 0;
+                int resumeOnly = 0;
+                for (int w = 0; w < words; w++) {
+                    long onProfile = profileBits[row * words + w];
+                    profile += Long.bitCount(onProfile);
+                    resumeOnly += Long.bitCount(resumeBits[row * words + w] & ~onProfile);
+                }
+                scores[row] = (float) ((profile + resumeWeight * resumeOnly) / skillCount);
+            });
+            // Ties go to the most recent application, as in the unranked view
+            Arrays.parallelSort(order, Comparator.<Integer>comparingDouble(row -> -scores[row])
+                    .thenComparingLong(row -> -applicants.get(row)[1])
+                    .thenComparingLong(row -> -applicants.get(row)[0]));
+        }).join();
+
+        long[] applicationIds = new long[size];
+        float[] rankedScores = new float[size];
+        for (int i = 0; i < size; i++) {
+            applicationIds[i] = applicants.get(order[i])[0];
+            rankedScores[i] = scores[order[i]];
+        }
+        log.debug("Ranked {} applicants for job {} against {} skills in {} ms",
+                size, jobId, skillCount, System.currentTimeMillis() - start);
+        return new Ranking(applicationIds, rankedScores, System.currentTimeMillis() + ttlMs);
+    }
+
+    // Looks each required skill, by name or alias, up in the employer's applicant text index
+    private void markResumeMatches(Long jobId, Long employerId, Map<Long, Integer> bitBySkillId,
+                                   Map<Long, Integer> rowByApplicationId, long[] resumeBits, int words) {
+        for (Skill skill : skillRepository.findAllById(bitBySkillId.keySet())) {
+            List<List<String>> clauses = new ArrayList<>();
+            addClause(clauses, skill.getName());
+            if (skill.getAliases() != null) {
+                for (String alias : skill.getAliases().split(",")) {
+                    addClause(clauses, alias);
+                }
+            }
+            int bit = bitBySkillId.get(skill.getId());
+            Set<Long> matching = candidateSearchService.findMatching(employerId, jobId, clauses);
+            for (Long applicationId : matching) {
+                Integer row = rowByApplicationId.get(applicationId);
+                if (row != null) {
+                    resumeBits[row * words + (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+    }
+
+    private static void addClause(List<List<String>> clauses, String text) {
+        List<String> terms = Tokenizer.tokenize(text);
+        if (!terms.isEmpty()) {
+            clauses.add(terms);
+        }
+    }
+
+    private void stream(String sql, Long jobId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J streams rows one by one instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setLong(1, jobId);
+            return statement;
+        }, handler);
+    }
+}
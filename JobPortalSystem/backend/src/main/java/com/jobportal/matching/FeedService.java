@@ -0,0 +1,675 @@
+package com.jobportal.matching;
+
+import com.jobportal.entity.Job;
+import com.jobportal.entity.User;
+import com.jobportal.event.ApplicationSubmittedEvent;
+import com.jobportal.event.JobExpiredEvent;
+import com.jobportal.event.JobPostedEvent;
+import com.jobportal.event.JobUpdatedEvent;
+import com.jobportal.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputed "jobs for you" feeds. A batch pass loads every active job and every active
+ * seeker's skills, location and saved/applied history, then scores each seeker's candidate
+ * jobs (those sharing a skill or a category from their history) across a fork/join pool
+ * and keeps the best as a {@link PackedFeed}. Jobs posted on this node are scored against
+ * the seekers they can reach and slotted into their feeds; expired jobs and jobs a seeker
+ * applies to are dropped lazily. Serving a feed is one map lookup plus hydrating the ids.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeedService {
+
+    private static final String ACTIVE = "j.is_active = true AND (j.application_deadline IS NULL OR j.application_deadline > ?)";
+    private static final String SKILL_IDS_SQL = "SELECT id FROM skills ORDER BY id";
+    private static final String JOBS_SQL =
+            "SELECT j.id, j.category_id, j.location, j.is_remote, j.created_at FROM jobs j WHERE " + ACTIVE;
+    private static final String JOB_SKILLS_SQL =
+            "SELECT js.job_id, js.skill_id FROM job_skills js JOIN jobs j ON j.id = js.job_id WHERE " + ACTIVE;
+    private static final String SEEKERS_SQL =
+            "SELECT id, location FROM users WHERE role = 'JOB_SEEKER' AND is_active = true";
+    private static final String SEEKER_SKILLS_SQL =
+            "SELECT us.user_id, us.skill_id FROM user_skills us JOIN users u ON u.id = us.user_id " +
+            "WHERE u.role = 'JOB_SEEKER' AND u.is_active = true";
+    private static final String SAVED_SQL =
+            "SELECT s.user_id, j.id, j.category_id FROM saved_jobs s JOIN jobs j ON j.id = s.job_id";
+    private static final String APPLIED_SQL =
+            "SELECT a.user_id, j.id, j.category_id FROM job_applications a JOIN jobs j ON j.id = a.job_id";
+    private static final String POSTED_SINCE_SQL = "SELECT id FROM jobs WHERE created_at >= ?";
+    private static final String JOB_BY_ID_SQL =
+            "SELECT j.id, j.category_id, j.location, j.is_remote, j.created_at FROM jobs j WHERE j.id = ? AND " + ACTIVE;
+    private static final String SKILLS_BY_JOB_SQL = "SELECT skill_id FROM job_skills WHERE job_id = ?";
+
+    private static final double SKILL_WEIGHT = 0.6;
+    private static final double LOCATION_WEIGHT = 0.15;
+    private static final double HISTORY_WEIGHT = 0.15;
+    private static final double RECENCY_WEIGHT = 0.1;
+    private static final long DAY_MS = 86_400_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobRepository jobRepository;
+
+    @Value("${feed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${feed.size:50}")
+    private int feedSize;
+
+    @Value("${feed.min-score:0.15}")
+    private double minScore;
+
+    @Value("${feed.recency-half-life-days:14}")
+    private double recencyHalfLifeDays;
+
+    @Value("${feed.rebuild-interval-ms:3600000}")
+    private long rebuildIntervalMs;
+
+    @Value("${feed.parallelism:0}")
+    private int parallelism;
+
+    // Seekers scored by one fork/join leaf
+    @Value("${feed.chunk-size:2048}")
+    private int chunkSize;
+
+    @Value("${feed.update-queue-capacity:1000}")
+    private int updateQueueCapacity;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // Jobs that left the catalog since the last batch, by when; pruned from feeds as they are read
+    private final Map<Long, Long> retired = new ConcurrentHashMap<>();
+    private ForkJoinPool pool;
+    private ThreadPoolExecutor updater;
+    private Thread rebuildThread;
+    private volatile boolean running;
+
+    /**
+     * The seeker side of the last batch, kept so a new job can be scored without a reload,
+     * and the feeds it produced. Seeker rows index the per-seeker arrays.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), new long[0], new int[0][],
+                new long[0], new int[0][], new float[0][], new int[0][], new int[0][], new ConcurrentHashMap<>());
+
+        private final Map<Long, Integer> skillIndex;
+        private final Map<Long, Integer> categoryIndex;
+        private final long[] userIds;
+        private final int[][] seekerSkills;
+        private final long[] seekerLocations;
+        private final int[][] seekerCategories;
+        private final float[][] seekerAffinities;
+        private final int[][] seekersBySkill;
+        private final int[][] seekersByCategory;
+        private final Map<Long, PackedFeed> feeds;
+
+        private Snapshot(Map<Long, Integer> skillIndex, Map<Long, Integer> categoryIndex, long[] userIds,
+                         int[][] seekerSkills, long[] seekerLocations, int[][] seekerCategories,
+                         float[][] seekerAffinities, int[][] seekersBySkill, int[][] seekersByCategory,
+                         Map<Long, PackedFeed> feeds) {
+            this.skillIndex = skillIndex;
+            this.categoryIndex = categoryIndex;
+            this.userIds = userIds;
+            this.seekerSkills = seekerSkills;
+            this.seekerLocations = seekerLocations;
+            this.seekerCategories = seekerCategories;
+            this.seekerAffinities = seekerAffinities;
+            this.seekersBySkill = seekersBySkill;
+            this.seekersByCategory = seekersByCategory;
+            this.feeds = feeds;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        updater = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(updateQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "feed-updater");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        rebuildThread = new Thread(this::rebuildLoop, "feed-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (rebuildThread != null) {
+            rebuildThread.interrupt();
+        }
+        updater.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    @EventListener
+    public void onJobPosted(JobPostedEvent event) {
+        submitJob(event.jobId());
+    }
+
+    @EventListener
+    public void onJobUpdated(JobUpdatedEvent event) {
+        if (Boolean.FALSE.equals(event.isActive())) {
+            retired.put(event.jobId(), System.currentTimeMillis());
+        }
+    }
+
+    @EventListener
+    public void onJobExpired(JobExpiredEvent event) {
+        retired.put(event.jobId(), System.currentTimeMillis());
+    }
+
+    @EventListener
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        long jobId = event.jobId();
+        snapshot.feeds.computeIfPresent(event.applicantId(), (userId, feed) -> feed.removeIf(id -> id == jobId));
+    }
+
+    // The user's feed, best first; recent jobs until a feed has been built for them
+    public List<Job> getFeed(User user, int limit) {
+        int size = Math.max(1, Math.min(limit, feedSize));
+        Map<Long, PackedFeed> feeds = snapshot.feeds;
+        PackedFeed feed = feeds.get(user.getId());
+        if (feed != null && !retired.isEmpty()) {
+            PackedFeed pruned = feed.removeIf(retired::containsKey);
+            if (pruned != feed) {
+                feeds.replace(user.getId(), feed, pruned);
+                feed = pruned;
+            }
+        }
+        if (feed == null || feed.isEmpty()) {
+            return jobRepository.findTop10ByIsActiveTrueOrderByCreatedAtDesc().stream()
+                    .limit(size)
+                    .collect(Collectors.toList());
+        }
+
+        List<Long> ids = Arrays.stream(feed.ids()).limit(size).boxed().collect(Collectors.toList());
+        Map<Long, Job> jobs = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .filter(job -> Boolean.TRUE.equals(job.getIsActive()) && !job.isExpired())
+                .collect(Collectors.toList());
+    }
+
+    private void submitJob(long jobId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            updater.execute(() -> {
+                try {
+                    addJob(jobId);
+                } catch (Exception e) {
+                    log.warn("Failed to add job {} to feeds", jobId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The next batch picks it up
+            log.debug("Feed update queue full, deferring job {}", jobId);
+        }
+    }
+
+    // Scores a new job against the seekers sharing a skill or history category with it
+    private void addJob(long jobId) {
+        Snapshot current = snapshot;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        JobRow job = jdbcTemplate.query(JOB_BY_ID_SQL,
+                rs -> rs.next() ? readJob(rs, id -> current.categoryIndex.getOrDefault(id, -1)) : null, jobId, now);
+        if (job == null) {
+            return;
+        }
+        List<Long> skillIds = jdbcTemplate.queryForList(SKILLS_BY_JOB_SQL, Long.class, jobId);
+
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (Long skillId : skillIds) {
+            Integer skill = current.skillIndex.get(skillId);
+            if (skill != null && skill < current.seekersBySkill.length) {
+                for (int row : current.seekersBySkill[skill]) {
+                    shared.merge(row, 1, Integer::sum);
+                }
+            }
+        }
+        if (job.category() >= 0 && job.category() < current.seekersByCategory.length) {
+            for (int row : current.seekersByCategory[job.category()]) {
+                shared.putIfAbsent(row, 0);
+            }
+        }
+
+        double recency = recency(job.createdAt(), System.currentTimeMillis());
+        int added = 0;
+        for (Map.Entry<Integer, Integer> entry : shared.entrySet()) {
+            int row = entry.getKey();
+            double score = score(entry.getValue(), skillIds.size(), current.seekerSkills[row].length,
+                    job.remote() || (job.location() != 0 && job.location() == current.seekerLocations[row]),
+                    affinity(current.seekerCategories, current.seekerAffinities, row, job.category()), recency);
+            if (score >= minScore) {
+                current.feeds.compute(current.userIds[row],
+                        (userId, feed) -> (feed == null ? PackedFeed.EMPTY : feed).insert(jobId, score, feedSize));
+                added++;
+            }
+        }
+        log.debug("Job {} scored against {} seekers, added to {} feeds", jobId, shared.size(), added);
+    }
+
+    private void rebuildLoop() {
+        while (running) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Failed to rebuild job feeds", e);
+            }
+            try {
+                Thread.sleep(rebuildIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Timestamp startedAt = new Timestamp(start);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        Map<Long, Integer> skillIndex = new HashMap<>();
+        jdbcTemplate.query(SKILL_IDS_SQL, (RowCallbackHandler) rs -> skillIndex.put(rs.getLong(1), skillIndex.size()));
+        Map<Long, Integer> categoryIndex = new HashMap<>();
+
+        // Jobs
+        Map<Long, Integer> jobRows = new HashMap<>();
+        JobTable jobs = new JobTable();
+        jdbcTemplate.query(JOBS_SQL, (RowCallbackHandler) rs -> {
+            jobRows.put(rs.getLong("id"), jobs.size);
+            jobs.add(rs.getLong("id"), readJob(rs, id -> categoryIndex.computeIfAbsent(id, k -> categoryIndex.size())));
+        }, now);
+        IntLists jobSkillLists = new IntLists(jobs.size);
+        jdbcTemplate.query(JOB_SKILLS_SQL, (RowCallbackHandler) rs -> {
+            Integer row = jobRows.get(rs.getLong(1));
+            Integer skill = skillIndex.get(rs.getLong(2));
+            if (row != null && skill != null) {
+                jobSkillLists.add(row, skill);
+            }
+        }, now);
+        int[][] jobSkills = jobSkillLists.toArrays();
+
+        // Seekers
+        Map<Long, Integer> seekerRows = new HashMap<>();
+        LongList userIds = new LongList();
+        LongList seekerLocations = new LongList();
+        stream(SEEKERS_SQL, rs -> {
+            seekerRows.put(rs.getLong(1), userIds.size);
+            userIds.add(rs.getLong(1));
+            seekerLocations.add(locationKey(rs.getString(2)));
+        });
+        int seekerCount = userIds.size;
+        IntLists seekerSkillLists = new IntLists(seekerCount);
+        stream(SEEKER_SKILLS_SQL, rs -> {
+            Integer row = seekerRows.get(rs.getLong(1));
+            Integer skill = skillIndex.get(rs.getLong(2));
+            if (row != null && skill != null) {
+                seekerSkillLists.add(row, skill);
+            }
+        });
+        IntLists historyLists = new IntLists(seekerCount);
+        IntLists appliedLists = new IntLists(seekerCount);
+        stream(SAVED_SQL, rs -> addHistory(rs, seekerRows, categoryIndex, historyLists, null, jobRows));
+        stream(APPLIED_SQL, rs -> addHistory(rs, seekerRows, categoryIndex, historyLists, appliedLists, jobRows));
+        int[][] seekerSkills = seekerSkillLists.toArrays();
+        int[][] applied = appliedLists.toArrays();
+
+        // Category affinity: share of the seeker's saved and applied jobs in that category
+        int[][] seekerCategories = new int[seekerCount][];
+        float[][] seekerAffinities = new float[seekerCount][];
+        int[][] history = historyLists.toArrays();
+        for (int row = 0; row < seekerCount; row++) {
+            int[] categories = history[row];
+            Arrays.sort(categories);
+            int distinct = 0;
+            int[] ids = new int[categories.length];
+            float[] weights = new float[categories.length];
+            for (int i = 0; i < categories.length; i++) {
+                if (distinct > 0 && ids[distinct - 1] == categories[i]) {
+                    weights[distinct - 1]++;
+                } else {
+                    ids[distinct] = categories[i];
+                    weights[distinct++] = 1;
+                }
+            }
+            for (int i = 0; i < distinct; i++) {
+                weights[i] /= categories.length;
+            }
+            seekerCategories[row] = Arrays.copyOf(ids, distinct);
+            seekerAffinities[row] = Arrays.copyOf(weights, distinct);
+        }
+
+        int[][] jobsBySkill = invert(jobSkills, skillIndex.size());
+        int[][] jobsByCategory = invert(jobs.categoryRows(), categoryIndex.size());
+        int[][] seekersBySkill = invert(seekerSkills, skillIndex.size());
+        int[][] seekersByCategory = invert(seekerCategories, categoryIndex.size());
+
+        Map<Long, PackedFeed> feeds = new ConcurrentHashMap<>();
+        Batch batch = new Batch(jobs, jobSkills, jobsBySkill, jobsByCategory, userIds.values, seekerSkills,
+                seekerLocations.values, seekerCategories, seekerAffinities, applied, feeds, start);
+        pool.invoke(new FeedTask(batch, 0, seekerCount));
+
+        snapshot = new Snapshot(skillIndex, categoryIndex, Arrays.copyOf(userIds.values, seekerCount), seekerSkills,
+                Arrays.copyOf(seekerLocations.values, seekerCount), seekerCategories, seekerAffinities,
+                seekersBySkill, seekersByCategory, feeds);
+        // The batch saw the catalog as of its start: drop older retirements, replay newer postings
+        retired.values().removeIf(retiredAt -> retiredAt < start);
+        jdbcTemplate.queryForList(POSTED_SINCE_SQL, Long.class, startedAt).forEach(this::submitJob);
+
+        log.info("Job feeds rebuilt: {} feeds for {} seekers over {} jobs in {} ms",
+                feeds.size(), seekerCount, jobs.size, System.currentTimeMillis() - start);
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J streams rows one by one instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, handler);
+    }
+
+    private static void addHistory(ResultSet rs, Map<Long, Integer> seekerRows, Map<Long, Integer> categoryIndex,
+                                   IntLists history, IntLists applied, Map<Long, Integer> jobRows) throws SQLException {
+        Integer row = seekerRows.get(rs.getLong(1));
+        if (row == null) {
+            return;
+        }
+        long categoryId = rs.getLong(3);
+        if (!rs.wasNull()) {
+            history.add(row, categoryIndex.computeIfAbsent(categoryId, id -> categoryIndex.size()));
+        }
+        Integer jobRow = jobRows.get(rs.getLong(2));
+        if (applied != null && jobRow != null) {
+            applied.add(row, jobRow);
+        }
+    }
+
+    private static JobRow readJob(ResultSet rs, ToIntFunction<Long> categoryOf) throws SQLException {
+        long categoryId = rs.getLong("category_id");
+        int category = rs.wasNull() ? -1 : categoryOf.applyAsInt(categoryId);
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new JobRow(category, locationKey(rs.getString("location")), rs.getBoolean("is_remote"),
+                createdAt != null ? createdAt.getTime() : 0);
+    }
+
+    // City part of "City, Region", case-insensitive; 0 when unknown
+    private static long locationKey(String location) {
+        if (location == null) {
+            return 0;
+        }
+        int comma = location.indexOf(',');
+        String city = (comma >= 0 ? location.substring(0, comma) : location).trim().toLowerCase(Locale.ROOT);
+        return city.isEmpty() ? 0 : (city.hashCode() & 0xFFFFFFFFL) | (1L << 32);
+    }
+
+    private double recency(long createdAt, long now) {
+        double ageDays = Math.max(0, now - createdAt) / (double) DAY_MS;
+        return Math.pow(0.5, ageDays / recencyHalfLifeDays);
+    }
+
+    private static double affinity(int[][] seekerCategories, float[][] seekerAffinities, int row, int category) {
+        int[] categories = seekerCategories[row];
+        for (int i = 0; i < categories.length; i++) {
+            if (categories[i] == category) {
+                return seekerAffinities[row][i];
+            }
+        }
+        return 0;
+    }
+
+    private static double score(int sharedSkills, int jobSkills, int seekerSkills, boolean locationMatch,
+                                double affinity, double recency) {
+        if (sharedSkills == 0 && affinity == 0) {
+            return 0;
+        }
+        double skill = sharedSkills == 0 ? 0 : (double) sharedSkills / (jobSkills + seekerSkills - sharedSkills);
+        return SKILL_WEIGHT * skill
+                + LOCATION_WEIGHT * (locationMatch ? 1 : 0)
+                + HISTORY_WEIGHT * affinity
+                + RECENCY_WEIGHT * recency;
+    }
+
+    // Rows of lists by the values they contain; negative values are skipped
+    private static int[][] invert(int[][] lists, int valueCount) {
+        int[] counts = new int[valueCount];
+        for (int[] list : lists) {
+            for (int value : list) {
+                if (value >= 0) {
+                    counts[value]++;
+                }
+            }
+        }
+        int[][] inverted = new int[valueCount][];
+        for (int value = 0; value < valueCount; value++) {
+            inverted[value] = new int[counts[value]];
+            counts[value] = 0;
+        }
+        for (int row = 0; row < lists.length; row++) {
+            for (int value : lists[row]) {
+                if (value >= 0) {
+                    inverted[value][counts[value]++] = row;
+                }
+            }
+        }
+        return inverted;
+    }
+
+    private record JobRow(int category, long location, boolean remote, long createdAt) {
+    }
+
+    private static final class JobTable {
+
+        private long[] ids = new long[1024];
+        private JobRow[] rows = new JobRow[1024];
+        private int size;
+
+        private void add(long id, JobRow row) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            ids[size] = id;
+            rows[size++] = row;
+        }
+
+        private int[][] categoryRows() {
+            int[][] categories = new int[size][];
+            for (int row = 0; row < size; row++) {
+                categories[row] = new int[]{rows[row].category()};
+            }
+            return categories;
+        }
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    // One growable int list per row
+    private static final class IntLists {
+
+        private static final int[] NONE = new int[0];
+
+        private final int[][] lists;
+        private final int[] sizes;
+
+        private IntLists(int rows) {
+            this.lists = new int[rows][];
+            this.sizes = new int[rows];
+        }
+
+        private void add(int row, int value) {
+            int[] list = lists[row];
+            if (list == null) {
+                list = lists[row] = new int[4];
+            } else if (sizes[row] == list.length) {
+                list = lists[row] = Arrays.copyOf(list, list.length * 2);
+            }
+            list[sizes[row]++] = value;
+        }
+
+        private int[][] toArrays() {
+            int[][] arrays = new int[lists.length][];
+            for (int row = 0; row < lists.length; row++) {
+                arrays[row] = lists[row] == null ? NONE : Arrays.copyOf(lists[row], sizes[row]);
+            }
+            return arrays;
+        }
+    }
+
+    private record Batch(JobTable jobs, int[][] jobSkills, int[][] jobsBySkill, int[][] jobsByCategory,
+                         long[] userIds, int[][] seekerSkills, long[] seekerLocations, int[][] seekerCategories,
+                         float[][] seekerAffinities, int[][] applied, Map<Long, PackedFeed> feeds, long now) {
+    }
+
+    private final class FeedTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Batch batch;
+        private final int from;
+        private final int to;
+
+        private FeedTask(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                scan();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FeedTask(batch, from, middle), new FeedTask(batch, middle, to));
+        }
+
+        private void scan() {
+            JobTable jobs = batch.jobs();
+            int[] shared = new int[jobs.size];
+            boolean[] seen = new boolean[jobs.size];
+            int[] touched = new int[jobs.size];
+            double[] recency = new double[jobs.size];
+            for (int job = 0; job < jobs.size; job++) {
+                recency[job] = recency(jobs.rows[job].createdAt(), batch.now());
+            }
+
+            for (int row = from; row < to; row++) {
+                int[] applied = batch.applied()[row];
+                // Jobs already applied to are never candidates
+                for (int job : applied) {
+                    seen[job] = true;
+                }
+                int count = 0;
+                for (int skill : batch.seekerSkills()[row]) {
+                    for (int job : batch.jobsBySkill()[skill]) {
+                        if (!seen[job]) {
+                            seen[job] = true;
+                            touched[count++] = job;
+                        }
+                        shared[job]++;
+                    }
+                }
+                for (int category : batch.seekerCategories()[row]) {
+                    for (int job : batch.jobsByCategory()[category]) {
+                        if (!seen[job]) {
+                            seen[job] = true;
+                            touched[count++] = job;
+                        }
+                    }
+                }
+
+                TopMatches top = new TopMatches(feedSize);
+                long location = batch.seekerLocations()[row];
+                for (int i = 0; i < count; i++) {
+                    int job = touched[i];
+                    JobRow jobRow = jobs.rows[job];
+                    double score = score(shared[job], batch.jobSkills()[job].length, batch.seekerSkills()[row].length,
+                            jobRow.remote() || (location != 0 && location == jobRow.location()),
+                            affinity(batch.seekerCategories(), batch.seekerAffinities(), row, jobRow.category()),
+                            recency[job]);
+                    if (score >= minScore && top.accepts(score)) {
+                        top.offer(job, score);
+                    }
+                    shared[job] = 0;
+                    seen[job] = false;
+                }
+                for (int job : applied) {
+                    shared[job] = 0;
+                    seen[job] = false;
+                }
+
+                double[] scores = new double[feedSize];
+                int[] ranked = top.drainDescending(scores);
+                if (ranked.length > 0) {
+                    long[] jobIds = new long[ranked.length];
+                    for (int i = 0; i < ranked.length; i++) {
+                        jobIds[i] = jobs.ids[ranked[i]];
+                    }
+                    batch.feeds().put(batch.userIds()[row], PackedFeed.of(jobIds, scores, ranked.length));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.jobportal.matching;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds the seekers whose skills best match a job. Seeker skills are held as bitsets in a
+ * {@link SkillMatrix} snapshot that is rebuilt in the background and swapped in whole; a
+ * match scores every seeker by Jaccard similarity on popcounts of ANDed words, split
+ * across a fork/join pool, keeping the top matches per chunk and merging them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobMatchService {
+
+    private static final String SKILL_IDS_SQL = "SELECT id FROM skills ORDER BY id";
+    private static final String SEEKER_SKILLS_SQL =
+            "SELECT us.user_id, us.skill_id FROM user_skills us JOIN users u ON u.id = us.user_id " +
+            "WHERE u.role = 'JOB_SEEKER' AND u.is_active = true ORDER BY us.user_id";
+    private static final String JOB_SKILLS_SQL = "SELECT skill_id FROM job_skills WHERE job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${matching.enabled:true}")
+    private boolean enabled;
+
+    @Value("${matching.min-score:0.2}")
+    private double minScore;
+
+    @Value("${matching.max-matches-per-job:500}")
+    private int maxMatchesPerJob;
+
+    @Value("${matching.refresh-interval-ms:600000}")
+    private long refreshIntervalMs;
+
+    @Value("${matching.parallelism:0}")
+    private int parallelism;
+
+    // Rows scored by one fork/join leaf
+    @Value("${matching.chunk-size:16384}")
+    private int chunkSize;
+
+    private volatile SkillMatrix matrix = SkillMatrix.EMPTY;
+    private ForkJoinPool pool;
+    private Thread refreshThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        refreshThread = new Thread(this::refreshLoop, "job-match-refresh");
+        refreshThread.setDaemon(true);
+        refreshThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (refreshThread != null) {
+            refreshThread.interrupt();
+        }
+        pool.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Best matching seekers for a job, best first
+    public List<Long> findMatchingSeekers(Long jobId) {
+        List<Long> skillIds = jdbcTemplate.queryForList(JOB_SKILLS_SQL, Long.class, jobId);
+        if (skillIds.isEmpty() || maxMatchesPerJob <= 0) {
+            return List.of();
+        }
+
+        SkillMatrix current = matrix;
+        long start = System.nanoTime();
+        long[] jobBits = current.toBits(skillIds);
+        int[] jobWords = nonZeroWords(jobBits);
+        if (jobWords.length == 0 || current.size() == 0) {
+            return List.of();
+        }
+        TopMatches top = pool.invoke(new MatchTask(current, jobBits, jobWords, skillIds.size(), 0, current.size()));
+
+        int[] rows = top.drainDescending();
+        List<Long> userIds = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            userIds.add(current.userId(row));
+        }
+        log.debug("Matched job {} against {} seekers in {} ms: {} matches", jobId, current.size(),
+                (System.nanoTime() - start) / 1_000_000, userIds.size());
+        return userIds;
+    }
+
+    private void refreshLoop() {
+        while (running) {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Failed to refresh the seeker skill matrix", e);
+            }
+            try {
+                Thread.sleep(refreshIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        Map<Long, Integer> bitBySkillId = new HashMap<>();
+        jdbcTemplate.query(SKILL_IDS_SQL, (RowCallbackHandler) rs -> bitBySkillId.put(rs.getLong(1), bitBySkillId.size()));
+
+        SkillMatrix.Builder builder = new SkillMatrix.Builder(bitBySkillId);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SEEKER_SKILLS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J streams rows one by one instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, (RowCallbackHandler) rs -> builder.add(rs.getLong(1), rs.getLong(2)));
+
+        matrix = builder.build();
+        log.info("Seeker skill matrix rebuilt: {} seekers over {} skills in {} ms",
+                matrix.size(), bitBySkillId.size(), System.currentTimeMillis() - start);
+    }
+
+    private static int[] nonZeroWords(long[] bits) {
+        int count = 0;
+        int[] words = new int[bits.length];
+        for (int w = 0; w < bits.length; w++) {
+            if (bits[w] != 0) {
+                words[count++] = w;
+            }
+        }
+        return Arrays.copyOf(words, count);
+    }
+
+    private final class MatchTask extends RecursiveTask<TopMatches> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SkillMatrix matrix;
+        private final long[] jobBits;
+        private final int[] jobWords;
+        private final int jobSize;
+        private final int from;
+        private final int to;
+
+        private MatchTask(SkillMatrix matrix, long[] jobBits, int[] jobWords, int jobSize, int from, int to) {
+            this.matrix = matrix;
+            this.jobBits = jobBits;
+            this.jobWords = jobWords;
+            this.jobSize = jobSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopMatches compute() {
+            if (to - from <= chunkSize) {
+                return scan();
+            }
+            int middle = (from + to) >>> 1;
+            MatchTask left = new MatchTask(matrix, jobBits, jobWords, jobSize, from, middle);
+            left.fork();
+            TopMatches right = new MatchTask(matrix, jobBits, jobWords, jobSize, middle, to).compute();
+            TopMatches merged = left.join();
+            merged.addAll(right);
+            return merged;
+        }
+
+        private TopMatches scan() {
+            TopMatches top = new TopMatches(maxMatchesPerJob);
+            long[] words = matrix.words();
+            int[] cardinalities = matrix.cardinalities();
+            int stride = matrix.wordsPerUser();
+            for (int row = from; row < to; row++) {
+                int base = row * stride;
+                int shared = 0;
+                // Only the words where the job has skills can contribute
+                for (int w : jobWords) {
+                    shared += Long.bitCount(jobBits[w] & words[base + w]);
+                }
+                if (shared == 0) {
+                    continue;
+                }
+                double score = (double) shared / (jobSize + cardinalities[row] - shared);
+                if (score >= minScore && top.accepts(score)) {
+                    top.offer(row, score);
+                }
+            }
+            return top;
+        }
+    }
+}
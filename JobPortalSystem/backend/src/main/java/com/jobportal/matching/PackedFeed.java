@@ -0,0 +1,136 @@
+package com.jobportal.matching;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable ranked list of job ids with one-byte quantized scores. Ids are stored in rank
+ * order as zig-zag varint deltas from the previous id; ids posted around the same time sit
+ * close together, so most entries take one or two bytes instead of eight.
+ */
+final class PackedFeed {
+
+    static final PackedFeed EMPTY = new PackedFeed(new byte[0], new byte[0]);
+
+    private final byte[] ids;
+    private final byte[] scores;
+
+    private PackedFeed(byte[] ids, byte[] scores) {
+        this.ids = ids;
+        this.scores = scores;
+    }
+
+    // ids must be ranked best first, with scores in [0, 1]
+    static PackedFeed of(long[] ids, double[] scores, int size) {
+        byte[] quantized = new byte[size];
+        for (int i = 0; i < size; i++) {
+            quantized[i] = quantize(scores[i]);
+        }
+        return new PackedFeed(encode(ids, size), quantized);
+    }
+
+    int size() {
+        return scores.length;
+    }
+
+    boolean isEmpty() {
+        return scores.length == 0;
+    }
+
+    long[] ids() {
+        long[] result = new long[scores.length];
+        long previous = 0;
+        int position = 0;
+        for (int i = 0; i < result.length; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = ids[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += (value >>> 1) ^ -(value & 1);
+            result[i] = previous;
+        }
+        return result;
+    }
+
+    // Places the job by score, dropping the last entry when full; unchanged if it would not make the cut.
+    // A job already in the feed keeps the higher of its two scores rather than appearing twice
+    PackedFeed insert(long jobId, double score, int capacity) {
+        byte quantized = quantize(score);
+        long[] current = ids();
+        int existing = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == jobId) {
+                existing = i;
+                break;
+            }
+        }
+        if (existing >= 0 && (scores[existing] & 0xFF) >= (quantized & 0xFF)) {
+            return this;
+        }
+        // Scores are descending, so an existing lower-scored entry always sits at or after position
+        int position = 0;
+        while (position < scores.length && (scores[position] & 0xFF) >= (quantized & 0xFF)) {
+            position++;
+        }
+        if (position >= capacity) {
+            return this;
+        }
+        int size = Math.min(existing >= 0 ? current.length : current.length + 1, capacity);
+        long[] newIds = new long[size];
+        byte[] newScores = new byte[size];
+        System.arraycopy(current, 0, newIds, 0, position);
+        System.arraycopy(scores, 0, newScores, 0, position);
+        newIds[position] = jobId;
+        newScores[position] = quantized;
+        for (int i = position, next = position + 1; i < current.length && next < size; i++) {
+            if (i != existing) {
+                newIds[next] = current[i];
+                newScores[next++] = scores[i];
+            }
+        }
+        return new PackedFeed(encode(newIds, size), newScores);
+    }
+
+    // Same instance when nothing matches, so callers can tell whether to write it back
+    PackedFeed removeIf(LongPredicate filter) {
+        long[] current = ids();
+        long[] kept = new long[current.length];
+        byte[] keptScores = new byte[current.length];
+        int size = 0;
+        for (int i = 0; i < current.length; i++) {
+            if (!filter.test(current[i])) {
+                kept[size] = current[i];
+                keptScores[size++] = scores[i];
+            }
+        }
+        if (size == current.length) {
+            return this;
+        }
+        return new PackedFeed(encode(kept, size), Arrays.copyOf(keptScores, size));
+    }
+
+    private static byte quantize(double score) {
+        return (byte) Math.round(Math.max(0, Math.min(1, score)) * 255);
+    }
+
+    private static byte[] encode(long[] ids, int size) {
+        byte[] buffer = new byte[size * 10];
+        int position = 0;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = ids[i] - previous;
+            previous = ids[i];
+            long value = (delta << 1) ^ (delta >> 63);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+        return Arrays.copyOf(buffer, position);
+    }
+}
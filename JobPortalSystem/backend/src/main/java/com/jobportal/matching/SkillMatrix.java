@@ -0,0 +1,109 @@
+package com.jobportal.matching;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of every active seeker's skills as fixed-width bitsets over a dense
+ * skill index, laid out back to back in one long[] so a scan walks memory sequentially.
+ * Row i holds user userIds[i] in words [i * wordsPerUser, (i + 1) * wordsPerUser).
+ */
+final class SkillMatrix {
+
+    static final SkillMatrix EMPTY = new SkillMatrix(Map.of(), 1, new long[0], new long[0], new int[0], 0);
+
+    private final Map<Long, Integer> bitBySkillId;
+    private final int wordsPerUser;
+    private final long[] userIds;
+    private final long[] words;
+    private final int[] cardinalities;
+    private final int size;
+
+    SkillMatrix(Map<Long, Integer> bitBySkillId, int wordsPerUser, long[] userIds, long[] words,
+                int[] cardinalities, int size) {
+        this.bitBySkillId = bitBySkillId;
+        this.wordsPerUser = wordsPerUser;
+        this.userIds = userIds;
+        this.words = words;
+        this.cardinalities = cardinalities;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int wordsPerUser() {
+        return wordsPerUser;
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    int[] cardinalities() {
+        return cardinalities;
+    }
+
+    long userId(int row) {
+        return userIds[row];
+    }
+
+    // Skills nobody has get no bit; they still count towards the job's size in the score
+    long[] toBits(Collection<Long> skillIds) {
+        long[] bits = new long[wordsPerUser];
+        for (Long skillId : skillIds) {
+            Integer bit = bitBySkillId.get(skillId);
+            if (bit != null) {
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Accumulates rows in user order; a user's skills must arrive together.
+     */
+    static final class Builder {
+
+        private final Map<Long, Integer> bitBySkillId;
+        private final int wordsPerUser;
+        private long[] userIds = new long[1024];
+        private long[] words;
+        private int[] cardinalities = new int[1024];
+        private int size;
+
+        Builder(Map<Long, Integer> bitBySkillId) {
+            this.bitBySkillId = bitBySkillId;
+            this.wordsPerUser = Math.max(1, (bitBySkillId.size() + 63) / 64);
+            this.words = new long[userIds.length * wordsPerUser];
+        }
+
+        void add(long userId, long skillId) {
+            Integer bit = bitBySkillId.get(skillId);
+            if (bit == null) {
+                return;
+            }
+            if (size == 0 || userIds[size - 1] != userId) {
+                if (size == userIds.length) {
+                    userIds = Arrays.copyOf(userIds, size * 2);
+                    cardinalities = Arrays.copyOf(cardinalities, size * 2);
+                    words = Arrays.copyOf(words, size * 2 * wordsPerUser);
+                }
+                userIds[size++] = userId;
+            }
+            int row = size - 1;
+            int word = row * wordsPerUser + (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                cardinalities[row]++;
+            }
+        }
+
+        SkillMatrix build() {
+            return new SkillMatrix(bitBySkillId, wordsPerUser, userIds, words, cardinalities, size);
+        }
+    }
+}
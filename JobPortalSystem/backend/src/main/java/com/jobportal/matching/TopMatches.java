@@ -0,0 +1,93 @@
+package com.jobportal.matching;
+
+/**
+ * Bounded min-heap of (row, score) on primitive arrays: keeps the best capacity rows seen,
+ * and a row that cannot beat the current worst costs one comparison.
+ */
+final class TopMatches {
+
+    private final int[] rows;
+    private final double[] scores;
+    private int size;
+
+    TopMatches(int capacity) {
+        this.rows = new int[capacity];
+        this.scores = new double[capacity];
+    }
+
+    boolean accepts(double score) {
+        return size < rows.length || score > scores[0];
+    }
+
+    void offer(int row, double score) {
+        if (size < rows.length) {
+            rows[size] = row;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            rows[0] = row;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    void addAll(TopMatches other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.rows[i], other.scores[i]);
+        }
+    }
+
+    // Rows by descending score; empties the heap
+    int[] drainDescending() {
+        return drainDescending(new double[size]);
+    }
+
+    // As above, also writing each row's score to the same position of scoresOut
+    int[] drainDescending(double[] scoresOut) {
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = rows[0];
+            scoresOut[i] = scores[0];
+            size--;
+            rows[0] = rows[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
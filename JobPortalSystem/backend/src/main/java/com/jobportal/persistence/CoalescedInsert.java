@@ -0,0 +1,71 @@
+package com.jobportal.persistence;
+
+import com.jobportal.event.DomainEvent;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * One kind of row the {@link WriteCoalescer} can batch: a named-parameter INSERT with an
+ * {@code :id} placeholder, how to bind a row to it, the domain events the row raises, and
+ * a hook that runs once the row has committed. The events go to the outbox in the batch
+ * transaction, next to the row, and reach local listeners only after the commit. Ids come
+ * from the id_sequences row named after the table.
+ */
+public interface CoalescedInsert<T> {
+
+    String table();
+
+    String sql();
+
+    MapSqlParameterSource parameters(T row);
+
+    // Called again with a new id if the batch is retried, so it must not have side effects
+    default List<DomainEvent> events(T row, long id) {
+        return List.of();
+    }
+
+    default void afterInsert(T row, long id) {
+    }
+
+    static <T> CoalescedInsert<T> of(String table, String sql,
+                                     Function<T, MapSqlParameterSource> parameters,
+                                     BiConsumer<T, Long> afterInsert) {
+        return of(table, sql, parameters, (row, id) -> List.of(), afterInsert);
+    }
+
+    static <T> CoalescedInsert<T> of(String table, String sql,
+                                     Function<T, MapSqlParameterSource> parameters,
+                                     BiFunction<T, Long, List<DomainEvent>> events,
+                                     BiConsumer<T, Long> afterInsert) {
+        return new CoalescedInsert<>() {
+            @Override
+            public String table() {
+                return table;
+            }
+
+            @Override
+            public String sql() {
+                return sql;
+            }
+
+            @Override
+            public MapSqlParameterSource parameters(T row) {
+                return parameters.apply(row);
+            }
+
+            @Override
+            public List<DomainEvent> events(T row, long id) {
+                return events.apply(row, id);
+            }
+
+            @Override
+            public void afterInsert(T row, long id) {
+                afterInsert.accept(row, id);
+            }
+        };
+    }
+}
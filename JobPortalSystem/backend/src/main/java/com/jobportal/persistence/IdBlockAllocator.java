@@ -0,0 +1,73 @@
+package com.jobportal.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out ids for rows written outside Hibernate (JDBC batches) from the same
+ * id_sequences table the entities' pooled-lo table generators use. next_val is the next id
+ * to hand out: both sides reserve a block [next_val, next_val + size) by bumping next_val
+ * under a row lock, so blocks of different sizes never overlap. Hibernate only follows that
+ * convention with hibernate.id.generator.stored_last_used=false, which application.yml sets.
+ */
+@Component
+@Slf4j
+public class IdBlockAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private final int blockSize;
+
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            @Value("${persistence.id-allocator.block-size:500}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public long next(String sequence) {
+        return blocks.computeIfAbsent(sequence, Block::new).next();
+    }
+
+    private long reserve(String sequence) {
+        Long start = requiresNew.execute(status -> {
+            jdbcTemplate.update("INSERT IGNORE INTO id_sequences (sequence_name, next_val) VALUES (?, 1)", sequence);
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_sequences WHERE sequence_name = ? FOR UPDATE", Long.class, sequence);
+            jdbcTemplate.update("UPDATE id_sequences SET next_val = ? WHERE sequence_name = ?", current + blockSize, sequence);
+            return current;
+        });
+        log.debug("Reserved ids {}..{} for {}", start, start + blockSize - 1, sequence);
+        return start;
+    }
+
+    private final class Block {
+
+        private final String sequence;
+        private long next;
+        private long limit;
+
+        private Block(String sequence) {
+            this.sequence = sequence;
+        }
+
+        private synchronized long next() {
+            if (next >= limit) {
+                next = reserve(sequence);
+                limit = next + blockSize;
+            }
+            return next++;
+        }
+    }
+}
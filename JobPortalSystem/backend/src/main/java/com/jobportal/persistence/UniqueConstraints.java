@@ -0,0 +1,33 @@
+package com.jobportal.persistence;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Tells a duplicate on one named unique key apart from other integrity errors, such as a
+ * foreign key failure or a primary key collision, which must not be reported to the user
+ * as "already exists".
+ */
+public final class UniqueConstraints {
+
+    // MySQL ER_DUP_ENTRY, and the standard unique-violation state other databases use
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String UNIQUE_VIOLATION_STATE = "23505";
+
+    private UniqueConstraints() {
+    }
+
+    // MySQL names the key in the message ("Duplicate entry '3-7' for key 'job_applications.uk_...'")
+    public static boolean isViolated(Throwable error, String constraintName) {
+        String name = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql
+                    && (sql.getErrorCode() == MYSQL_DUPLICATE_ENTRY || UNIQUE_VIOLATION_STATE.equals(sql.getSQLState()))
+                    && sql.getMessage() != null
+                    && sql.getMessage().toLowerCase(Locale.ROOT).contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,281 @@
+package com.jobportal.persistence;
+
+import com.jobportal.entity.OutboxEvent;
+import com.jobportal.event.DomainEvent;
+import com.jobportal.event.DomainEventBus;
+import com.jobportal.service.OutboxService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for small inserts. Rows submitted from many request threads are queued per
+ * {@link CoalescedInsert} and written as one JDBC batch in a single transaction, so N callers
+ * share one commit instead of paying for N. A batch is whatever queued up while the previous
+ * one was committing, so a lone writer never waits; max-delay-ms optionally lingers for more.
+ * Ids are pre-assigned from {@link IdBlockAllocator}, and each caller's future completes
+ * with its id once the batch has committed. The rows' domain events are inserted into the
+ * outbox in the same transaction and handed to local listeners after the commit, so a
+ * batch that rolls back and is retried row by row never leaves an event behind twice.
+ * <p>
+ * Batches and id refills run on a small connection pool of the coalescer's own. Callers
+ * block on their future while still holding a connection from the main pool (their own
+ * transaction, or the open-in-view session), so sharing that pool would deadlock as soon
+ * as every main connection belonged to a waiting caller.
+ */
+@Component
+@Slf4j
+public class WriteCoalescer {
+
+    private static final String OUTBOX_TABLE = "outbox_events";
+    private static final String OUTBOX_INSERT = "INSERT INTO outbox_events " +
+            "(id, event_id, event_type, partition_key, payload, status, attempts, available_at, created_at) " +
+            "VALUES (:id, :eventId, :eventType, :partitionKey, :payload, :status, :attempts, :availableAt, :availableAt)";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final MeterRegistry meterRegistry;
+    private final OutboxService outboxService;
+    private final DomainEventBus domainEventBus;
+
+    private DataSource dataSource;
+    private HikariDataSource pool;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private IdBlockAllocator idBlockAllocator;
+    private TransactionTemplate transactionTemplate;
+
+    // Services only route through the coalescer when this is on
+    @Value("${persistence.write-coalescer.enabled:false}")
+    private boolean enabled;
+
+    @Value("${persistence.write-coalescer.max-batch-size:256}")
+    private int maxBatchSize;
+
+    @Value("${persistence.write-coalescer.max-delay-ms:0}")
+    private long maxDelayMs;
+
+    @Value("${persistence.write-coalescer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${persistence.write-coalescer.pool-size:4}")
+    private int poolSize;
+
+    @Value("${persistence.id-allocator.block-size:500}")
+    private int idBlockSize;
+
+    private final Map<CoalescedInsert<?>, Lane<?>> lanes = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    @Autowired
+    public WriteCoalescer(DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry,
+                          OutboxService outboxService, DomainEventBus domainEventBus) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.meterRegistry = meterRegistry;
+        this.outboxService = outboxService;
+        this.domainEventBus = domainEventBus;
+    }
+
+    // Runs on the given data source instead of opening a pool; for tests and the benchmark
+    WriteCoalescer(DataSource dataSource, MeterRegistry meterRegistry,
+                   OutboxService outboxService, DomainEventBus domainEventBus) {
+        this.dataSourceProperties = null;
+        this.meterRegistry = meterRegistry;
+        this.outboxService = outboxService;
+        this.domainEventBus = domainEventBus;
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (dataSource == null) {
+            if (!enabled) {
+                return;
+            }
+            // Same database as the main pool, but not a DataSource bean, so auto-configuration stays as is
+            pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            pool.setPoolName("write-coalescer");
+            pool.setMaximumPoolSize(poolSize);
+            pool.setMinimumIdle(1);
+            dataSource = pool;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        idBlockAllocator = new IdBlockAllocator(jdbcTemplate, transactionManager, idBlockSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<Long> submit(CoalescedInsert<T> insert, T row) {
+        PendingRow<T> pending = new PendingRow<>(row, new CompletableFuture<>());
+        Lane<T> lane = (Lane<T>) lanes.computeIfAbsent(insert, key -> new Lane<T>(key));
+        if (!running || !lane.queue.offer(pending)) {
+            // Queue full or shutting down: write on the caller's thread rather than reject
+            lane.write(List.of(pending));
+        }
+        return pending.future();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Lane<?> lane : lanes.values()) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private final class Lane<T> {
+
+        private final CoalescedInsert<T> insert;
+        private final BlockingQueue<PendingRow<T>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final DistributionSummary batchSizes;
+        private final Thread thread;
+
+        private Lane(CoalescedInsert<?> insert) {
+            @SuppressWarnings("unchecked")
+            CoalescedInsert<T> typed = (CoalescedInsert<T>) insert;
+            this.insert = typed;
+            this.batchSizes = DistributionSummary.builder("write.coalescer.batch.size")
+                    .tag("insert", insert.table())
+                    .register(meterRegistry);
+            this.thread = new Thread(this::run, "write-coalescer-" + insert.table());
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void run() {
+            long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingRow<T> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+
+                    // The first row's arrival opens the window; the batch closes when full or when it expires
+                    List<PendingRow<T>> batch = new ArrayList<>(maxBatchSize);
+                    batch.add(first);
+                    long deadline = System.nanoTime() + maxDelayNanos;
+                    while (batch.size() < maxBatchSize) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        long remaining = deadline - System.nanoTime();
+                        if (batch.size() >= maxBatchSize || remaining <= 0) {
+                            break;
+                        }
+                        PendingRow<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    write(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("Unexpected error in write coalescer {}", insert.table(), e);
+                }
+            }
+        }
+
+        private void write(List<PendingRow<T>> batch) {
+            long[] ids = new long[batch.size()];
+            List<DomainEvent> events = new ArrayList<>();
+            try {
+                // Allocated outside the batch transaction; a block refill commits on its own
+                for (int i = 0; i < batch.size(); i++) {
+                    ids[i] = idBlockAllocator.next(insert.table());
+                    events.addAll(insert.events(batch.get(i).row(), ids[i]));
+                }
+                long[] eventIds = new long[events.size()];
+                for (int i = 0; i < events.size(); i++) {
+                    eventIds[i] = idBlockAllocator.next(OUTBOX_TABLE);
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    insertBatch(batch, ids);
+                    insertEvents(events, eventIds);
+                });
+            } catch (Exception e) {
+                if (batch.size() == 1) {
+                    batch.get(0).future().completeExceptionally(e);
+                    return;
+                }
+                // One bad row (e.g. a duplicate key) fails the whole batch; isolate it by retrying rows one by one
+                log.debug("Batch of {} {} rows failed, retrying individually", batch.size(), insert.table(), e);
+                for (PendingRow<T> pending : batch) {
+                    write(List.of(pending));
+                }
+                return;
+            }
+
+            batchSizes.record(batch.size());
+            events.forEach(domainEventBus::dispatch);
+            for (int i = 0; i < batch.size(); i++) {
+                insert.afterInsert(batch.get(i).row(), ids[i]);
+                batch.get(i).future().complete(ids[i]);
+            }
+        }
+
+        private void insertBatch(List<PendingRow<T>> batch, long[] ids) {
+            SqlParameterSource[] parameters = new SqlParameterSource[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                parameters[i] = insert.parameters(batch.get(i).row()).addValue("id", ids[i]);
+            }
+            namedParameterJdbcTemplate.batchUpdate(insert.sql(), parameters);
+        }
+
+        // Same connection and transaction as the rows, not the main pool's outbox repository
+        private void insertEvents(List<DomainEvent> events, long[] eventIds) {
+            if (events.isEmpty()) {
+                return;
+            }
+            SqlParameterSource[] parameters = new SqlParameterSource[events.size()];
+            for (int i = 0; i < events.size(); i++) {
+                OutboxEvent outboxEvent = outboxService.toOutboxEvent(events.get(i));
+                parameters[i] = new MapSqlParameterSource()
+                        .addValue("id", eventIds[i])
+                        .addValue("eventId", outboxEvent.getEventId())
+                        .addValue("eventType", outboxEvent.getEventType())
+                        .addValue("partitionKey", outboxEvent.getPartitionKey())
+                        .addValue("payload", outboxEvent.getPayload())
+                        .addValue("status", outboxEvent.getStatus().name())
+                        .addValue("attempts", outboxEvent.getAttempts())
+                        .addValue("availableAt", outboxEvent.getAvailableAt());
+            }
+            namedParameterJdbcTemplate.batchUpdate(OUTBOX_INSERT, parameters);
+        }
+    }
+
+    private record PendingRow<T>(T row, CompletableFuture<Long> future) {
+    }
+}
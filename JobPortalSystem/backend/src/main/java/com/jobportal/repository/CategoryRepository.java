@@ -1,29 +1,29 @@
-package com.jobportal.repository;
-
-import com.jobportal.entity.Category;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-import java.util.Optional;
-
-@Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
-    
-    Optional<Category> findByName(String name);
-    
-    List<Category> findByIsActiveTrue();
-    
-    @Query("SELECT c FROM Category c WHERE " +
-           "LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Category> searchCategories(@Param("keyword") String keyword);
-    
-    @Query("SELECT COUNT(c) FROM Category c WHERE c.isActive = true")
-    long countActiveCategories();
-    
-    // Additional methods used in services
-    List<Category> findByIsActiveTrueOrderByNameAsc();
-}
+package com.jobportal.repository;
+
+import com.jobportal.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+    
+    Optional<Category> findByName(String name);
+    
+    List<Category> findByIsActiveTrue();
+    
+    @Query("SELECT c FROM Category c WHERE " +
+           "LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<Category> searchCategories(@Param("keyword") String keyword);
+    
+    @Query("SELECT COUNT(c) FROM Category c WHERE c.isActive = true")
+    long countActiveCategories();
+    
+    // Additional methods used in services
+    List<Category> findByIsActiveTrueOrderByNameAsc();
+}
@@ -0,0 +1,48 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+    
+    // Returns 0 when the key is already taken, by a finished request or one still running
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_keys " +
+                   "(user_id, idempotency_key, request_hash, status, created_at, expires_at) " +
+                   "VALUES (:userId, :key, :requestHash, 'IN_PROGRESS', :now, :expiresAt)",
+           nativeQuery = true)
+    int claim(@Param("userId") Long userId,
+              @Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+    
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+    
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET " +
+           "r.status = com.jobportal.entity.IdempotencyRecord.Status.COMPLETED, " +
+           "r.responseStatus = :responseStatus, r.contentType = :contentType, r.responseBody = :responseBody " +
+           "WHERE r.userId = :userId AND r.idempotencyKey = :key")
+    int complete(@Param("userId") Long userId,
+                 @Param("key") String key,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") String responseBody);
+    
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.userId = :userId AND r.idempotencyKey = :key")
+    int release(@Param("userId") Long userId, @Param("key") String key);
+    
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,32 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.Notification;
+import com.jobportal.entity.NotificationDigestEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationDigestEntryRepository extends JpaRepository<NotificationDigestEntry, Long> {
+    
+    // (userId, type) pairs whose oldest entry has waited a full window
+    @Query("SELECT e.userId, e.type FROM NotificationDigestEntry e " +
+           "GROUP BY e.userId, e.type HAVING MIN(e.createdAt) <= :cutoff")
+    List<Object[]> findDueBuckets(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<NotificationDigestEntry> findByUserIdAndTypeOrderById(Long userId, Notification.NotificationType type);
+    
+    @Query("SELECT DISTINCT e.userId FROM NotificationDigestEntry e WHERE " +
+           "e.userId IN :userIds AND e.type = :type")
+    List<Long> findPendingUserIds(@Param("userIds") Collection<Long> userIds,
+                                  @Param("type") Notification.NotificationType type);
+}
@@ -0,0 +1,59 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // Rows locked by another node's claim are skipped instead of waited on
+    @Query(value = "SELECT * FROM outbox_events WHERE " +
+                   "(status = 'PENDING' AND available_at <= :now) OR " +
+                   "(status = 'PROCESSING' AND locked_until < :now) " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET " +
+           "e.status = com.jobportal.entity.OutboxEvent.OutboxStatus.PROCESSING, " +
+           "e.lockedBy = :node, e.lockedUntil = :lockedUntil, e.attempts = e.attempts + 1 " +
+           "WHERE e.id IN :ids")
+    int markProcessing(@Param("ids") Collection<Long> ids,
+                       @Param("node") String node,
+                       @Param("lockedUntil") LocalDateTime lockedUntil);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET " +
+           "e.status = com.jobportal.entity.OutboxEvent.OutboxStatus.DONE, " +
+           "e.processedAt = :now, e.lockedUntil = null, e.lastError = null " +
+           "WHERE e.id IN :ids AND e.lockedBy = :node")
+    int markDone(@Param("ids") Collection<Long> ids,
+                 @Param("node") String node,
+                 @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET " +
+           "e.status = :status, e.availableAt = :availableAt, e.lockedUntil = null, e.lastError = :error " +
+           "WHERE e.id = :id AND e.lockedBy = :node")
+    int reschedule(@Param("id") Long id,
+                   @Param("node") String node,
+                   @Param("status") OutboxEvent.OutboxStatus status,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("error") String error);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE " +
+           "e.status = com.jobportal.entity.OutboxEvent.OutboxStatus.DONE AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    long countByStatus(OutboxEvent.OutboxStatus status);
+}
@@ -0,0 +1,27 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, Long> {
+    
+    // Returns 0 when the handler already saw this event
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO processed_events (event_id, handler, processed_at) " +
+                   "VALUES (:eventId, :handler, :now)",
+           nativeQuery = true)
+    int markProcessed(@Param("eventId") String eventId,
+                      @Param("handler") String handler,
+                      @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent p WHERE p.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,57 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.QueuedEmail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface QueuedEmailRepository extends JpaRepository<QueuedEmail, Long> {
+    
+    // Rows locked by another node's claim are skipped instead of waited on
+    @Query(value = "SELECT * FROM email_queue WHERE " +
+                   "(status = 'PENDING' AND available_at <= :now) OR " +
+                   "(status = 'SENDING' AND locked_until < :now) " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<QueuedEmail> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Modifying
+    @Query("UPDATE QueuedEmail e SET " +
+           "e.status = com.jobportal.entity.QueuedEmail.EmailStatus.SENDING, " +
+           "e.lockedBy = :node, e.lockedUntil = :lockedUntil, e.attempts = e.attempts + 1 " +
+           "WHERE e.id IN :ids")
+    int markSending(@Param("ids") Collection<Long> ids,
+                    @Param("node") String node,
+                    @Param("lockedUntil") LocalDateTime lockedUntil);
+    
+    @Modifying
+    @Query("DELETE FROM QueuedEmail e WHERE e.id IN :ids AND e.lockedBy = :node")
+    int deleteSent(@Param("ids") Collection<Long> ids, @Param("node") String node);
+    
+    @Modifying
+    @Query("UPDATE QueuedEmail e SET " +
+           "e.status = :status, e.availableAt = :availableAt, e.lockedUntil = null, e.lastError = :error " +
+           "WHERE e.id IN :ids AND e.lockedBy = :node")
+    int reschedule(@Param("ids") Collection<Long> ids,
+                   @Param("node") String node,
+                   @Param("status") QueuedEmail.EmailStatus status,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("error") String error);
+    
+    // FAILED rows keep the time they gave up in available_at
+    @Modifying
+    @Query("DELETE FROM QueuedEmail e WHERE " +
+           "e.status = com.jobportal.entity.QueuedEmail.EmailStatus.FAILED AND e.availableAt < :cutoff")
+    int deleteFailedBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    long countByStatus(QueuedEmail.EmailStatus status);
+    
+    long countByStatusNot(QueuedEmail.EmailStatus status);
+}
@@ -0,0 +1,18 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    
+    List<SavedSearch> findByUser_IdOrderByCreatedAtDesc(Long userId);
+    
+    Optional<SavedSearch> findByIdAndUser_Id(Long id, Long userId);
+    
+    long countByUser_Id(Long userId);
+}
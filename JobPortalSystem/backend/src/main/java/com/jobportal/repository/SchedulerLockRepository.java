@@ -0,0 +1,49 @@
+package com.jobportal.repository;
+
+import com.jobportal.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+    
+    // First run of a task on a fresh database; returns 0 when another node created the row first
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_locks (name, locked_until, locked_at, locked_by) " +
+                   "VALUES (:name, :lockedUntil, :now, :node)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name,
+                       @Param("lockedUntil") LocalDateTime lockedUntil,
+                       @Param("now") LocalDateTime now,
+                       @Param("node") String node);
+    
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :node " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireExpired(@Param("name") String name,
+                       @Param("lockedUntil") LocalDateTime lockedUntil,
+                       @Param("now") LocalDateTime now,
+                       @Param("node") String node);
+    
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND l.lockedBy = :node AND l.lockedAt = :lockedAt AND l.lockedUntil > :now")
+    int extend(@Param("name") String name,
+               @Param("node") String node,
+               @Param("lockedAt") LocalDateTime lockedAt,
+               @Param("lockedUntil") LocalDateTime lockedUntil,
+               @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND l.lockedBy = :node AND l.lockedAt = :lockedAt")
+    int release(@Param("name") String name,
+                @Param("node") String node,
+                @Param("lockedAt") LocalDateTime lockedAt,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -1,42 +1,42 @@
-package com.jobportal.repository;
-
-import com.jobportal.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-import java.util.Optional;
-
-@Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    
-    Optional<User> findByEmail(String email);
-    
-    boolean existsByEmail(String email);
-    
-    List<User> findByRole(User.Role role);
-    
-    List<User> findByIsActiveTrue();
-    
-    List<User> findByIsVerifiedTrue();
-    
-    @Query("SELECT u FROM User u WHERE u.role = :role AND u.isActive = true")
-    List<User> findActiveUsersByRole(@Param("role") User.Role role);
-    
-    @Query("SELECT u FROM User u WHERE " +
-           "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<User> searchUsers(@Param("keyword") String keyword);
-    
-    @Query("SELECT u FROM User u WHERE u.location LIKE %:location%")
-    List<User> findByLocationContaining(@Param("location") String location);
-    
-    @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
-    long countByRole(@Param("role") User.Role role);
-    
-    @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true")
-    long countActiveUsers();
-}
+package com.jobportal.repository;
+
+import com.jobportal.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+    
+    Optional<User> findByEmail(String email);
+    
+    boolean existsByEmail(String email);
+    
+    List<User> findByRole(User.Role role);
+    
+    List<User> findByIsActiveTrue();
+    
+    List<User> findByIsVerifiedTrue();
+    
+    @Query("SELECT u FROM User u WHERE u.role = :role AND u.isActive = true")
+    List<User> findActiveUsersByRole(@Param("role") User.Role role);
+    
+    @Query("SELECT u FROM User u WHERE " +
+           "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<User> searchUsers(@Param("keyword") String keyword);
+    
+    @Query("SELECT u FROM User u WHERE u.location LIKE %:location%")
+    List<User> findByLocationContaining(@Param("location") String location);
+    
+    @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
+    long countByRole(@Param("role") User.Role role);
+    
+    @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true")
+    long countActiveUsers();
+}
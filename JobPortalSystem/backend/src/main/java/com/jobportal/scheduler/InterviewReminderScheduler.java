@@ -0,0 +1,244 @@
+package com.jobportal.scheduler;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.entity.JobApplication;
+import com.jobportal.entity.Notification;
+import com.jobportal.event.ApplicationStatusChangedEvent;
+import com.jobportal.event.InterviewScheduledEvent;
+import com.jobportal.repository.JobApplicationRepository;
+import com.jobportal.repository.ProcessedEventRepository;
+import com.jobportal.service.NotificationService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends REMINDER notifications ahead of scheduled interviews. Pending reminders live in a
+ * hashed timing wheel, seeded from the database at startup and kept current from this
+ * node's interview and status events. A rare catch-up pass on one node picks up anything
+ * no running node saw, e.g. interviews booked on a node that has since gone away. A reminder
+ * may end up on more than one node; a processed_events marker makes sure it is sent once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewReminderScheduler {
+
+    private static final String HANDLER = "InterviewReminder";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("EEE d MMM, HH:mm");
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${interviews.reminders.offsets-minutes:1440,60}")
+    private List<Long> offsetsMinutes;
+
+    @Value("${interviews.reminders.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${interviews.reminders.wheel-size:4096}")
+    private int wheelSize;
+
+    @Value("${interviews.reminders.batch-size:200}")
+    private int batchSize;
+
+    @Value("${interviews.reminders.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    // Must be longer than the catch-up period so consecutive passes overlap
+    @Value("${interviews.reminders.catch-up-lookahead-minutes:90}")
+    private long catchUpLookaheadMinutes;
+
+    private TimingWheel<Reminder> wheel;
+    private final Map<Long, PendingInterview> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener
+    public void onInterviewScheduled(InterviewScheduledEvent event) {
+        schedule(event.applicationId(), event.applicantId(), event.jobTitle(), event.interviewAt());
+    }
+
+    @EventListener
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        if (event.status() != JobApplication.ApplicationStatus.INTERVIEW_SCHEDULED) {
+            cancel(event.applicationId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reseed();
+    }
+
+    @Scheduled(cron = "${interviews.reminders.catch-up-cron:0 0 * * * *}")
+    @ClusterSingleton(lockAtMostFor = "10m", lockAtLeastFor = "1m")
+    public void catchUp() {
+        reseed();
+    }
+
+    @Scheduled(fixedDelayString = "${interviews.reminders.tick-ms:1000}")
+    public void tick() {
+        List<Reminder> due = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Reminder> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                Integer sent = transactionTemplate.execute(status -> send(batch));
+                if (sent != null && sent > 0) {
+                    log.info("Sent {} interview reminders", sent);
+                }
+            } catch (Exception e) {
+                log.error("Failed to send {} interview reminders, retrying in {}ms", batch.size(), retryDelayMs, e);
+                batch.forEach(this::retry);
+            }
+        }
+        for (Reminder reminder : due) {
+            pending.computeIfPresent(reminder.applicationId(), (id, interview) -> interview.isDone() ? null : interview);
+        }
+    }
+
+    public int getPendingReminderCount() {
+        return wheel.size();
+    }
+
+    private int send(List<Reminder> batch) {
+        // Drop reminders for interviews that were moved or cancelled on another node
+        Map<Long, LocalDateTime> current = new HashMap<>();
+        List<Long> ids = batch.stream().map(Reminder::applicationId).distinct().toList();
+        for (Object[] row : jobApplicationRepository.findScheduledInterviewTimes(ids)) {
+            current.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        for (Reminder reminder : batch) {
+            if (!reminder.interviewAt().equals(current.get(reminder.applicationId()))) {
+                continue;
+            }
+            if (processedEventRepository.markProcessed(reminder.key(), HANDLER, now) == 0) {
+                continue;
+            }
+            notificationService.createNotification(
+                    reminder.applicantId(),
+                    "Interview Reminder",
+                    "Your interview for " + reminder.jobTitle() + " is on " +
+                    reminder.interviewAt().format(TIME_FORMAT),
+                    Notification.NotificationType.REMINDER,
+                    "/applications/" + reminder.applicationId()
+            );
+            sent++;
+        }
+        return sent;
+    }
+
+    private void reseed() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // Cover the longest offset plus the lookahead so nothing slips between catch-up passes
+            long maxOffset = offsetsMinutes.stream().mapToLong(Long::longValue).max().orElse(0);
+            LocalDateTime end = now.plusMinutes(maxOffset + catchUpLookaheadMinutes);
+
+            List<Object[]> slots = jobApplicationRepository.findScheduledInterviewSlotsBetween(now, end);
+            for (Object[] row : slots) {
+                schedule((Long) row[0], (Long) row[1], (String) row[2], (LocalDateTime) row[3]);
+            }
+            log.debug("Reseeded {} interviews, {} reminders pending", slots.size(), wheel.size());
+        } catch (Exception e) {
+            log.error("Failed to reseed interview reminders", e);
+        }
+    }
+
+    // Puts a reminder from a failed batch back on the wheel, unless its interview was moved,
+    // cancelled or has already started in the meantime
+    private void retry(Reminder reminder) {
+        if (!reminder.interviewAt().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        pending.computeIfPresent(reminder.applicationId(), (id, interview) -> {
+            if (!interview.interviewAt().equals(reminder.interviewAt())) {
+                return interview;
+            }
+            List<TimingWheel.Timeout<Reminder>> timeouts = new ArrayList<>(interview.timeouts());
+            timeouts.add(wheel.schedule(reminder, System.currentTimeMillis() + retryDelayMs));
+            return new PendingInterview(interview.interviewAt(), timeouts);
+        });
+    }
+
+    private void schedule(Long applicationId, Long applicantId, String jobTitle, LocalDateTime interviewAt) {
+        if (interviewAt == null) {
+            cancel(applicationId);
+            return;
+        }
+
+        pending.compute(applicationId, (id, existing) -> {
+            if (existing != null) {
+                if (existing.interviewAt().equals(interviewAt)) {
+                    return existing;
+                }
+                existing.cancel();
+            }
+
+            long interviewMillis = interviewAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            long now = System.currentTimeMillis();
+            List<TimingWheel.Timeout<Reminder>> timeouts = new ArrayList<>(offsetsMinutes.size());
+            for (Long offset : offsetsMinutes) {
+                long fireAt = interviewMillis - offset * 60_000L;
+                // A reminder whose moment has already passed would only repeat the booking notice
+                if (fireAt > now) {
+                    timeouts.add(wheel.schedule(new Reminder(id, applicantId, jobTitle, interviewAt, offset), fireAt));
+                }
+            }
+            return timeouts.isEmpty() ? null : new PendingInterview(interviewAt, timeouts);
+        });
+    }
+
+    private void cancel(Long applicationId) {
+        PendingInterview removed = pending.remove(applicationId);
+        if (removed != null) {
+            removed.cancel();
+        }
+    }
+
+    private record Reminder(Long applicationId, Long applicantId, String jobTitle,
+                            LocalDateTime interviewAt, Long offsetMinutes) {
+
+        // Deterministic UUID so the marker fits the processed_events event_id column
+        private String key() {
+            String key = "interview-reminder:" + applicationId + ":" + interviewAt + ":" + offsetMinutes;
+            return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+        }
+    }
+
+    private record PendingInterview(LocalDateTime interviewAt, List<TimingWheel.Timeout<Reminder>> timeouts) {
+
+        private void cancel() {
+            timeouts.forEach(TimingWheel.Timeout::cancel);
+        }
+
+        private boolean isDone() {
+            return timeouts.stream().noneMatch(TimingWheel.Timeout::isPending);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.jobportal.scheduler;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.event.JobPostedEvent;
+import com.jobportal.event.JobUpdatedEvent;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.service.JobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Expires jobs at their application deadline. Upcoming deadlines are kept in a min-heap
+ * seeded from the database and kept current from this node's job events; each tick flips
+ * every due job with one bulk UPDATE. A periodic reseed picks up jobs posted or edited on
+ * other nodes, and a cluster-wide sweep catches anything the heaps missed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobExpiryScheduler {
+
+    private final JobService jobService;
+    private final JobRepository jobRepository;
+
+    @Value("${jobs.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${jobs.expiry.horizon-minutes:60}")
+    private long horizonMinutes;
+
+    // Heap entries are never removed on update; stale ones are skipped when they surface
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
+    private final Map<Long, LocalDateTime> scheduled = new HashMap<>();
+
+    @EventListener
+    public void onJobPosted(JobPostedEvent event) {
+        schedule(event.jobId(), event.applicationDeadline());
+    }
+
+    @EventListener
+    public void onJobUpdated(JobUpdatedEvent event) {
+        if (Boolean.FALSE.equals(event.isActive())) {
+            schedule(event.jobId(), null);
+        } else {
+            schedule(event.jobId(), event.applicationDeadline());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.expiry.tick-ms:1000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due;
+        while (!(due = pollDue(now)).isEmpty()) {
+            try {
+                List<Long> expired = jobService.expireJobs(due);
+                if (!expired.isEmpty()) {
+                    log.info("Expired {} jobs past their application deadline", expired.size());
+                }
+            } catch (Exception e) {
+                log.error("Failed to expire {} jobs, leaving them to the next sweep", due.size(), e);
+                return;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jobs.expiry.sweep-initial-delay-ms:10000}",
+               fixedDelayString = "${jobs.expiry.sweep-interval-ms:600000}")
+    @ClusterSingleton(lockAtMostFor = "10m", lockAtLeastFor = "1m")
+    public void sweep() {
+        try {
+            int expired = 0;
+            List<Long> batch;
+            do {
+                batch = jobService.deactivateExpiredJobs(batchSize);
+                expired += batch.size();
+            } while (batch.size() == batchSize);
+            if (expired > 0) {
+                log.info("Expiry sweep deactivated {} jobs", expired);
+            }
+        } catch (Exception e) {
+            log.error("Job expiry sweep failed", e);
+        }
+    }
+
+    // Runs on every node: each one keeps its own heap
+    @Scheduled(initialDelayString = "${jobs.expiry.sweep-initial-delay-ms:10000}",
+               fixedDelayString = "${jobs.expiry.reseed-interval-ms:300000}")
+    public void reseed() {
+        try {
+            LocalDateTime horizon = LocalDateTime.now().plusMinutes(horizonMinutes);
+            List<Object[]> upcoming = jobRepository.findActiveDeadlinesUpTo(horizon);
+            for (Object[] row : upcoming) {
+                schedule((Long) row[0], (LocalDateTime) row[1]);
+            }
+            log.debug("Expiry reseed scheduled {} upcoming deadlines", upcoming.size());
+        } catch (Exception e) {
+            log.error("Job expiry reseed failed", e);
+        }
+    }
+
+    public synchronized int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    private synchronized void schedule(Long jobId, LocalDateTime deadline) {
+        if (deadline == null) {
+            scheduled.remove(jobId);
+            return;
+        }
+        // Deadlines beyond the horizon are picked up by a later sweep
+        if (deadline.isAfter(LocalDateTime.now().plusMinutes(horizonMinutes))) {
+            scheduled.remove(jobId);
+            return;
+        }
+        if (!deadline.equals(scheduled.put(jobId, deadline))) {
+            deadlines.add(new Deadline(jobId, deadline));
+        }
+    }
+
+    private synchronized List<Long> pollDue(LocalDateTime now) {
+        List<Long> due = new ArrayList<>();
+        while (due.size() < batchSize && !deadlines.isEmpty() && !deadlines.peek().at().isAfter(now)) {
+            Deadline next = deadlines.poll();
+            if (next.at().equals(scheduled.get(next.jobId()))) {
+                scheduled.remove(next.jobId());
+                due.add(next.jobId());
+            }
+        }
+        return due;
+    }
+
+    private record Deadline(Long jobId, LocalDateTime at) implements Comparable<Deadline> {
+
+        @Override
+        public int compareTo(Deadline other) {
+            return at.compareTo(other.at);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.jobportal.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timing wheel: O(1) schedule and cancel, with each advance only touching the
+ * buckets for the ticks that elapsed. Timeouts further out than one revolution share a
+ * bucket with nearer ones and are skipped until their tick comes round. The wheel has no
+ * thread of its own; the owner calls {@link #advance(long)} from a scheduled task.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        // Round up to a power of two so the bucket index is a mask rather than a modulo
+        int buckets = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.tickMillis = tickMillis;
+        // Generic arrays can't be created directly; every slot is filled with a Bucket<T> below
+        @SuppressWarnings("unchecked")
+        Bucket<T>[] slots = (Bucket<T>[]) new Bucket<?>[buckets];
+        for (int i = 0; i < buckets; i++) {
+            slots[i] = new Bucket<>();
+        }
+        this.wheel = slots;
+        this.mask = buckets - 1;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        // Anything already due lands in the current bucket and fires on the next advance
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick);
+        Timeout<T> timeout = new Timeout<>(this, payload, tick);
+        wheel[(int) (tick & mask)].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        if (targetTick < currentTick) {
+            return expired;
+        }
+
+        // After a long pause one full revolution visits every bucket, no need to spin further
+        long lastTick = Math.min(targetTick, currentTick + mask);
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            Timeout<T> timeout = wheel[(int) (tick & mask)].head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.tick <= targetTick) {
+                    timeout.bucket.remove(timeout);
+                    size--;
+                    expired.add(timeout.payload);
+                }
+                timeout = next;
+            }
+        }
+        currentTick = targetTick + 1;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    public static final class Timeout<T> {
+
+        private final TimingWheel<T> wheel;
+        private final T payload;
+        private final long tick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> wheel, T payload, long tick) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.tick = tick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public boolean isPending() {
+            synchronized (wheel) {
+                return bucket != null;
+            }
+        }
+
+        // Returns false when the timeout already fired or was cancelled
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
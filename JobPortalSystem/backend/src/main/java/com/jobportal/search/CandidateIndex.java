@@ -0,0 +1,111 @@
+package com.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over one employer's applicants. Applications get dense local
+ * document numbers in the order they are added, so every posting list is an append-only
+ * sorted int array and an AND is a merge that starts from the rarest term.
+ */
+final class CandidateIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private long[] applicationIds = new long[16];
+    private long[] jobIds = new long[16];
+    private int size;
+
+    void add(long applicationId, long jobId, Collection<String> terms) {
+        lock.writeLock().lock();
+        try {
+            if (size == applicationIds.length) {
+                applicationIds = Arrays.copyOf(applicationIds, size * 2);
+                jobIds = Arrays.copyOf(jobIds, size * 2);
+            }
+            int doc = size++;
+            applicationIds[doc] = applicationId;
+            jobIds[doc] = jobId;
+            // Terms are distinct, so each list gets the document at most once and stays sorted
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> new Postings()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Clauses are ORed, the terms inside a clause ANDed; newest applications first
+    List<Long> search(List<List<String>> clauses, Long jobId, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = new BitSet(size);
+            for (List<String> clause : clauses) {
+                for (int doc : intersect(clause)) {
+                    matches.set(doc);
+                }
+            }
+            List<Long> result = new ArrayList<>();
+            for (int doc = matches.length() - 1; doc >= 0 && result.size() < limit; doc = matches.previousSetBit(doc - 1)) {
+                if (jobId == null || jobIds[doc] == jobId) {
+                    result.add(applicationIds[doc]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] intersect(List<String> terms) {
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+        int length = result.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            Postings other = lists.get(i);
+            int kept = 0;
+            int from = 0;
+            for (int j = 0; j < length; j++) {
+                // The candidate list is the shorter one, so search forward in the longer one
+                int found = Arrays.binarySearch(other.docs, from, other.size, result[j]);
+                if (found >= 0) {
+                    result[kept++] = result[j];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            length = kept;
+        }
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Job;
+import com.jobportal.entity.JobApplication;
+import com.jobportal.entity.User;
+import com.jobportal.event.ApplicationSubmittedEvent;
+import com.jobportal.repository.JobApplicationRepository;
+import com.jobportal.service.JobService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over each employer's applicants: resume text plus cover letter, kept in
+ * per-employer in-memory inverted indexes. New applications are indexed off the request
+ * path by a small bounded worker pool; when that pool is full the work is left to a
+ * background sync that tails job_applications by created_at, which also builds the index at
+ * startup and picks up applications submitted on other nodes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateSearchService {
+
+    private static final String ROW_SQL =
+            "SELECT a.id, a.job_id, j.posted_by, a.created_at, a.cover_letter, a.resume_url, " +
+            "u.resume_url AS profile_resume_url " +
+            "FROM job_applications a JOIN jobs j ON j.id = a.job_id JOIN users u ON u.id = a.user_id ";
+    private static final String BY_ID_SQL = ROW_SQL + "WHERE a.id = ?";
+    private static final String SYNC_SQL = ROW_SQL +
+            "WHERE a.created_at > ? OR (a.created_at = ? AND a.id > ?) ORDER BY a.created_at, a.id LIMIT ?";
+    private static final int MAX_QUERY_TERMS = 20;
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> {
+        String resumeUrl = rs.getString("resume_url");
+        if (resumeUrl == null || resumeUrl.isBlank()) {
+            resumeUrl = rs.getString("profile_resume_url");
+        }
+        return new Row(rs.getLong("id"), rs.getLong("job_id"), rs.getLong("posted_by"),
+                rs.getTimestamp("created_at").toLocalDateTime(), rs.getString("cover_letter"), resumeUrl);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResumeTextExtractor resumeTextExtractor;
+    private final JobService jobService;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    @Value("${search.candidates.workers:2}")
+    private int workers;
+
+    @Value("${search.candidates.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${search.candidates.sync-interval-ms:30000}")
+    private long syncIntervalMs;
+
+    // Re-reads this far behind the newest indexed row, for transactions that committed late
+    @Value("${search.candidates.sync-overlap-minutes:5}")
+    private long syncOverlapMinutes;
+
+    @Value("${search.candidates.page-size:500}")
+    private int pageSize;
+
+    @Value("${search.candidates.max-results:200}")
+    private int maxResults;
+
+    private final Map<Long, CandidateIndex> indexes = new ConcurrentHashMap<>();
+    // Applications indexed or being indexed; whoever adds the id first does the work
+    private final Set<Long> claimed = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+    private Thread syncThread;
+    private volatile boolean running;
+    private LocalDateTime watermark;
+
+    private record Row(long id, long jobId, long employerId, LocalDateTime createdAt,
+                       String coverLetter, String resumeUrl) {
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "candidate-indexer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSync() {
+        running = true;
+        syncThread = new Thread(this::syncLoop, "candidate-index-sync");
+        syncThread.setDaemon(true);
+        syncThread.setPriority(Thread.MIN_PRIORITY);
+        syncThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (syncThread != null) {
+            syncThread.interrupt();
+        }
+        executor.shutdownNow();
+    }
+
+    @EventListener
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        Long applicationId = event.applicationId();
+        if (!claimed.add(applicationId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    List<Row> rows = jdbcTemplate.query(BY_ID_SQL, ROW_MAPPER, applicationId);
+                    if (rows.isEmpty()) {
+                        claimed.remove(applicationId);
+                        return;
+                    }
+                    index(rows.get(0));
+                } catch (Exception e) {
+                    claimed.remove(applicationId);
+                    log.warn("Failed to index application {}", applicationId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The next sync picks it up
+            claimed.remove(applicationId);
+            log.debug("Candidate index queue full, deferring application {}", applicationId);
+        }
+    }
+
+    public List<JobApplication> search(Long jobId, String query, User user) {
+        Job job = jobService.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!job.getPostedBy().getId().equals(user.getId()) && !user.isAdmin()) {
+            throw new RuntimeException("You don't have permission to search applicants for this job");
+        }
+
+        List<List<String>> clauses = parseQuery(query);
+        if (clauses.isEmpty()) {
+            throw new RuntimeException("Search query has no searchable terms");
+        }
+        CandidateIndex index = indexes.get(job.getPostedBy().getId());
+        if (index == null) {
+            return List.of();
+        }
+
+        List<Long> ids = index.search(clauses, jobId, maxResults);
+        Map<Long, JobApplication> applications = jobApplicationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+        return ids.stream().map(applications::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // The job's applications whose resume or cover letter matches any clause, as far as indexed
+    public Set<Long> findMatching(Long employerId, Long jobId, List<List<String>> clauses) {
+        CandidateIndex index = indexes.get(employerId);
+        if (index == null || clauses.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(index.search(clauses, jobId, Integer.MAX_VALUE));
+    }
+
+    // "kubernetes AND go OR golang docker": upper-case OR separates clauses, everything else is ANDed
+    static List<List<String>> parseQuery(String query) {
+        List<List<String>> clauses = new ArrayList<>();
+        List<String> clause = new ArrayList<>();
+        int termCount = 0;
+        for (String word : query == null ? new String[0] : query.trim().split("\\s+")) {
+            if (word.equals("OR") || word.equals("||")) {
+                if (!clause.isEmpty()) {
+                    clauses.add(clause);
+                    clause = new ArrayList<>();
+                }
+            } else if (!word.equals("AND") && !word.equals("&&")) {
+                for (String term : Tokenizer.tokenize(word)) {
+                    if (termCount++ < MAX_QUERY_TERMS) {
+                        clause.add(term);
+                    }
+                }
+            }
+        }
+        if (!clause.isEmpty()) {
+            clauses.add(clause);
+        }
+        return clauses;
+    }
+
+    private void syncLoop() {
+        while (running) {
+            try {
+                sync();
+            } catch (Exception e) {
+                log.warn("Candidate index sync failed", e);
+            }
+            try {
+                Thread.sleep(syncIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void sync() {
+        LocalDateTime since = watermark == null ? LocalDateTime.of(1970, 1, 1, 0, 0)
+                : watermark.minusMinutes(syncOverlapMinutes);
+        LocalDateTime newest = watermark;
+        long lastId = 0;
+        int indexed = 0;
+        while (running) {
+            List<Row> page = jdbcTemplate.query(SYNC_SQL, ROW_MAPPER,
+                    Timestamp.valueOf(since), Timestamp.valueOf(since), lastId, pageSize);
+            for (Row row : page) {
+                since = row.createdAt();
+                lastId = row.id();
+                if (newest == null || row.createdAt().isAfter(newest)) {
+                    newest = row.createdAt();
+                }
+                if (claimed.add(row.id())) {
+                    try {
+                        index(row);
+                        indexed++;
+                    } catch (RuntimeException e) {
+                        claimed.remove(row.id());
+                        throw e;
+                    }
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+        watermark = newest;
+        if (indexed > 0) {
+            log.info("Candidate index sync added {} applications", indexed);
+        }
+    }
+
+    private void index(Row row) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.terms(row.coverLetter()));
+        Tokenizer.forEachToken(resumeTextExtractor.extract(row.resumeUrl()), terms::add);
+        indexes.computeIfAbsent(row.employerId(), id -> new CandidateIndex())
+                .add(row.id(), row.jobId(), terms);
+    }
+}
@@ -0,0 +1,286 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Job;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved job searches: instead of running every search against a new job,
+ * the job is run against the searches. Each search is filed under a single anchor, the
+ * most selective condition it requires: a character trigram of its keyword or location
+ * (both are LIKE '%...%' filters, so a matching job must contain every trigram of their
+ * literal runs), else one of its equality filters, else the catch-all list. A job probes the anchors it could satisfy
+ * and only the searches found there are checked in full, with the same rules as
+ * /api/jobs/search.
+ */
+final class PercolatorIndex {
+
+    private static final long KEYWORD = 1L << 48;
+    private static final long LOCATION = 2L << 48;
+    private static final long JOB_TYPE = 3L << 48;
+    private static final long LEVEL = 4L << 48;
+    private static final long REMOTE = 5L << 48;
+    private static final long ANY = 0;
+    // LIKE wildcards in a parsed pattern; literal chars keep their own code
+    private static final int ANY_RUN = -1;
+    private static final int ANY_CHAR = -2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    // Slots of removed or replaced searches are left null until the next rebuild
+    private Query[] queries = new Query[1024];
+    private int size;
+
+    // Keyword and location are lower-cased; null filters match anything
+    record Query(long id, long userId, String keyword, String location, Job.JobType jobType,
+                 Job.ExperienceLevel experienceLevel, Boolean isRemote) {
+
+        boolean matches(JobDocument job) {
+            return (keyword == null || like(job.title(), keyword) || like(job.description(), keyword))
+                    && (location == null || like(job.location(), location))
+                    && (jobType == null || jobType == job.jobType())
+                    && (experienceLevel == null || experienceLevel == job.experienceLevel())
+                    && (isRemote == null || isRemote.equals(job.isRemote()));
+        }
+    }
+
+    // Text fields lower-cased and never null
+    record JobDocument(String title, String description, String location, Job.JobType jobType,
+                       Job.ExperienceLevel experienceLevel, Boolean isRemote) {
+    }
+
+    void put(Query query) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(query.id());
+            if (size == queries.length) {
+                queries = Arrays.copyOf(queries, size * 2);
+            }
+            int slot = size++;
+            queries[slot] = query;
+            slotById.put(query.id(), slot);
+            postings.computeIfAbsent(anchor(query), key -> new Postings()).add(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Query> match(JobDocument job) {
+        long[] keys = keys(job);
+        lock.readLock().lock();
+        try {
+            List<Query> matches = new ArrayList<>();
+            // Each search sits under exactly one anchor, and keys are distinct, so no search is seen twice
+            for (long key : keys) {
+                Postings list = postings.get(key);
+                if (list == null) {
+                    continue;
+                }
+                for (int i = 0; i < list.size; i++) {
+                    Query query = queries[list.slots[i]];
+                    if (query != null && query.matches(job)) {
+                        matches.add(query);
+                    }
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Integer slot = slotById.remove(id);
+        if (slot != null) {
+            queries[slot] = null;
+        }
+    }
+
+    // The condition with the shortest posting list so far; trigrams before the low-cardinality filters
+    private long anchor(Query query) {
+        long best = ANY;
+        int bestSize = Integer.MAX_VALUE;
+        for (long key : patternTrigrams(KEYWORD, query.keyword())) {
+            int listSize = postingsSize(key);
+            if (listSize < bestSize) {
+                best = key;
+                bestSize = listSize;
+            }
+        }
+        for (long key : patternTrigrams(LOCATION, query.location())) {
+            int listSize = postingsSize(key);
+            if (listSize < bestSize) {
+                best = key;
+                bestSize = listSize;
+            }
+        }
+        if (best != ANY) {
+            return best;
+        }
+        List<Long> filters = new ArrayList<>(3);
+        if (query.jobType() != null) {
+            filters.add(JOB_TYPE | query.jobType().ordinal());
+        }
+        if (query.experienceLevel() != null) {
+            filters.add(LEVEL | query.experienceLevel().ordinal());
+        }
+        if (query.isRemote() != null) {
+            filters.add(REMOTE | (query.isRemote() ? 1 : 0));
+        }
+        for (long key : filters) {
+            int listSize = postingsSize(key);
+            if (listSize < bestSize) {
+                best = key;
+                bestSize = listSize;
+            }
+        }
+        return best;
+    }
+
+    private int postingsSize(long key) {
+        Postings list = postings.get(key);
+        return list == null ? 0 : list.size;
+    }
+
+    // Every anchor the job could satisfy, distinct
+    private static long[] keys(JobDocument job) {
+        long[] keys = trigrams(KEYWORD, job.title(), new long[0]);
+        keys = trigrams(KEYWORD, job.description(), keys);
+        keys = trigrams(LOCATION, job.location(), keys);
+        int count = keys.length;
+        keys = Arrays.copyOf(keys, count + 4);
+        keys[count] = ANY;
+        keys[count + 1] = job.jobType() != null ? JOB_TYPE | job.jobType().ordinal() : ANY;
+        keys[count + 2] = job.experienceLevel() != null ? LEVEL | job.experienceLevel().ordinal() : ANY;
+        keys[count + 3] = job.isRemote() != null ? REMOTE | (job.isRemote() ? 1 : 0) : ANY;
+        Arrays.sort(keys);
+        int distinct = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    // Whether text matches LIKE '%value%' as the database reads it: % and _ are wildcards, \ escapes
+    static boolean like(String text, String value) {
+        if (!hasWildcards(value)) {
+            return text.contains(value);
+        }
+        int[] pattern = parseLike(value);
+        int t = 0;
+        int p = 0;
+        int star = -1;
+        int mark = 0;
+        while (t < text.length()) {
+            if (p < pattern.length && (pattern[p] == ANY_CHAR || pattern[p] == text.charAt(t))) {
+                t++;
+                p++;
+            } else if (p < pattern.length && pattern[p] == ANY_RUN) {
+                star = p++;
+                mark = t;
+            } else if (star >= 0) {
+                p = star + 1;
+                t = ++mark;
+            } else {
+                return false;
+            }
+        }
+        while (p < pattern.length && pattern[p] == ANY_RUN) {
+            p++;
+        }
+        return p == pattern.length;
+    }
+
+    private static boolean hasWildcards(String value) {
+        return value.indexOf('%') >= 0 || value.indexOf('_') >= 0 || value.indexOf('\\') >= 0;
+    }
+
+    // '%' + value + '%' as wildcard markers and literal chars
+    private static int[] parseLike(String value) {
+        String pattern = "%" + value + "%";
+        int[] parsed = new int[pattern.length()];
+        int count = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                parsed[count++] = pattern.charAt(++i);
+            } else {
+                parsed[count++] = c == '%' ? ANY_RUN : c == '_' ? ANY_CHAR : c;
+            }
+        }
+        return Arrays.copyOf(parsed, count);
+    }
+
+    // Trigrams every text matching LIKE '%value%' contains: those of each literal run
+    private static long[] patternTrigrams(long namespace, String value) {
+        if (value == null || !hasWildcards(value)) {
+            return trigrams(namespace, value, new long[0]);
+        }
+        long[] keys = new long[0];
+        StringBuilder run = new StringBuilder();
+        for (int token : parseLike(value)) {
+            if (token >= 0) {
+                run.append((char) token);
+            } else {
+                keys = trigrams(namespace, run.toString(), keys);
+                run.setLength(0);
+            }
+        }
+        return keys;
+    }
+
+    // Appends the text's trigrams, each packed as three 16-bit chars under the namespace
+    private static long[] trigrams(long namespace, String text, long[] into) {
+        if (text == null || text.length() < 3) {
+            return into;
+        }
+        int offset = into.length;
+        long[] keys = Arrays.copyOf(into, offset + text.length() - 2);
+        for (int i = 0; i + 2 < text.length(); i++) {
+            keys[offset + i] = namespace
+                    | ((long) text.charAt(i) << 32)
+                    | ((long) text.charAt(i + 1) << 16)
+                    | text.charAt(i + 2);
+        }
+        return keys;
+    }
+
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.jobportal.search;
+
+import com.jobportal.storage.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Pulls plain text out of PDF and DOCX resumes. DOCX is read with a StAX pass over
+ * word/document.xml rather than a DOM, and text is capped, so a large upload costs bounded
+ * memory. Text of content-addressed files is cached next to them, as the file can never change.
+ * Legacy .doc and unknown formats yield no text.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeTextExtractor {
+
+    private static final String WORD_NAMESPACE = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private final FileStorageService fileStorageService;
+
+    @Value("${search.candidates.max-file-bytes:10485760}")
+    private long maxFileBytes;
+
+    @Value("${search.candidates.max-pdf-pages:30}")
+    private int maxPdfPages;
+
+    @Value("${search.candidates.max-text-chars:200000}")
+    private int maxTextChars;
+
+    private final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    // Text of the resume behind a URL saved on an application or profile; empty if there is none
+    public String extract(String url) {
+        Optional<Path> file = fileStorageService.resolveUrl(url);
+        if (file.isEmpty()) {
+            return "";
+        }
+        String storedName = FileStorageService.storedName(url);
+        Path cache = storedName != null ? fileStorageService.derivativePath(storedName, "text", "txt") : null;
+        try {
+            if (cache != null && Files.isRegularFile(cache)) {
+                return Files.readString(cache, StandardCharsets.UTF_8);
+            }
+            String text = extract(file.get());
+            if (cache != null) {
+                Path temp = Files.createTempFile(cache.getParent(), "text-", ".tmp");
+                try {
+                    Files.writeString(temp, text, StandardCharsets.UTF_8);
+                    Files.move(temp, cache, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+            return text;
+        } catch (IOException | XMLStreamException | RuntimeException e) {
+            log.warn("Failed to extract text from {}", file.get().getFileName(), e);
+            return "";
+        }
+    }
+
+    private String extract(Path file) throws IOException, XMLStreamException {
+        if (Files.size(file) > maxFileBytes) {
+            log.debug("Skipping text extraction of {}: file too large", file.getFileName());
+            return "";
+        }
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".pdf")) {
+            return extractPdf(file);
+        }
+        if (fileName.endsWith(".docx")) {
+            return extractDocx(file);
+        }
+        return "";
+    }
+
+    private String extractPdf(Path file) throws IOException {
+        // Temp-file stream cache keeps big PDFs off the heap
+        try (PDDocument document = Loader.loadPDF(file.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(maxPdfPages);
+            return truncate(stripper.getText(document));
+        }
+    }
+
+    private String extractDocx(Path file) throws IOException, XMLStreamException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry("word/document.xml");
+            if (entry == null) {
+                return "";
+            }
+            StringBuilder text = new StringBuilder();
+            try (InputStream in = zip.getInputStream(entry)) {
+                XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+                try {
+                    boolean inText = false;
+                    while (reader.hasNext() && text.length() < maxTextChars) {
+                        int event = reader.next();
+                        if (event == XMLStreamConstants.START_ELEMENT && WORD_NAMESPACE.equals(reader.getNamespaceURI())) {
+                            String name = reader.getLocalName();
+                            if (name.equals("t")) {
+                                inText = true;
+                            } else if (name.equals("tab") || name.equals("br")) {
+                                text.append(' ');
+                            }
+                        } else if (event == XMLStreamConstants.END_ELEMENT && WORD_NAMESPACE.equals(reader.getNamespaceURI())) {
+                            String name = reader.getLocalName();
+                            if (name.equals("t")) {
+                                inText = false;
+                            } else if (name.equals("p")) {
+                                text.append('\n');
+                            }
+                        } else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+            return truncate(text.toString());
+        }
+    }
+
+    private String truncate(String text) {
+        return text.length() > maxTextChars ? text.substring(0, maxTextChars) : text;
+    }
+
+    // Uploaded documents are untrusted: no DTDs, no external entities
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
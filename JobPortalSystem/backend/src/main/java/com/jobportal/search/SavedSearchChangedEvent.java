@@ -0,0 +1,5 @@
+package com.jobportal.search;
+
+// Published when a saved search is created, edited or deleted
+public record SavedSearchChangedEvent(Long savedSearchId) {
+}
@@ -0,0 +1,227 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Job;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Matches new and edited jobs against every saved search with alerts on, through a
+ * {@link PercolatorIndex} rebuilt in the background and kept current by the changes made
+ * on this node plus a sync that tails saved_searches by updated_at for the other nodes.
+ * Deletes made elsewhere are caught by re-checking matches against the table before they
+ * are returned, and dropped from the index for good at the next rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavedSearchPercolator {
+
+    private static final String SEARCH_SQL =
+            "SELECT s.id, s.user_id, s.keyword, s.location, s.job_type, s.experience_level, s.is_remote, " +
+            "s.alerts_enabled AND u.is_active AS enabled, s.updated_at " +
+            "FROM saved_searches s JOIN users u ON u.id = s.user_id ";
+    private static final String ALL_SQL = SEARCH_SQL + "WHERE s.alerts_enabled = true AND u.is_active = true";
+    private static final String BY_ID_SQL = SEARCH_SQL + "WHERE s.id = ?";
+    private static final String CHANGED_SQL = SEARCH_SQL + "WHERE s.updated_at >= ?";
+    private static final String JOB_SQL =
+            "SELECT title, description, location, job_type, experience_level, is_remote FROM jobs " +
+            "WHERE id = ? AND is_active = true AND (application_deadline IS NULL OR application_deadline > ?)";
+    private static final String ENABLED_SQL =
+            "SELECT s.id FROM saved_searches s JOIN users u ON u.id = s.user_id " +
+            "WHERE s.alerts_enabled = true AND u.is_active = true AND s.id IN ";
+    private static final int IN_CHUNK = 1000;
+
+    private static final RowMapper<PercolatorIndex.JobDocument> JOB_MAPPER = (rs, rowNum) ->
+            new PercolatorIndex.JobDocument(
+                    lower(rs.getString("title")),
+                    lower(rs.getString("description")),
+                    lower(rs.getString("location")),
+                    enumOrNull(Job.JobType.class, rs.getString("job_type")),
+                    enumOrNull(Job.ExperienceLevel.class, rs.getString("experience_level")),
+                    rs.getObject("is_remote") == null ? null : rs.getBoolean("is_remote"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${search.saved-searches.sync-interval-ms:30000}")
+    private long syncIntervalMs;
+
+    // Re-reads this far behind the last sync, for transactions that committed late
+    @Value("${search.saved-searches.sync-overlap-minutes:5}")
+    private long syncOverlapMinutes;
+
+    @Value("${search.saved-searches.rebuild-interval-ms:3600000}")
+    private long rebuildIntervalMs;
+
+    private volatile PercolatorIndex index = new PercolatorIndex();
+    private Thread syncThread;
+    private volatile boolean running;
+    private LocalDateTime lastSync;
+    private long lastRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        syncThread = new Thread(this::syncLoop, "saved-search-sync");
+        syncThread.setDaemon(true);
+        syncThread.setPriority(Thread.MIN_PRIORITY);
+        syncThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (syncThread != null) {
+            syncThread.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        try {
+            PercolatorIndex current = index;
+            current.remove(event.savedSearchId());
+            jdbcTemplate.query(BY_ID_SQL, (RowCallbackHandler) rs -> apply(current, rs), event.savedSearchId());
+        } catch (Exception e) {
+            log.warn("Failed to update saved search {} in the percolator", event.savedSearchId(), e);
+        }
+    }
+
+    // Users with an enabled saved search the job matches; empty if the job is not open
+    public Set<Long> percolate(Long jobId) {
+        List<PercolatorIndex.JobDocument> jobs =
+                jdbcTemplate.query(JOB_SQL, JOB_MAPPER, jobId, Timestamp.valueOf(LocalDateTime.now()));
+        if (jobs.isEmpty()) {
+            return Set.of();
+        }
+
+        long start = System.nanoTime();
+        List<PercolatorIndex.Query> matches = index.match(jobs.get(0));
+        long micros = (System.nanoTime() - start) / 1000;
+        if (matches.isEmpty()) {
+            log.debug("Job {} matched no saved searches in {} us", jobId, micros);
+            return Set.of();
+        }
+
+        Set<Long> enabled = enabledSearchIds(matches);
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (PercolatorIndex.Query match : matches) {
+            if (enabled.contains(match.id())) {
+                userIds.add(match.userId());
+            }
+        }
+        log.debug("Job {} matched {} saved searches for {} users in {} us",
+                jobId, matches.size(), userIds.size(), micros);
+        return userIds;
+    }
+
+    private Set<Long> enabledSearchIds(List<PercolatorIndex.Query> matches) {
+        Set<Long> enabled = new LinkedHashSet<>();
+        for (int from = 0; from < matches.size(); from += IN_CHUNK) {
+            List<PercolatorIndex.Query> chunk = matches.subList(from, Math.min(from + IN_CHUNK, matches.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            Object[] ids = chunk.stream().map(PercolatorIndex.Query::id).toArray();
+            enabled.addAll(jdbcTemplate.queryForList(ENABLED_SQL + "(" + placeholders + ")", Long.class, ids));
+        }
+        return enabled;
+    }
+
+    private void syncLoop() {
+        while (running) {
+            try {
+                if (System.currentTimeMillis() - lastRebuild >= rebuildIntervalMs) {
+                    rebuild();
+                } else {
+                    sync();
+                }
+            } catch (Exception e) {
+                log.warn("Saved search percolator sync failed", e);
+            }
+            try {
+                Thread.sleep(syncIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime syncedAt = LocalDateTime.now();
+        PercolatorIndex rebuilt = new PercolatorIndex();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J streams rows one by one instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, (RowCallbackHandler) rs -> apply(rebuilt, rs));
+        index = rebuilt;
+        lastSync = syncedAt;
+        lastRebuild = start;
+        log.info("Saved search percolator rebuilt: {} searches in {} ms",
+                rebuilt.size(), System.currentTimeMillis() - start);
+    }
+
+    private void sync() {
+        LocalDateTime syncedAt = LocalDateTime.now();
+        PercolatorIndex current = index;
+        int[] applied = {0};
+        jdbcTemplate.query(CHANGED_SQL, (RowCallbackHandler) rs -> {
+            apply(current, rs);
+            applied[0]++;
+        }, Timestamp.valueOf(lastSync.minusMinutes(syncOverlapMinutes)));
+        lastSync = syncedAt;
+        if (applied[0] > 0) {
+            log.debug("Saved search percolator sync applied {} searches", applied[0]);
+        }
+    }
+
+    private static void apply(PercolatorIndex target, ResultSet rs) throws SQLException {
+        long id = rs.getLong("id");
+        if (!rs.getBoolean("enabled")) {
+            target.remove(id);
+            return;
+        }
+        target.put(new PercolatorIndex.Query(
+                id,
+                rs.getLong("user_id"),
+                lowerOrNull(rs.getString("keyword")),
+                lowerOrNull(rs.getString("location")),
+                enumOrNull(Job.JobType.class, rs.getString("job_type")),
+                enumOrNull(Job.ExperienceLevel.class, rs.getString("experience_level")),
+                rs.getObject("is_remote") == null ? null : rs.getBoolean("is_remote")));
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // Only an empty filter matches everything in /api/jobs/search; blanks are searched for literally
+    private static String lowerOrNull(String value) {
+        return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String value) {
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+}
@@ -0,0 +1,344 @@
+package com.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index over active job seekers for employer candidate search. Seekers get dense
+ * ordinals in user id order, and every skill, location term and bio term maps to the set of
+ * ordinals that have it: a sorted int array while sparse, a bitmap once more than one seeker
+ * in 32 has it, whichever is smaller. Skills and location terms are ANDed starting from the
+ * smallest set; bio terms rank the survivors by idf and at least one of them must match.
+ */
+final class SeekerIndex {
+
+    static final SeekerIndex EMPTY = new Builder().build();
+
+    private final long[] userIds;
+    private final int size;
+    private final Map<Long, Posting> skills;
+    private final Map<String, Posting> locations;
+    private final Map<String, Posting> bios;
+
+    // One page of user ids, best first, with their scores and the total number of matches
+    record Result(long[] userIds, float[] scores, int total) {
+
+        static final Result EMPTY = new Result(new long[0], new float[0], 0);
+    }
+
+    private SeekerIndex(long[] userIds, int size, Map<Long, Posting> skills,
+                        Map<String, Posting> locations, Map<String, Posting> bios) {
+        this.userIds = userIds;
+        this.size = size;
+        this.skills = skills;
+        this.locations = locations;
+        this.bios = bios;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // At least one of the three must be non-empty; ties go to the most recently registered seeker
+    Result search(Collection<Long> skillIds, Collection<String> locationTerms, Collection<String> bioTerms,
+                  int offset, int limit) {
+        List<Posting> required = new ArrayList<>();
+        for (Long skillId : skillIds) {
+            Posting posting = skills.get(skillId);
+            if (posting == null) {
+                return Result.EMPTY;
+            }
+            required.add(posting);
+        }
+        for (String term : locationTerms) {
+            Posting posting = locations.get(term);
+            if (posting == null) {
+                return Result.EMPTY;
+            }
+            required.add(posting);
+        }
+        List<Posting> ranking = new ArrayList<>();
+        for (String term : bioTerms) {
+            Posting posting = bios.get(term);
+            if (posting != null) {
+                ranking.add(posting);
+            }
+        }
+        if (!bioTerms.isEmpty() && ranking.isEmpty()) {
+            return Result.EMPTY;
+        }
+
+        int[] docs = required.isEmpty() ? union(ranking) : intersect(required);
+        float[] scores = new float[docs.length];
+        int total = docs.length;
+        if (!ranking.isEmpty()) {
+            for (Posting term : ranking) {
+                term.score(docs, total, scores, (float) Math.log(1 + (double) size / term.cardinality));
+            }
+            if (!required.isEmpty()) {
+                // Drop seekers none of the bio terms matched
+                int kept = 0;
+                for (int i = 0; i < total; i++) {
+                    if (scores[i] > 0) {
+                        docs[kept] = docs[i];
+                        scores[kept++] = scores[i];
+                    }
+                }
+                total = kept;
+            }
+        }
+
+        int from = Math.min(offset, total);
+        int to = (int) Math.min((long) from + limit, total);
+        long[] pageIds = new long[to - from];
+        float[] pageScores = new float[to - from];
+        if (ranking.isEmpty()) {
+            // Nothing to rank by, and docs are ascending
+            for (int i = from; i < to; i++) {
+                pageIds[i - from] = userIds[docs[total - 1 - i]];
+            }
+            return new Result(pageIds, pageScores, total);
+        }
+        long[] top = top(docs, scores, total, to);
+        for (int i = from; i < to; i++) {
+            long key = top[top.length - 1 - i];
+            pageIds[i - from] = userIds[(int) key];
+            pageScores[i - from] = Float.intBitsToFloat((int) (key >>> 32));
+        }
+        return new Result(pageIds, pageScores, total);
+    }
+
+    private static int[] intersect(List<Posting> postings) {
+        postings.sort(Comparator.comparingInt(posting -> posting.cardinality));
+        int[] result = postings.get(0).toArray();
+        int length = result.length;
+        for (int i = 1; i < postings.size() && length > 0; i++) {
+            length = postings.get(i).retain(result, length);
+        }
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    private int[] union(List<Posting> postings) {
+        long[] bits = new long[(size + 63) >>> 6];
+        for (Posting posting : postings) {
+            posting.addTo(bits);
+        }
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        int[] docs = new int[count];
+        int next = 0;
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                docs[next++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return docs;
+    }
+
+    // The k best as ascending (score bits << 32 | doc) keys; positive float bits order like the floats
+    private static long[] top(int[] docs, float[] scores, int n, int k) {
+        long[] heap = new long[Math.min(k, n)];
+        int heapSize = 0;
+        for (int i = 0; i < n; i++) {
+            long key = ((long) Float.floatToIntBits(scores[i]) << 32) | docs[i];
+            if (heapSize < heap.length) {
+                heap[heapSize++] = key;
+                for (int child = heapSize - 1; child > 0 && heap[(child - 1) >>> 1] > heap[child]; child = (child - 1) >>> 1) {
+                    swap(heap, child, (child - 1) >>> 1);
+                }
+            } else if (heap.length > 0 && key > heap[0]) {
+                heap[0] = key;
+                int parent = 0;
+                while (true) {
+                    int smallest = parent;
+                    int left = 2 * parent + 1;
+                    if (left < heapSize && heap[left] < heap[smallest]) {
+                        smallest = left;
+                    }
+                    if (left + 1 < heapSize && heap[left + 1] < heap[smallest]) {
+                        smallest = left + 1;
+                    }
+                    if (smallest == parent) {
+                        break;
+                    }
+                    swap(heap, parent, smallest);
+                    parent = smallest;
+                }
+            }
+        }
+        Arrays.sort(heap, 0, heapSize);
+        return heap;
+    }
+
+    private static void swap(long[] heap, int i, int j) {
+        long tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    private static final class Posting {
+
+        // Exactly one of docs and bits is set
+        private final int[] docs;
+        private final long[] bits;
+        private final int cardinality;
+
+        private Posting(int[] docs, long[] bits, int cardinality) {
+            this.docs = docs;
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        private static Posting of(int[] sortedDocs, int count, int universe) {
+            if ((long) count * 32 <= universe) {
+                return new Posting(Arrays.copyOf(sortedDocs, count), null, count);
+            }
+            long[] bits = new long[(universe + 63) >>> 6];
+            for (int i = 0; i < count; i++) {
+                bits[sortedDocs[i] >>> 6] |= 1L << sortedDocs[i];
+            }
+            return new Posting(null, bits, count);
+        }
+
+        private int[] toArray() {
+            if (docs != null) {
+                return docs.clone();
+            }
+            int[] result = new int[cardinality];
+            int next = 0;
+            for (int w = 0; w < bits.length; w++) {
+                for (long word = bits[w]; word != 0; word &= word - 1) {
+                    result[next++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                }
+            }
+            return result;
+        }
+
+        // Keeps the candidates in this set, compacting them to the front; returns how many remain
+        private int retain(int[] candidates, int length) {
+            int kept = 0;
+            if (bits != null) {
+                for (int i = 0; i < length; i++) {
+                    int doc = candidates[i];
+                    if ((bits[doc >>> 6] & (1L << doc)) != 0) {
+                        candidates[kept++] = doc;
+                    }
+                }
+                return kept;
+            }
+            int from = 0;
+            for (int i = 0; i < length && from < docs.length; i++) {
+                // Both are ascending, so each search starts where the last one ended
+                int found = Arrays.binarySearch(docs, from, docs.length, candidates[i]);
+                if (found >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return kept;
+        }
+
+        private void score(int[] candidates, int length, float[] scores, float weight) {
+            if (bits != null) {
+                for (int i = 0; i < length; i++) {
+                    int doc = candidates[i];
+                    if ((bits[doc >>> 6] & (1L << doc)) != 0) {
+                        scores[i] += weight;
+                    }
+                }
+                return;
+            }
+            int from = 0;
+            for (int i = 0; i < length && from < docs.length; i++) {
+                int found = Arrays.binarySearch(docs, from, docs.length, candidates[i]);
+                if (found >= 0) {
+                    scores[i] += weight;
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+        }
+
+        private void addTo(long[] target) {
+            if (bits != null) {
+                for (int w = 0; w < bits.length; w++) {
+                    target[w] |= bits[w];
+                }
+                return;
+            }
+            for (int doc : docs) {
+                target[doc >>> 6] |= 1L << doc;
+            }
+        }
+    }
+
+    // Seekers must be added in ascending user id order
+    static final class Builder {
+
+        private long[] userIds = new long[1024];
+        private int size;
+        private final Map<Long, IntList> skills = new HashMap<>();
+        private final Map<String, IntList> locations = new HashMap<>();
+        private final Map<String, IntList> bios = new HashMap<>();
+
+        void addSeeker(long userId, Collection<String> locationTerms, Collection<String> bioTerms) {
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+            }
+            int doc = size++;
+            userIds[doc] = userId;
+            // Terms are distinct, so each list gets the seeker at most once and stays sorted
+            for (String term : locationTerms) {
+                locations.computeIfAbsent(term, t -> new IntList()).add(doc);
+            }
+            for (String term : bioTerms) {
+                bios.computeIfAbsent(term, t -> new IntList()).add(doc);
+            }
+        }
+
+        // Calls must come in ascending user id order; skills of users not added are ignored
+        void addSkill(long userId, long skillId) {
+            int doc = Arrays.binarySearch(userIds, 0, size, userId);
+            if (doc >= 0) {
+                skills.computeIfAbsent(skillId, id -> new IntList()).add(doc);
+            }
+        }
+
+        SeekerIndex build() {
+            return new SeekerIndex(Arrays.copyOf(userIds, size), size,
+                    freeze(skills, size), freeze(locations, size), freeze(bios, size));
+        }
+
+        private static <K> Map<K, Posting> freeze(Map<K, IntList> lists, int universe) {
+            Map<K, Posting> postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+            lists.forEach((key, list) -> postings.put(key, Posting.of(list.docs, list.size, universe)));
+            return postings;
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
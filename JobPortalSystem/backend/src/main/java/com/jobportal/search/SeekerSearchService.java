@@ -0,0 +1,160 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.User;
+import com.jobportal.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Candidate search for employers over active job seekers by skills, location and bio. The
+ * {@link SeekerIndex} is rebuilt in the background from users and user_skills and swapped in
+ * whole; profile changes show up at the next rebuild, and seekers deactivated since are
+ * dropped when a page is loaded.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeekerSearchService {
+
+    private static final String SEEKERS_SQL =
+            "SELECT id, location, bio FROM users WHERE role = 'JOB_SEEKER' AND is_active = true ORDER BY id";
+    private static final String SEEKER_SKILLS_SQL =
+            "SELECT us.user_id, us.skill_id FROM user_skills us JOIN users u ON u.id = us.user_id " +
+            "WHERE u.role = 'JOB_SEEKER' AND u.is_active = true ORDER BY us.user_id";
+    private static final int MAX_SKILLS = 20;
+    private static final int MAX_QUERY_TERMS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+
+    @Value("${search.seekers.rebuild-interval-ms:600000}")
+    private long rebuildIntervalMs;
+
+    @Value("${search.seekers.max-page-size:100}")
+    private int maxPageSize;
+
+    private volatile SeekerIndex index = SeekerIndex.EMPTY;
+    private Thread rebuildThread;
+    private volatile boolean running;
+
+    public record ScoredSeeker(User user, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        rebuildThread = new Thread(this::rebuildLoop, "seeker-index-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.setPriority(Thread.MIN_PRIORITY);
+        rebuildThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (rebuildThread != null) {
+            rebuildThread.interrupt();
+        }
+    }
+
+    // Seekers with all the skills and location terms, ranked by how well their bio matches the keywords
+    public Page<ScoredSeeker> search(List<Long> skillIds, String location, String keywords, User user,
+                                     Pageable pageable) {
+        if (!user.isEmployer() && !user.isAdmin()) {
+            throw new RuntimeException("Only employers can search candidates");
+        }
+        Set<Long> skills = skillIds == null ? Set.of() : new LinkedHashSet<>(skillIds);
+        if (skills.size() > MAX_SKILLS) {
+            throw new RuntimeException("Search can filter on at most " + MAX_SKILLS + " skills");
+        }
+        Set<String> locationTerms = limit(Tokenizer.terms(location));
+        Set<String> bioTerms = limit(Tokenizer.terms(keywords));
+        if (skills.isEmpty() && locationTerms.isEmpty() && bioTerms.isEmpty()) {
+            throw new RuntimeException("Search needs at least one skill, location or keyword");
+        }
+
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), maxPageSize));
+        long start = System.nanoTime();
+        SeekerIndex.Result result = index.search(skills, locationTerms, bioTerms,
+                (int) Math.min(page.getOffset(), Integer.MAX_VALUE), page.getPageSize());
+        log.debug("Candidate search matched {} seekers in {} us", result.total(), (System.nanoTime() - start) / 1000);
+
+        List<Long> ids = new ArrayList<>(result.userIds().length);
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < result.userIds().length; i++) {
+            ids.add(result.userIds()[i]);
+            scores.put(result.userIds()[i], (double) result.scores()[i]);
+        }
+        // Seekers deactivated since the last rebuild are left out of the page
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .filter(seeker -> seeker.isJobSeeker() && Boolean.TRUE.equals(seeker.getIsActive()))
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<ScoredSeeker> seekers = ids.stream()
+                .filter(users::containsKey)
+                .map(id -> new ScoredSeeker(users.get(id), scores.get(id)))
+                .collect(Collectors.toList());
+        return new PageImpl<>(seekers, page, result.total());
+    }
+
+    private static Set<String> limit(Set<String> terms) {
+        return terms.stream().limit(MAX_QUERY_TERMS).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void rebuildLoop() {
+        while (running) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Failed to rebuild the seeker index", e);
+            }
+            try {
+                Thread.sleep(rebuildIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        SeekerIndex.Builder builder = new SeekerIndex.Builder();
+        stream(SEEKERS_SQL, rs -> builder.addSeeker(rs.getLong(1),
+                Tokenizer.terms(rs.getString(2)), Tokenizer.terms(rs.getString(3))));
+        stream(SEEKER_SKILLS_SQL, rs -> builder.addSkill(rs.getLong(1), rs.getLong(2)));
+        SeekerIndex rebuilt = builder.build();
+        index = rebuilt;
+        log.info("Seeker index rebuilt: {} seekers in {} ms", rebuilt.size(), System.currentTimeMillis() - start);
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J streams rows one by one instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, handler);
+    }
+}
@@ -0,0 +1,334 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Job;
+import com.jobportal.event.JobExpiredEvent;
+import com.jobportal.event.JobPostedEvent;
+import com.jobportal.event.JobUpdatedEvent;
+import com.jobportal.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "Similar jobs" over the active catalog with MinHash and locality-sensitive hashing. Each
+ * job's features (title terms, skills, category, level) are reduced to a 64-value MinHash
+ * signature cut into 16 bands of 4; jobs sharing any band hash share a bucket. A lookup
+ * reads the job's 16 buckets, takes a bounded number of candidates, and re-ranks them by
+ * exact Jaccard similarity, so its cost does not grow with the catalog. Posted, updated and
+ * expired jobs are applied as they happen on this node; a periodic rebuild catches up with
+ * changes made elsewhere, including deletes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarJobService {
+
+    private static final String ACTIVE = "j.is_active = true AND (j.application_deadline IS NULL OR j.application_deadline > ?)";
+    private static final String JOBS_SQL =
+            "SELECT j.id, j.title, j.category_id, j.experience_level FROM jobs j WHERE " + ACTIVE;
+    private static final String JOB_SKILLS_SQL =
+            "SELECT js.job_id, js.skill_id FROM job_skills js JOIN jobs j ON j.id = js.job_id WHERE " + ACTIVE;
+    private static final String JOB_BY_ID_SQL =
+            "SELECT j.id, j.title, j.category_id, j.experience_level FROM jobs j WHERE j.id = ?";
+    private static final String SKILLS_BY_JOB_SQL = "SELECT job_id, skill_id FROM job_skills WHERE job_id = ?";
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final long[] SEEDS = new SplittableRandom(0x5EED_CAFEL).longs(BANDS * ROWS).toArray();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobRepository jobRepository;
+
+    @Value("${jobs.similar.max-candidates:200}")
+    private int maxCandidates;
+
+    @Value("${jobs.similar.max-results:20}")
+    private int maxResults;
+
+    @Value("${jobs.similar.rebuild-interval-ms:600000}")
+    private long rebuildIntervalMs;
+
+    private volatile Index index = new Index();
+    private Thread rebuildThread;
+    private volatile boolean running;
+
+    // A job's exact feature set, sorted, plus the buckets it is filed under
+    private record Entry(long[] features, long[] bucketKeys) {
+    }
+
+    private static final class Index {
+
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+        private void put(long jobId, long[] features) {
+            Entry entry = new Entry(features, bucketKeys(features));
+            Entry previous = entries.put(jobId, entry);
+            if (previous != null) {
+                unfile(jobId, previous);
+            }
+            for (long key : entry.bucketKeys()) {
+                buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(jobId);
+            }
+        }
+
+        private void remove(long jobId) {
+            Entry previous = entries.remove(jobId);
+            if (previous != null) {
+                unfile(jobId, previous);
+            }
+        }
+
+        private void unfile(long jobId, Entry entry) {
+            for (long key : entry.bucketKeys()) {
+                buckets.computeIfPresent(key, (k, members) -> {
+                    members.remove(jobId);
+                    return members.isEmpty() ? null : members;
+                });
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        rebuildThread = new Thread(this::rebuildLoop, "similar-jobs-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (rebuildThread != null) {
+            rebuildThread.interrupt();
+        }
+    }
+
+    @EventListener
+    public void onJobPosted(JobPostedEvent event) {
+        reindex(event.jobId());
+    }
+
+    @EventListener
+    public void onJobUpdated(JobUpdatedEvent event) {
+        if (Boolean.FALSE.equals(event.isActive())) {
+            index.remove(event.jobId());
+        } else {
+            reindex(event.jobId());
+        }
+    }
+
+    @EventListener
+    public void onJobExpired(JobExpiredEvent event) {
+        index.remove(event.jobId());
+    }
+
+    // Active jobs most similar to the given one, best first
+    public List<Job> findSimilar(Long jobId, int limit) {
+        Index current = index;
+        Entry entry = current.entries.get(jobId);
+        if (entry == null) {
+            // Inactive or not yet indexed: its neighbours can still be looked up
+            long[] features = loadFeatures(jobId);
+            if (features == null) {
+                throw new RuntimeException("Job not found");
+            }
+            entry = new Entry(features, bucketKeys(features));
+        }
+
+        Set<Long> candidates = new LinkedHashSet<>();
+        collect:
+        for (long key : entry.bucketKeys()) {
+            Set<Long> members = current.buckets.get(key);
+            if (members == null) {
+                continue;
+            }
+            for (Long member : members) {
+                if (!member.equals(jobId)) {
+                    candidates.add(member);
+                    if (candidates.size() >= maxCandidates) {
+                        break collect;
+                    }
+                }
+            }
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (Long candidate : candidates) {
+            Entry other = current.entries.get(candidate);
+            if (other != null) {
+                scores.put(candidate, jaccard(entry.features(), other.features()));
+            }
+        }
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(Math.max(1, Math.min(limit, maxResults)))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        Map<Long, Job> jobs = jobRepository.findAllById(ranked).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ranked.stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .filter(job -> Boolean.TRUE.equals(job.getIsActive()) && !job.isExpired())
+                .collect(Collectors.toList());
+    }
+
+    private void reindex(long jobId) {
+        try {
+            long[] features = loadFeatures(jobId);
+            if (features != null) {
+                index.put(jobId, features);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to index job {} for similar jobs", jobId, e);
+        }
+    }
+
+    private long[] loadFeatures(long jobId) {
+        Map<Long, Set<Long>> features = new HashMap<>();
+        jdbcTemplate.query(JOB_BY_ID_SQL, (RowCallbackHandler) rs -> addJobFeatures(rs, features), jobId);
+        if (features.isEmpty()) {
+            return null;
+        }
+        jdbcTemplate.query(SKILLS_BY_JOB_SQL, (RowCallbackHandler) rs -> addSkillFeature(rs, features), jobId);
+        return toSorted(features.get(jobId));
+    }
+
+    private void rebuildLoop() {
+        while (running) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Failed to rebuild the similar jobs index", e);
+            }
+            try {
+                Thread.sleep(rebuildIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    // Built to the side and swapped in; an update that lands mid-rebuild is picked up by the next one
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Set<Long>> features = new HashMap<>();
+        jdbcTemplate.query(JOBS_SQL, (RowCallbackHandler) rs -> addJobFeatures(rs, features), now);
+        jdbcTemplate.query(JOB_SKILLS_SQL, (RowCallbackHandler) rs -> addSkillFeature(rs, features), now);
+
+        Index rebuilt = new Index();
+        features.forEach((jobId, jobFeatures) -> rebuilt.put(jobId, toSorted(jobFeatures)));
+        index = rebuilt;
+        log.info("Similar jobs index rebuilt: {} jobs in {} buckets in {} ms",
+                rebuilt.entries.size(), rebuilt.buckets.size(), System.currentTimeMillis() - start);
+    }
+
+    private static void addJobFeatures(ResultSet rs, Map<Long, Set<Long>> features) throws SQLException {
+        Set<Long> jobFeatures = features.computeIfAbsent(rs.getLong("id"), id -> new LinkedHashSet<>());
+        Tokenizer.forEachToken(rs.getString("title"), term -> jobFeatures.add(feature("t:" + term)));
+        long categoryId = rs.getLong("category_id");
+        if (!rs.wasNull()) {
+            jobFeatures.add(feature("c:" + categoryId));
+        }
+        String level = rs.getString("experience_level");
+        if (level != null) {
+            jobFeatures.add(feature("e:" + level));
+        }
+    }
+
+    private static void addSkillFeature(ResultSet rs, Map<Long, Set<Long>> features) throws SQLException {
+        Set<Long> jobFeatures = features.get(rs.getLong("job_id"));
+        if (jobFeatures != null) {
+            jobFeatures.add(feature("s:" + rs.getLong("skill_id")));
+        }
+    }
+
+    private static long[] toSorted(Set<Long> features) {
+        long[] sorted = features.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    static long[] bucketKeys(long[] features) {
+        long[] signature = new long[SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long feature : features) {
+            for (int i = 0; i < SEEDS.length; i++) {
+                long hash = mix(feature ^ SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                key = mix(key ^ signature[band * ROWS + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    static double jaccard(long[] a, long[] b) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = a.length + b.length - shared;
+        return union == 0 ? 0 : (double) shared / union;
+    }
+
+    static long feature(String value) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return mix(hash);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobportal.search;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton whose alphabet is {@link Tokenizer} terms rather than characters:
+ * a pattern is a sequence of terms, so matches always fall on term boundaries. Immutable
+ * once built; matching is one pass over the text's terms whatever the number of patterns.
+ */
+final class SkillAutomaton {
+
+    static final SkillAutomaton EMPTY = new Builder().build();
+
+    private final Node root;
+    private final int patternCount;
+
+    private SkillAutomaton(Node root, int patternCount) {
+        this.root = root;
+        this.patternCount = patternCount;
+    }
+
+    int patternCount() {
+        return patternCount;
+    }
+
+    // Adds the ids of every pattern found in the text, in order of first occurrence
+    void match(CharSequence text, Set<Long> found) {
+        Node[] state = {root};
+        Tokenizer.forEachToken(text, term -> {
+            Node node = state[0];
+            Node next = node.next.get(term);
+            while (next == null && node != root) {
+                node = node.fail;
+                next = node.next.get(term);
+            }
+            state[0] = next != null ? next : root;
+            for (long id : state[0].outputs) {
+                found.add(id);
+            }
+        });
+    }
+
+    static final class Builder {
+
+        private final Node root = new Node();
+        private int patternCount;
+
+        // Patterns that reduce to no terms (only stop words or punctuation) are ignored
+        Builder add(String pattern, long id) {
+            List<String> terms = Tokenizer.tokenize(pattern);
+            if (terms.isEmpty()) {
+                return this;
+            }
+            Node node = root;
+            for (String term : terms) {
+                node = node.next.computeIfAbsent(term, t -> new Node());
+            }
+            if (Arrays.stream(node.outputs).noneMatch(existing -> existing == id)) {
+                node.outputs = append(node.outputs, id);
+            }
+            patternCount++;
+            return this;
+        }
+
+        SkillAutomaton build() {
+            // Breadth-first, so every fail link points at an already finished shallower node
+            Queue<Node> queue = new ArrayDeque<>();
+            root.fail = root;
+            for (Node child : root.next.values()) {
+                child.fail = root;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                Node node = queue.remove();
+                for (Map.Entry<String, Node> entry : node.next.entrySet()) {
+                    Node child = entry.getValue();
+                    Node fail = node.fail;
+                    while (fail != root && !fail.next.containsKey(entry.getKey())) {
+                        fail = fail.fail;
+                    }
+                    Node target = fail.next.get(entry.getKey());
+                    child.fail = target != null && target != child ? target : root;
+                    // A match here also completes every pattern that ends at the fail target
+                    child.outputs = merge(child.outputs, child.fail.outputs);
+                    queue.add(child);
+                }
+            }
+            return new SkillAutomaton(root, patternCount);
+        }
+
+        private static long[] append(long[] ids, long id) {
+            long[] result = Arrays.copyOf(ids, ids.length + 1);
+            result[ids.length] = id;
+            return result;
+        }
+
+        private static long[] merge(long[] own, long[] inherited) {
+            if (inherited.length == 0) {
+                return own;
+            }
+            Set<Long> ids = new LinkedHashSet<>();
+            for (long id : own) {
+                ids.add(id);
+            }
+            for (long id : inherited) {
+                ids.add(id);
+            }
+            return ids.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> next = new HashMap<>();
+        private Node fail;
+        private long[] outputs = new long[0];
+    }
+}
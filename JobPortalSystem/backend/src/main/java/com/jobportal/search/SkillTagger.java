@@ -0,0 +1,88 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Skill;
+import com.jobportal.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the active skills mentioned in free text, by name or alias, with a single pass
+ * over the text. The automaton is rebuilt off to the side and swapped in whole, right
+ * after a local skill change commits and, for changes made on other nodes, whenever the
+ * periodic check sees the skills table change. Soft skills, names shorter than three
+ * characters and names that are also everyday words are left out, as they match prose far
+ * more often than they mean the skill; such skills can still be found by a longer alias.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillTagger {
+
+    private static final int MIN_PATTERN_LENGTH = 3;
+
+    // Skill names that read as ordinary English in a job ad ("react quickly", "go the extra mile")
+    private static final Set<String> AMBIGUOUS = Set.of(
+            "go", "rust", "swift", "react", "spring", "express", "flask", "oracle", "ruby", "dart",
+            "elm", "chef", "puppet", "salt", "excel", "word", "access", "shell", "unity");
+
+    private final SkillRepository skillRepository;
+
+    private volatile SkillAutomaton automaton = SkillAutomaton.EMPTY;
+    private volatile String version;
+
+    public Set<Long> tag(String... texts) {
+        SkillAutomaton current = automaton;
+        Set<Long> skillIds = new LinkedHashSet<>();
+        for (String text : texts) {
+            current.match(text, skillIds);
+        }
+        return skillIds;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillsChanged(SkillsChangedEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${skills.tagger.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        if (!skillRepository.findVersion().equals(version)) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        String currentVersion = skillRepository.findVersion();
+        List<Skill> skills = skillRepository.findByIsActiveTrueOrderByNameAsc();
+        SkillAutomaton.Builder builder = new SkillAutomaton.Builder();
+        for (Skill skill : skills) {
+            if (skill.getCategory() == Skill.SkillCategory.SOFT_SKILLS) {
+                continue;
+            }
+            addIfTaggable(builder, skill.getName(), skill.getId());
+            if (skill.getAliases() != null) {
+                // Comma-separated, e.g. "golang" for Go
+                for (String alias : skill.getAliases().split(",")) {
+                    addIfTaggable(builder, alias, skill.getId());
+                }
+            }
+        }
+        automaton = builder.build();
+        version = currentVersion;
+        log.info("Skill tagger rebuilt with {} patterns for {} skills", automaton.patternCount(), skills.size());
+    }
+
+    private static void addIfTaggable(SkillAutomaton.Builder builder, String pattern, long skillId) {
+        String normalized = String.join(" ", Tokenizer.tokenize(pattern));
+        if (normalized.length() >= MIN_PATTERN_LENGTH && !AMBIGUOUS.contains(normalized)) {
+            builder.add(pattern, skillId);
+        }
+    }
+}
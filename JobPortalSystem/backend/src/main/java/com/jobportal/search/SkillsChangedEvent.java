@@ -0,0 +1,5 @@
+package com.jobportal.search;
+
+// Published when skills are added, edited, removed or (de)activated
+public record SkillsChangedEvent() {
+}
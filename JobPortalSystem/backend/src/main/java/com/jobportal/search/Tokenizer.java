@@ -0,0 +1,74 @@
+package com.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits free text into lower-case search terms in one pass. Letters and digits form terms;
+ * '+' and '#' directly after a term stay with it (c++, c#) and a '.' between two term
+ * characters is kept (node.js, asp.net), so technology names survive. Common English stop
+ * words and overlong runs are dropped. Indexing and querying must both go through here.
+ */
+public final class Tokenizer {
+
+    public static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "i", "in",
+            "is", "of", "on", "or", "our", "that", "the", "this", "to", "was", "we", "were", "will",
+            "with", "you", "your");
+
+    private Tokenizer() {
+    }
+
+    public static void forEachToken(CharSequence text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder token = new StringBuilder();
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if ((c == '+' || c == '#') && token.length() > 0) {
+                token.append(c);
+            } else if (c == '.' && token.length() > 0 && Character.isLetterOrDigit(text.charAt(i - 1))
+                    && i + 1 < length && Character.isLetterOrDigit(text.charAt(i + 1))) {
+                token.append(c);
+            } else {
+                emit(token, consumer);
+            }
+        }
+        emit(token, consumer);
+    }
+
+    public static List<String> tokenize(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+
+    // Distinct terms in first-seen order
+    public static Set<String> terms(CharSequence text) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachToken(text, terms::add);
+        return terms;
+    }
+
+    private static void emit(StringBuilder token, Consumer<String> consumer) {
+        if (token.length() == 0) {
+            return;
+        }
+        if (token.length() <= MAX_TOKEN_LENGTH) {
+            String term = token.toString();
+            if (!STOP_WORDS.contains(term)) {
+                consumer.accept(term);
+            }
+        }
+        token.setLength(0);
+    }
+}
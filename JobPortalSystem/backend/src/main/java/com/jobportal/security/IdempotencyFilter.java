@@ -0,0 +1,214 @@
+package com.jobportal.security;
+
+import com.jobportal.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Honors the Idempotency-Key header on create endpoints that clients retry. The first
+ * request with a key runs normally and its response is stored; replays get the stored
+ * response without touching the controller, and a replay that arrives while the original
+ * is still running gets 409.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final List<String> IDEMPOTENT_POSTS = List.of(
+            "/api/applications",
+            "/api/jobs",
+            "/api/saved-jobs/{jobId}"
+    );
+
+    private final IdempotencyService idempotencyService;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || !StringUtils.hasText(request.getHeader(HEADER))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return IDEMPOTENT_POSTS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId = currentUserId();
+        String key = request.getHeader(HEADER).trim();
+        if (userId == null) {
+            // Let security reject the request as usual
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = fingerprint(request, cachedRequest.body);
+
+        IdempotencyService.Outcome outcome = idempotencyService.begin(userId, key, requestHash);
+        switch (outcome.type()) {
+            case REPLAY -> {
+                replay(response, outcome.response());
+                return;
+            }
+            case IN_PROGRESS -> {
+                writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still being processed");
+                return;
+            }
+            case MISMATCH -> {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, HEADER + " was already used for a different request");
+                return;
+            }
+            default -> {
+            }
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+            int status = cachingResponse.getStatus();
+            if (status < 500) {
+                idempotencyService.complete(userId, key, requestHash, status, cachingResponse.getContentType(),
+                        new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                releaseQuietly(userId, key);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyService.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + status.getReasonPhrase() + "\",\"message\":\"" + message + "\"}");
+    }
+
+    private void releaseQuietly(Long userId, String key) {
+        try {
+            idempotencyService.release(userId, key);
+        } catch (Exception e) {
+            // The key stays IN_PROGRESS until it expires
+            log.warn("Failed to release idempotency key {} for user {}", key, userId, e);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Reads the body up front so it can be hashed and still be read by the controller
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
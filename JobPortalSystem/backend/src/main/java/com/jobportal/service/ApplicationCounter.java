@@ -0,0 +1,83 @@
+package com.jobportal.service;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.event.ApplicationSubmittedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind counter for jobs.applications_count. Increments are summed in memory and
+ * flushed as one atomic UPDATE per job, so a burst on a hot job costs one short row lock
+ * per flush instead of one per application. This is not lossless: the column runs up to
+ * one flush interval behind, and deltas not yet flushed when a node dies stay missing until
+ * the periodic reconcile recounts the job from job_applications. The reconcile leaves alone
+ * any job whose submitted events are undelivered or were delivered within the settle window,
+ * since their deltas may still be on their way and would be counted twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationCounter {
+
+    private final JobService jobService;
+
+    @Value("${jobs.counters.reconcile-lookback-hours:48}")
+    private long reconcileLookbackHours;
+
+    // Much longer than a flush interval, so a delivered event's delta has been flushed
+    @Value("${jobs.counters.reconcile-settle-minutes:10}")
+    private long reconcileSettleMinutes;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long jobId) {
+        pending.computeIfAbsent(jobId, id -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.counters.flush-interval-ms:1000}")
+    public void flush() {
+        // One short transaction per job, so a flush never holds two jobs rows at once
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long jobId = entry.getKey();
+            // Adders stay in the map so an increment racing with the flush is never dropped
+            LongAdder adder = entry.getValue();
+            int delta = (int) adder.sumThenReset();
+            if (delta == 0) {
+                continue;
+            }
+            try {
+                jobService.incrementApplications(jobId, delta);
+            } catch (Exception e) {
+                log.warn("Failed to flush {} applications for job {}, retrying next flush", delta, jobId, e);
+                adder.add(delta);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(cron = "${jobs.counters.reconcile-cron:0 30 4 * * *}")
+    @ClusterSingleton(lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jobService.reconcileApplicationCounts(now.minusHours(reconcileLookbackHours),
+                ApplicationSubmittedEvent.class.getName(), now.minusMinutes(reconcileSettleMinutes));
+        log.info("Reconciled application counts for {} jobs", updated);
+    }
+
+    public long getPendingCount() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
@@ -0,0 +1,174 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Streams a job's applications with the applicant summary straight from a forward-only
+ * result set to the response, one row at a time, so memory use does not grow with the
+ * number of applications.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT a.id, a.status, a.applied_at, a.reviewed_at, a.interview_scheduled_at, a.resume_url, " +
+            "a.cover_letter, a.notes, u.id AS user_id, u.first_name, u.last_name, u.email, u.phone, u.location " +
+            "FROM job_applications a JOIN users u ON u.id = a.user_id " +
+            "WHERE a.job_id = ? ORDER BY a.id";
+    private static final String[] HEADER = {
+            "applicationId", "status", "appliedAt", "reviewedAt", "interviewScheduledAt", "resumeUrl",
+            "coverLetter", "notes", "userId", "firstName", "lastName", "email", "phone", "location"
+    };
+    private static final String POSTER_SQL = "SELECT posted_by FROM jobs WHERE id = ?";
+    private static final String ROLE_SQL = "SELECT role FROM users WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    // Checked before the response is committed, so errors still produce a normal error body.
+    // Plain JDBC, so no JPA session (and its connection) stays open for the download
+    public void checkExportAccess(Long jobId, Long userId) {
+        Long postedBy = jdbcTemplate.queryForList(POSTER_SQL, Long.class, jobId).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!postedBy.equals(userId)
+                && !jdbcTemplate.queryForList(ROLE_SQL, String.class, userId).contains(User.Role.ADMIN.name())) {
+            throw new RuntimeException("You don't have permission to export applications for this job");
+        }
+    }
+
+    public void export(Long jobId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // Connector/J streams rows one by one instead of buffering the whole result
+                statement.setFetchSize(Integer.MIN_VALUE);
+                statement.setLong(1, jobId);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                try {
+                    rowWriter.write(resultSet);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            log.info("Export of applications for job {} stopped after {} rows: {}", jobId, rows[0], e.getMessage());
+            throw e.getCause();
+        }
+        rowWriter.finish();
+        writer.flush();
+        log.info("Exported {} applications for job {} as {}", rows[0], jobId, format);
+    }
+
+    private interface RowWriter {
+        void write(ResultSet resultSet) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CsvWriter csv;
+
+        private CsvRowWriter(Writer writer) throws IOException {
+            this.csv = new CsvWriter(writer);
+            csv.writeRecord((Object[]) HEADER);
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            csv.writeRecord(
+                    resultSet.getLong("id"),
+                    resultSet.getString("status"),
+                    timestamp(resultSet, "applied_at"),
+                    timestamp(resultSet, "reviewed_at"),
+                    timestamp(resultSet, "interview_scheduled_at"),
+                    resultSet.getString("resume_url"),
+                    resultSet.getString("cover_letter"),
+                    resultSet.getString("notes"),
+                    resultSet.getLong("user_id"),
+                    resultSet.getString("first_name"),
+                    resultSet.getString("last_name"),
+                    resultSet.getString("email"),
+                    resultSet.getString("phone"),
+                    resultSet.getString("location"));
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // Rows are newline-terminated below; no extra separator between root values
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(HEADER[0], resultSet.getLong("id"));
+            generator.writeStringField(HEADER[1], resultSet.getString("status"));
+            generator.writeStringField(HEADER[2], timestamp(resultSet, "applied_at"));
+            generator.writeStringField(HEADER[3], timestamp(resultSet, "reviewed_at"));
+            generator.writeStringField(HEADER[4], timestamp(resultSet, "interview_scheduled_at"));
+            generator.writeStringField(HEADER[5], resultSet.getString("resume_url"));
+            generator.writeStringField(HEADER[6], resultSet.getString("cover_letter"));
+            generator.writeStringField(HEADER[7], resultSet.getString("notes"));
+            generator.writeNumberField(HEADER[8], resultSet.getLong("user_id"));
+            generator.writeStringField(HEADER[9], resultSet.getString("first_name"));
+            generator.writeStringField(HEADER[10], resultSet.getString("last_name"));
+            generator.writeStringField(HEADER[11], resultSet.getString("email"));
+            generator.writeStringField(HEADER[12], resultSet.getString("phone"));
+            generator.writeStringField(HEADER[13], resultSet.getString("location"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static String timestamp(ResultSet resultSet, String column) throws SQLException {
+        Timestamp value = resultSet.getTimestamp(column);
+        return value == null ? null : value.toLocalDateTime().toString();
+    }
+}
@@ -1,73 +1,73 @@
-package com.jobportal.service;
-
-import com.jobportal.entity.Category;
-import com.jobportal.repository.CategoryRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.Optional;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-@Transactional
-public class CategoryService {
-
-    private final CategoryRepository categoryRepository;
-
-    public Category createCategory(Category category) {
-        category.setIsActive(true);
-        return categoryRepository.save(category);
-    }
-
-    public Optional<Category> findById(Long id) {
-        return categoryRepository.findById(id);
-    }
-
-    public Optional<Category> findByName(String name) {
-        return categoryRepository.findByName(name);
-    }
-
-    public Category updateCategory(Long id, Category categoryDetails) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
-
-        category.setName(categoryDetails.getName());
-        category.setDescription(categoryDetails.getDescription());
-        category.setIcon(categoryDetails.getIcon());
-        category.setColor(categoryDetails.getColor());
-
-        return categoryRepository.save(category);
-    }
-
-    public void deleteCategory(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
-        categoryRepository.deleteById(id);
-    }
-
-    public List<Category> getAllCategories() {
-        return categoryRepository.findByIsActiveTrueOrderByNameAsc();
-    }
-
-    public List<Category> getAllCategoriesIncludingInactive() {
-        return categoryRepository.findAll();
-    }
-
-    public Category deactivateCategory(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
-        category.setIsActive(false);
-        return categoryRepository.save(category);
-    }
-
-    public Category activateCategory(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
-        category.setIsActive(true);
-        return categoryRepository.save(category);
-    }
-}
+package com.jobportal.service;
+
+import com.jobportal.entity.Category;
+import com.jobportal.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+
+    public Category createCategory(Category category) {
+        category.setIsActive(true);
+        return categoryRepository.save(category);
+    }
+
+    public Optional<Category> findById(Long id) {
+        return categoryRepository.findById(id);
+    }
+
+    public Optional<Category> findByName(String name) {
+        return categoryRepository.findByName(name);
+    }
+
+    public Category updateCategory(Long id, Category categoryDetails) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found"));
+
+        category.setName(categoryDetails.getName());
+        category.setDescription(categoryDetails.getDescription());
+        category.setIcon(categoryDetails.getIcon());
+        category.setColor(categoryDetails.getColor());
+
+        return categoryRepository.save(category);
+    }
+
+    public void deleteCategory(Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found"));
+        categoryRepository.deleteById(id);
+    }
+
+    public List<Category> getAllCategories() {
+        return categoryRepository.findByIsActiveTrueOrderByNameAsc();
+    }
+
+    public List<Category> getAllCategoriesIncludingInactive() {
+        return categoryRepository.findAll();
+    }
+
+    public Category deactivateCategory(Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found"));
+        category.setIsActive(false);
+        return categoryRepository.save(category);
+    }
+
+    public Category activateCategory(Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found"));
+        category.setIsActive(true);
+        return categoryRepository.save(category);
+    }
+}
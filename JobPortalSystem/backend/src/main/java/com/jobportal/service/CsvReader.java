@@ -0,0 +1,104 @@
+package com.jobportal.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, fields optionally quoted, quotes
+ * escaped by doubling, line breaks allowed inside quoted fields. Reads one record at a
+ * time so large uploads never sit in memory.
+ */
+final class CsvReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private int pushback = -2;
+    private long line = 1;
+    private long recordLine;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Line on which the record last returned by readRecord started
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    List<String> readRecord() throws IOException {
+        recordLine = line;
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != -2) {
+            c = pushback;
+            pushback = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        if (c == '\n') {
+            line--;
+        }
+        pushback = c;
+    }
+}
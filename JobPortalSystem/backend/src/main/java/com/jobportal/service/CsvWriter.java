@@ -0,0 +1,39 @@
+package com.jobportal.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// Writes RFC 4180 records; fields are quoted only when they need to be
+final class CsvWriter {
+
+    private final Writer writer;
+
+    CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void writeRecord(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields[i] == null ? "" : fields[i].toString());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
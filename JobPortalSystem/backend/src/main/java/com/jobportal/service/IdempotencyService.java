@@ -0,0 +1,137 @@
+package com.jobportal.service;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.entity.IdempotencyRecord;
+import com.jobportal.repository.IdempotencyRecordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stores the outcome of requests sent with an Idempotency-Key so retries replay the
+ * original response. Completed responses are cached in a bounded in-memory LRU in front
+ * of the idempotency_keys table, which is what makes keys work across nodes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    private Map<String, StoredResponse> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public Outcome begin(Long userId, String key, String requestHash) {
+        StoredResponse cached = cache.get(cacheKey(userId, key));
+        if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+            return cached.requestHash().equals(requestHash) ? Outcome.replay(cached) : Outcome.mismatch();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (idempotencyRecordRepository.claim(userId, key, requestHash, now, now.plusHours(ttlHours)) == 1) {
+            return Outcome.proceed();
+        }
+
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, key);
+        if (existing.isEmpty() || existing.get().getExpiresAt().isBefore(now)) {
+            // Expired (or released in between): start over with a fresh claim
+            idempotencyRecordRepository.release(userId, key);
+            return idempotencyRecordRepository.claim(userId, key, requestHash, now, now.plusHours(ttlHours)) == 1
+                    ? Outcome.proceed()
+                    : Outcome.inProgress();
+        }
+
+        IdempotencyRecord record = existing.get();
+        if (!record.getRequestHash().equals(requestHash)) {
+            return Outcome.mismatch();
+        }
+        if (record.getStatus() == IdempotencyRecord.Status.IN_PROGRESS) {
+            return Outcome.inProgress();
+        }
+
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getResponseStatus(),
+                record.getContentType(), record.getResponseBody(), record.getExpiresAt());
+        cache.put(cacheKey(userId, key), stored);
+        return Outcome.replay(stored);
+    }
+
+    public void complete(Long userId, String key, String requestHash, int status, String contentType, String body) {
+        idempotencyRecordRepository.complete(userId, key, status, contentType, body);
+        cache.put(cacheKey(userId, key), new StoredResponse(requestHash, status, contentType, body,
+                LocalDateTime.now().plusHours(ttlHours)));
+    }
+
+    // Server errors are not stored, so the client's retry runs the request again
+    public void release(Long userId, String key) {
+        idempotencyRecordRepository.release(userId, key);
+        cache.remove(cacheKey(userId, key));
+    }
+
+    @Scheduled(cron = "${idempotency.purge-cron:0 15 * * * *}")
+    @ClusterSingleton(lockAtMostFor = "10m", lockAtLeastFor = "1m")
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private static String cacheKey(Long userId, String key) {
+        return userId + ":" + key;
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, String body,
+                                 LocalDateTime expiresAt) {
+    }
+
+    public record Outcome(Type type, StoredResponse response) {
+
+        public enum Type {
+            PROCEED, REPLAY, IN_PROGRESS, MISMATCH
+        }
+
+        static Outcome proceed() {
+            return new Outcome(Type.PROCEED, null);
+        }
+
+        static Outcome replay(StoredResponse response) {
+            return new Outcome(Type.REPLAY, response);
+        }
+
+        static Outcome inProgress() {
+            return new Outcome(Type.IN_PROGRESS, null);
+        }
+
+        static Outcome mismatch() {
+            return new Outcome(Type.MISMATCH, null);
+        }
+    }
+}
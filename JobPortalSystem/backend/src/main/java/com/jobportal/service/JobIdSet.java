@@ -0,0 +1,42 @@
+package com.jobportal.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Immutable sorted set of job ids; a user's few hundred ids at most take less than a bitmap would
+final class JobIdSet {
+
+    private final long[] ids;
+
+    private JobIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    static JobIdSet of(List<Long> jobIds) {
+        long[] ids = jobIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new JobIdSet(ids);
+    }
+
+    boolean contains(Long jobId) {
+        return jobId != null && Arrays.binarySearch(ids, jobId) >= 0;
+    }
+
+    // This set with the job added or removed; the same instance when that changes nothing
+    JobIdSet with(long jobId, boolean member) {
+        int found = Arrays.binarySearch(ids, jobId);
+        if (member == (found >= 0)) {
+            return this;
+        }
+        long[] updated = new long[member ? ids.length + 1 : ids.length - 1];
+        if (member) {
+            int position = -found - 1;
+            System.arraycopy(ids, 0, updated, 0, position);
+            updated[position] = jobId;
+            System.arraycopy(ids, position, updated, position + 1, ids.length - position);
+        } else {
+            System.arraycopy(ids, 0, updated, 0, found);
+            System.arraycopy(ids, found + 1, updated, found, ids.length - found - 1);
+        }
+        return new JobIdSet(updated);
+    }
+}
@@ -0,0 +1,528 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.dto.JobImportResponse;
+import com.jobportal.dto.JobImportRow;
+import com.jobportal.entity.Category;
+import com.jobportal.entity.Company;
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
+import com.jobportal.event.DomainEventBus;
+import com.jobportal.event.JobPostedEvent;
+import com.jobportal.persistence.IdBlockAllocator;
+import com.jobportal.repository.CategoryRepository;
+import com.jobportal.repository.CompanyRepository;
+import com.jobportal.repository.SkillRepository;
+import com.jobportal.search.SkillTagger;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk job import for ATS integrations. The upload is spooled to a temp file so the
+ * request returns immediately, then parsed row by row on a background worker: company,
+ * category and skill references are resolved against maps loaded once per import, and
+ * valid rows are inserted as JDBC batches. Progress and per-row errors are kept on this
+ * node until the import has been finished for a while.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobImportService {
+
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO jobs (id, title, description, location, job_type, experience_level, min_salary, max_salary, " +
+            "currency, is_remote, is_active, application_deadline, requirements, benefits, application_instructions, " +
+            "views_count, applications_count, created_at, updated_at, posted_by, company_id, category_id) " +
+            "VALUES (:id, :title, :description, :location, :jobType, :experienceLevel, :minSalary, :maxSalary, " +
+            ":currency, :isRemote, true, :applicationDeadline, :requirements, :benefits, :applicationInstructions, " +
+            "0, 0, :now, :now, :postedBy, :companyId, :categoryId)";
+    private static final String INSERT_JOB_SKILL_SQL =
+            "INSERT INTO job_skills (job_id, skill_id) VALUES (:jobId, :skillId)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+    private final CompanyRepository companyRepository;
+    private final CategoryRepository categoryRepository;
+    private final SkillRepository skillRepository;
+    private final SkillTagger skillTagger;
+    private final DomainEventBus domainEventBus;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${skills.tagger.auto-attach:false}")
+    private boolean autoAttachSkills;
+
+    @Value("${jobs.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${jobs.import.max-upload-mb:512}")
+    private long maxUploadMb;
+
+    @Value("${jobs.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${jobs.import.workers:2}")
+    private int workers;
+
+    @Value("${jobs.import.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, ImportJob> imports = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "job-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public JobImportResponse startImport(InputStream body, Format format, User user) throws IOException {
+        Path file = Files.createTempFile("job-import-", format == Format.CSV ? ".csv" : ".ndjson");
+        try {
+            spool(body, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, user.getId());
+        imports.put(job.id, job);
+        log.info("Queued job import {} ({}, {} bytes) for user {}", job.id, format, Files.size(file), user.getId());
+        executor.submit(() -> run(job, file));
+        return job.toResponse();
+    }
+
+    public JobImportResponse getImport(String importId, User user) {
+        ImportJob job = imports.get(importId);
+        if (job == null || (!job.userId.equals(user.getId()) && !user.isAdmin())) {
+            throw new RuntimeException("Import not found");
+        }
+        return job.toResponse();
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.import.cleanup-interval-ms:300000}")
+    public void purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        imports.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private void spool(InputStream body, Path file) throws IOException {
+        long maxBytes = maxUploadMb * 1024 * 1024;
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new RuntimeException("Upload exceeds the " + maxUploadMb + " MB import limit");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void run(ImportJob job, Path file) {
+        job.status = "RUNNING";
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            skipByteOrderMark(reader);
+            References references = loadReferences(job.userId);
+            List<PreparedJob> batch = new ArrayList<>(batchSize);
+            RowSource rows = job.format == Format.CSV ? new CsvRows(reader) : new NdjsonRows(reader);
+
+            ParsedRow parsed;
+            while ((parsed = rows.next()) != null) {
+                job.rowsRead.incrementAndGet();
+                if (parsed.error() != null) {
+                    job.fail(parsed.line(), parsed.error());
+                    continue;
+                }
+                PreparedJob prepared = prepare(parsed, references, job);
+                if (prepared == null) {
+                    continue;
+                }
+                batch.add(prepared);
+                if (batch.size() >= batchSize) {
+                    write(batch, job);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch, job);
+            }
+            job.finish("COMPLETED", null);
+            log.info("Job import {} finished: {} imported, {} failed", job.id, job.rowsImported, job.rowsFailed);
+        } catch (Exception e) {
+            log.error("Job import {} aborted after {} rows", job.id, job.rowsRead, e);
+            job.finish("FAILED", e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete import file {}", file, e);
+            }
+        }
+    }
+
+    private References loadReferences(Long userId) {
+        Map<String, Long> categoriesByName = new HashMap<>();
+        Set<Long> categoryIds = new HashSet<>();
+        for (Category category : categoryRepository.findAll()) {
+            categoryIds.add(category.getId());
+            categoriesByName.put(normalize(category.getName()), category.getId());
+        }
+
+        Map<String, Long> skillsByName = new HashMap<>();
+        Set<Long> skillIds = new HashSet<>();
+        for (Skill skill : skillRepository.findAll()) {
+            skillIds.add(skill.getId());
+            skillsByName.put(normalize(skill.getName()), skill.getId());
+        }
+
+        Long ownCompanyId = companyRepository.findByUser_Id(userId).map(Company::getId).orElse(null);
+        return new References(new HashSet<>(companyRepository.findAllIds()), ownCompanyId,
+                categoryIds, categoriesByName, skillIds, skillsByName);
+    }
+
+    // Returns null (and records the error) when the row cannot be imported
+    private PreparedJob prepare(ParsedRow parsed, References references, ImportJob job) {
+        JobImportRow row = parsed.row();
+        List<String> problems = new ArrayList<>();
+        for (ConstraintViolation<JobImportRow> violation : validator.validate(row)) {
+            problems.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+
+        Long companyId = row.getCompanyId() != null ? row.getCompanyId() : references.ownCompanyId();
+        if (row.getCompanyId() != null && !references.companyIds().contains(row.getCompanyId())) {
+            problems.add("Unknown company id " + row.getCompanyId());
+        }
+
+        Long categoryId = row.getCategoryId();
+        if (categoryId != null && !references.categoryIds().contains(categoryId)) {
+            problems.add("Unknown category id " + categoryId);
+        } else if (categoryId == null && row.getCategory() != null && !row.getCategory().isBlank()) {
+            categoryId = references.categoriesByName().get(normalize(row.getCategory()));
+            if (categoryId == null) {
+                problems.add("Unknown category '" + row.getCategory() + "'");
+            }
+        }
+
+        Set<Long> skillIds = new LinkedHashSet<>();
+        if (row.getRequiredSkillIds() != null) {
+            for (Long skillId : row.getRequiredSkillIds()) {
+                if (references.skillIds().contains(skillId)) {
+                    skillIds.add(skillId);
+                } else {
+                    problems.add("Unknown skill id " + skillId);
+                }
+            }
+        }
+        if (row.getSkills() != null) {
+            for (String name : row.getSkills()) {
+                Long skillId = references.skillsByName().get(normalize(name));
+                if (skillId != null) {
+                    skillIds.add(skillId);
+                } else {
+                    problems.add("Unknown skill '" + name + "'");
+                }
+            }
+        }
+        if (autoAttachSkills) {
+            skillIds.addAll(skillTagger.tag(row.getTitle(), row.getDescription(), row.getRequirements()));
+        }
+
+        if (!problems.isEmpty()) {
+            job.fail(parsed.line(), String.join("; ", problems));
+            return null;
+        }
+        return new PreparedJob(parsed.line(), row, companyId, categoryId, skillIds);
+    }
+
+    private void write(List<PreparedJob> batch, ImportJob job) {
+        // Allocated outside the batch transaction; a block refill commits on its own
+        long[] ids = new long[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            ids[i] = idBlockAllocator.next("jobs");
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(batch, ids, job.userId));
+            job.rowsImported.addAndGet(batch.size());
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                job.fail(batch.get(0).line(), rootMessage(e));
+                return;
+            }
+            // Isolate the offending rows instead of failing the whole batch
+            log.debug("Import batch of {} rows failed, retrying individually", batch.size(), e);
+            for (PreparedJob prepared : batch) {
+                write(List.of(prepared), job);
+            }
+        }
+    }
+
+    private void insertBatch(List<PreparedJob> batch, long[] ids, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] jobParameters = new SqlParameterSource[batch.size()];
+        List<SqlParameterSource> skillParameters = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PreparedJob prepared = batch.get(i);
+            JobImportRow row = prepared.row();
+            jobParameters[i] = new MapSqlParameterSource()
+                    .addValue("id", ids[i])
+                    .addValue("title", row.getTitle())
+                    .addValue("description", row.getDescription())
+                    .addValue("location", row.getLocation())
+                    .addValue("jobType", row.getJobType().name())
+                    .addValue("experienceLevel", row.getExperienceLevel().name())
+                    .addValue("minSalary", row.getMinSalary())
+                    .addValue("maxSalary", row.getMaxSalary())
+                    .addValue("currency", row.getCurrency() != null ? row.getCurrency() : "USD")
+                    .addValue("isRemote", Boolean.TRUE.equals(row.getIsRemote()))
+                    .addValue("applicationDeadline", row.getApplicationDeadline())
+                    .addValue("requirements", row.getRequirements())
+                    .addValue("benefits", row.getBenefits())
+                    .addValue("applicationInstructions", row.getApplicationInstructions())
+                    .addValue("now", now)
+                    .addValue("postedBy", userId)
+                    .addValue("companyId", prepared.companyId())
+                    .addValue("categoryId", prepared.categoryId());
+            for (Long skillId : prepared.skillIds()) {
+                skillParameters.add(new MapSqlParameterSource()
+                        .addValue("jobId", ids[i])
+                        .addValue("skillId", skillId));
+            }
+        }
+
+        namedParameterJdbcTemplate.batchUpdate(INSERT_JOB_SQL, jobParameters);
+        if (!skillParameters.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate(INSERT_JOB_SKILL_SQL, skillParameters.toArray(new SqlParameterSource[0]));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            JobImportRow row = batch.get(i).row();
+            domainEventBus.publish(JobPostedEvent.of(ids[i], userId, row.getTitle(), row.getApplicationDeadline()));
+        }
+    }
+
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    private final class NdjsonRows implements RowSource {
+
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new ParsedRow(line, objectMapper.readValue(text, JobImportRow.class), null);
+                } catch (JsonProcessingException e) {
+                    return new ParsedRow(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    private final class CsvRows implements RowSource {
+
+        // List-valued columns; entries separated by ';' or '|'
+        private static final Set<String> LIST_COLUMNS = Set.of("requiredSkillIds", "skills");
+
+        private final CsvReader csv;
+        private List<String> header;
+
+        private CsvRows(BufferedReader reader) {
+            this.csv = new CsvReader(reader);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (header == null) {
+                header = csv.readRecord();
+                if (header == null) {
+                    return null;
+                }
+                header = header.stream().map(String::trim).collect(Collectors.toList());
+            }
+
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                long line = csv.getRecordLine();
+                if (record.size() != header.size()) {
+                    return new ParsedRow(line, null,
+                            "Expected " + header.size() + " columns, found " + record.size());
+                }
+
+                Map<String, Object> values = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    String value = record.get(i).trim();
+                    if (value.isEmpty()) {
+                        continue;
+                    }
+                    String column = header.get(i);
+                    values.put(column, LIST_COLUMNS.contains(column)
+                            ? Arrays.stream(value.split("[;|]")).map(String::trim).filter(s -> !s.isEmpty()).toList()
+                            : value);
+                }
+                try {
+                    return new ParsedRow(line, objectMapper.convertValue(values, JobImportRow.class), null);
+                } catch (IllegalArgumentException e) {
+                    return new ParsedRow(line, null, "Invalid value: " + rootMessage(e));
+                }
+            }
+            return null;
+        }
+    }
+
+    private record ParsedRow(long line, JobImportRow row, String error) {
+    }
+
+    private record PreparedJob(long line, JobImportRow row, Long companyId, Long categoryId, Set<Long> skillIds) {
+    }
+
+    private record References(Set<Long> companyIds, Long ownCompanyId,
+                              Set<Long> categoryIds, Map<String, Long> categoriesByName,
+                              Set<Long> skillIds, Map<String, Long> skillsByName) {
+    }
+
+    private final class ImportJob {
+
+        private final String id;
+        private final Format format;
+        private final Long userId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rowsImported = new AtomicLong();
+        private final AtomicLong rowsFailed = new AtomicLong();
+        private final List<JobImportResponse.RowError> errors = new ArrayList<>();
+        private volatile String status = "QUEUED";
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(String id, Format format, Long userId) {
+            this.id = id;
+            this.format = format;
+            this.userId = userId;
+        }
+
+        private void fail(long line, String reason) {
+            rowsFailed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < maxErrors) {
+                    JobImportResponse.RowError error = new JobImportResponse.RowError();
+                    error.setLine(line);
+                    error.setMessage(reason);
+                    errors.add(error);
+                }
+            }
+        }
+
+        private void finish(String finalStatus, String finalMessage) {
+            message = finalMessage;
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private JobImportResponse toResponse() {
+            JobImportResponse response = new JobImportResponse();
+            response.setImportId(id);
+            response.setFormat(format.name());
+            response.setStatus(status);
+            response.setRowsRead(rowsRead.get());
+            response.setRowsImported(rowsImported.get());
+            response.setRowsFailed(rowsFailed.get());
+            response.setMessage(message);
+            response.setStartedAt(startedAt);
+            response.setFinishedAt(finishedAt);
+            synchronized (errors) {
+                response.setErrors(new ArrayList<>(errors));
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.jobportal.service;
+
+// Published when a user applies for, saves or unsaves a job
+public record JobMembershipChangedEvent(Long userId, Long jobId, Kind kind, boolean member) {
+
+    public enum Kind {
+        APPLIED, SAVED
+    }
+}
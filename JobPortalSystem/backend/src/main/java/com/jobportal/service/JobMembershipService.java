@@ -0,0 +1,86 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.JobResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Which jobs each user has applied for and saved, so job lists can carry "Applied" and
+ * "Saved" flags without a query per job. A user's ids are loaded with two queries on first
+ * use and held as sorted arrays in an LRU cache; applications and saves made on this node
+ * are written through after commit, and a short time-to-live covers the ones made elsewhere.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobMembershipService {
+
+    private static final String APPLIED_SQL = "SELECT job_id FROM job_applications WHERE user_id = ?";
+    private static final String SAVED_SQL = "SELECT job_id FROM saved_jobs WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jobs.membership.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${jobs.membership.ttl-ms:300000}")
+    private long ttlMs;
+
+    private Map<Long, Membership> cache;
+
+    private record Membership(JobIdSet applied, JobIdSet saved, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Membership> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(JobMembershipChangedEvent event) {
+        cache.computeIfPresent(event.userId(), (userId, membership) -> {
+            if (event.kind() == JobMembershipChangedEvent.Kind.APPLIED) {
+                return new Membership(membership.applied().with(event.jobId(), event.member()),
+                        membership.saved(), membership.expiresAt());
+            }
+            return new Membership(membership.applied(),
+                    membership.saved().with(event.jobId(), event.member()), membership.expiresAt());
+        });
+    }
+
+    // Sets applied and saved on every job in one pass over the user's cached ids
+    public void annotate(Iterable<JobResponse> jobs, Long userId) {
+        Membership membership = membership(userId);
+        for (JobResponse job : jobs) {
+            job.setApplied(membership.applied().contains(job.getId()));
+            job.setSaved(membership.saved().contains(job.getId()));
+        }
+    }
+
+    private Membership membership(Long userId) {
+        Membership cached = cache.get(userId);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+        // A write-through racing this load is lost until the entry expires
+        Membership loaded = new Membership(
+                JobIdSet.of(jdbcTemplate.queryForList(APPLIED_SQL, Long.class, userId)),
+                JobIdSet.of(jdbcTemplate.queryForList(SAVED_SQL, Long.class, userId)),
+                System.currentTimeMillis() + ttlMs);
+        cache.put(userId, loaded);
+        return loaded;
+    }
+}
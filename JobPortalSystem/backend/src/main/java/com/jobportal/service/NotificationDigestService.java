@@ -0,0 +1,189 @@
+package com.jobportal.service;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.entity.Notification;
+import com.jobportal.entity.NotificationDigestEntry;
+import com.jobportal.repository.NotificationDigestEntryRepository;
+import com.jobportal.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rate limits notifications to one per recipient and type per window. The first one in a
+ * window is written straight away; later ones are parked as notification_digest_entries rows
+ * in the caller's transaction and merged into one summary notification once the oldest has
+ * waited a full window. The flush runs on one node at a time, so a cluster sends each digest
+ * once. High-priority types bypass the window.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDigestService {
+
+    private static final Map<Notification.NotificationType, String> SUMMARY_NOUNS =
+            new EnumMap<>(Notification.NotificationType.class);
+
+    // Keeps the IN lists of the recent-notification checks to a reasonable size
+    private static final int CHECK_CHUNK = 500;
+
+    static {
+        SUMMARY_NOUNS.put(Notification.NotificationType.JOB_APPLICATION, "new applications");
+        SUMMARY_NOUNS.put(Notification.NotificationType.JOB_MATCH, "new job matches");
+        SUMMARY_NOUNS.put(Notification.NotificationType.NEW_JOB_POSTED, "new jobs");
+    }
+
+    private final NotificationService notificationService;
+    private final NotificationRepository notificationRepository;
+    private final NotificationDigestEntryRepository digestEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notifications.digest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.digest.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${notifications.digest.max-buckets-per-flush:1000}")
+    private int maxBucketsPerFlush;
+
+    @Value("${notifications.digest.immediate-types:INTERVIEW_SCHEDULED,APPLICATION_STATUS_UPDATE,REMINDER,SYSTEM_NOTIFICATION}")
+    private Set<Notification.NotificationType> immediateTypes = EnumSet.noneOf(Notification.NotificationType.class);
+
+    // Joins the caller's transaction; subject groups entries inside a digest, e.g. the job title
+    public void notify(Long userId, Notification.NotificationType type, String subject,
+                       String title, String message, String actionUrl) {
+        if (!enabled || immediateTypes.contains(type) || !windowOpen(List.of(userId), type).contains(userId)) {
+            notificationService.createNotification(userId, title, message, type, actionUrl);
+            return;
+        }
+        digestEntryRepository.save(entry(userId, type, subject, title, message, actionUrl));
+    }
+
+    // One notification fanned out to many users, e.g. job matches; both halves are written as batches
+    public void notifyAll(Collection<Long> userIds, Notification.NotificationType type, String subject,
+                          String title, String message, String actionUrl) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (!enabled || immediateTypes.contains(type)) {
+            notificationService.createNotifications(userIds, title, message, type, actionUrl);
+            return;
+        }
+
+        Set<Long> buffered = windowOpen(userIds, type);
+        List<Long> immediate = new ArrayList<>(userIds.size() - buffered.size());
+        List<NotificationDigestEntry> entries = new ArrayList<>(buffered.size());
+        for (Long userId : userIds) {
+            if (buffered.contains(userId)) {
+                entries.add(entry(userId, type, subject, title, message, actionUrl));
+            } else {
+                immediate.add(userId);
+            }
+        }
+        if (!immediate.isEmpty()) {
+            notificationService.createNotifications(immediate, title, message, type, actionUrl);
+        }
+        if (!entries.isEmpty()) {
+            digestEntryRepository.saveAll(entries);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.digest.flush-interval-ms:1000}")
+    @ClusterSingleton(lockAtMostFor = "10m")
+    public void flushDue() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(windowSeconds);
+        List<Object[]> due = digestEntryRepository.findDueBuckets(cutoff, PageRequest.of(0, maxBucketsPerFlush));
+        for (Object[] bucket : due) {
+            Long userId = (Long) bucket[0];
+            Notification.NotificationType type = (Notification.NotificationType) bucket[1];
+            try {
+                // The digest and the removal of its entries commit together
+                transactionTemplate.executeWithoutResult(status -> flush(userId, type));
+            } catch (Exception e) {
+                log.error("Failed to write {} digest for user {}", type, userId, e);
+            }
+        }
+    }
+
+    public long getPendingEntryCount() {
+        return digestEntryRepository.count();
+    }
+
+    // Users who were notified of this type within the window, or already have entries waiting
+    private Set<Long> windowOpen(Collection<Long> userIds, Notification.NotificationType type) {
+        LocalDateTime since = LocalDateTime.now().minusSeconds(windowSeconds);
+        List<Long> ids = new ArrayList<>(new HashSet<>(userIds));
+        Set<Long> open = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += CHECK_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHECK_CHUNK, ids.size()));
+            open.addAll(notificationRepository.findUserIdsNotifiedSince(chunk, type, since));
+            open.addAll(digestEntryRepository.findPendingUserIds(chunk, type));
+        }
+        return open;
+    }
+
+    private void flush(Long userId, Notification.NotificationType type) {
+        List<NotificationDigestEntry> entries = digestEntryRepository.findByUserIdAndTypeOrderById(userId, type);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<NotificationDigestEntry>> subjects = new LinkedHashMap<>();
+        for (NotificationDigestEntry entry : entries) {
+            subjects.computeIfAbsent(entry.getSubject() != null ? entry.getSubject() : "", s -> new ArrayList<>())
+                    .add(entry);
+        }
+
+        if (entries.size() == 1) {
+            NotificationDigestEntry only = entries.get(0);
+            notificationService.createNotification(userId, only.getTitle(), only.getMessage(), type,
+                    only.getActionUrl());
+        } else {
+            String noun = SUMMARY_NOUNS.getOrDefault(type, "new notifications");
+            String title = entries.size() + " " + noun;
+            String message;
+            String actionUrl;
+            if (subjects.size() == 1) {
+                Map.Entry<String, List<NotificationDigestEntry>> only = subjects.entrySet().iterator().next();
+                message = only.getValue().size() + " " + noun + " for " + only.getKey();
+                actionUrl = only.getValue().get(0).getActionUrl();
+            } else {
+                message = subjects.entrySet().stream()
+                        .map(subject -> subject.getValue().size() + " for " + subject.getKey())
+                        .collect(Collectors.joining(", "));
+                actionUrl = "/notifications";
+            }
+            notificationService.createNotification(userId, title, message, type, actionUrl);
+        }
+        digestEntryRepository.deleteAllInBatch(entries);
+    }
+
+    private static NotificationDigestEntry entry(Long userId, Notification.NotificationType type, String subject,
+                                                 String title, String message, String actionUrl) {
+        NotificationDigestEntry entry = new NotificationDigestEntry();
+        entry.setUserId(userId);
+        entry.setType(type);
+        entry.setSubject(subject);
+        entry.setTitle(title);
+        entry.setMessage(message);
+        entry.setActionUrl(actionUrl);
+        return entry;
+    }
+}
@@ -1,94 +1,141 @@
-package com.jobportal.service;
-
-import com.jobportal.entity.Notification;
-import com.jobportal.entity.User;
-import com.jobportal.repository.NotificationRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-@Transactional
-public class NotificationService {
-
-    private final NotificationRepository notificationRepository;
-
-    public Notification createNotification(User user, String title, String message, 
-                                         Notification.NotificationType type, String actionUrl) {
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setType(type);
-        notification.setActionUrl(actionUrl);
-        notification.setIsRead(false);
-        
-        return notificationRepository.save(notification);
-    }
-
-    public List<Notification> getNotificationsByUser(User user) {
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user);
-    }
-
-    public Page<Notification> getNotificationsByUser(User user, Pageable pageable) {
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable);
-    }
-
-    public List<Notification> getUnreadNotificationsByUser(User user) {
-        return notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
-    }
-
-    public long getUnreadNotificationCount(User user) {
-        return notificationRepository.countByUserAndIsReadFalse(user);
-    }
-
-    public Notification markAsRead(Long notificationId, User user) {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("Notification not found"));
-
-        // Check if user owns this notification
-        if (!notification.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("You don't have permission to access this notification");
-        }
-
-        notification.markAsRead();
-        return notificationRepository.save(notification);
-    }
-
-    public void markAllAsRead(User user) {
-        List<Notification> unreadNotifications = getUnreadNotificationsByUser(user);
-        unreadNotifications.forEach(notification -> {
-            notification.markAsRead();
-            notificationRepository.save(notification);
-        });
-    }
-
-    public void deleteNotification(Long notificationId, User user) {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("Notification not found"));
-
-        // Check if user owns this notification
-        if (!notification.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("You don't have permission to delete this notification");
-        }
-
-        notificationRepository.deleteById(notificationId);
-    }
-
-    public void deleteAllNotifications(User user) {
-        notificationRepository.deleteByUser(user);
-    }
-
-    public void deleteOldNotifications(int daysOld) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        notificationRepository.deleteByCreatedAtBeforeAndIsReadTrue(cutoffDate);
-    }
-}
+package com.jobportal.service;
+
+import com.jobportal.cluster.ClusterSingleton;
+import com.jobportal.entity.Notification;
+import com.jobportal.entity.User;
+import com.jobportal.event.DomainEventBus;
+import com.jobportal.event.NotificationCreatedEvent;
+import com.jobportal.repository.NotificationRepository;
+import com.jobportal.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final DomainEventBus domainEventBus;
+
+    @Value("${notifications.retention-days:90}")
+    private int retentionDays;
+
+    public Notification createNotification(User user, String title, String message, 
+                                         Notification.NotificationType type, String actionUrl) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setTitle(title);
+        notification.setMessage(message);
+        notification.setType(type);
+        notification.setActionUrl(actionUrl);
+        notification.setIsRead(false);
+        
+        Notification savedNotification = notificationRepository.save(notification);
+
+        // Email delivery is driven off the outbox, never from the request thread
+        domainEventBus.publish(NotificationCreatedEvent.of(savedNotification));
+        return savedNotification;
+    }
+
+    public Notification createNotification(Long userId, String title, String message,
+                                         Notification.NotificationType type, String actionUrl) {
+        return createNotification(userRepository.getReferenceById(userId), title, message, type, actionUrl);
+    }
+
+    // Fan-out to many users; ids come from the pooled generator, so the inserts go out as JDBC batches
+    public List<Notification> createNotifications(Collection<Long> userIds, String title, String message,
+                                                  Notification.NotificationType type, String actionUrl) {
+        List<Notification> notifications = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            Notification notification = new Notification();
+            notification.setUser(userRepository.getReferenceById(userId));
+            notification.setTitle(title);
+            notification.setMessage(message);
+            notification.setType(type);
+            notification.setActionUrl(actionUrl);
+            notification.setIsRead(false);
+            notifications.add(notification);
+        }
+
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        saved.forEach(notification -> domainEventBus.publish(NotificationCreatedEvent.of(notification)));
+        return saved;
+    }
+
+    public List<Notification> getNotificationsByUser(User user) {
+        return notificationRepository.findByUserOrderByCreatedAtDesc(user);
+    }
+
+    public Page<Notification> getNotificationsByUser(User user, Pageable pageable) {
+        return notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+    }
+
+    public List<Notification> getUnreadNotificationsByUser(User user) {
+        return notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
+    }
+
+    public long getUnreadNotificationCount(User user) {
+        return notificationRepository.countByUserAndIsReadFalse(user);
+    }
+
+    public Notification markAsRead(Long notificationId, User user) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new RuntimeException("Notification not found"));
+
+        // Check if user owns this notification
+        if (!notification.getUser().getId().equals(user.getId())) {
+            throw new RuntimeException("You don't have permission to access this notification");
+        }
+
+        notification.markAsRead();
+        return notificationRepository.save(notification);
+    }
+
+    public void markAllAsRead(User user) {
+        List<Notification> unreadNotifications = getUnreadNotificationsByUser(user);
+        unreadNotifications.forEach(Notification::markAsRead);
+        notificationRepository.saveAll(unreadNotifications);
+    }
+
+    public void deleteNotification(Long notificationId, User user) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new RuntimeException("Notification not found"));
+
+        // Check if user owns this notification
+        if (!notification.getUser().getId().equals(user.getId())) {
+            throw new RuntimeException("You don't have permission to delete this notification");
+        }
+
+        notificationRepository.deleteById(notificationId);
+    }
+
+    public void deleteAllNotifications(User user) {
+        notificationRepository.deleteByUser(user);
+    }
+
+    public int deleteOldNotifications(int daysOld) {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
+        return notificationRepository.deleteReadBefore(cutoffDate);
+    }
+
+    @Scheduled(cron = "${notifications.purge-cron:0 0 4 * * *}")
+    @ClusterSingleton(lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void purgeOldNotifications() {
+        int deleted = deleteOldNotifications(retentionDays);
+        log.info("Purged {} read notifications older than {} days", deleted, retentionDays);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.entity.OutboxEvent;
+import com.jobportal.event.DomainEvent;
+import com.jobportal.repository.OutboxEventRepository;
+import com.jobportal.repository.ProcessedEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${events.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${events.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${events.outbox.retry-base-seconds:5}")
+    private long retryBaseSeconds;
+
+    @Value("${events.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // Joins the caller's transaction so the event commits or rolls back with the mutation
+    public OutboxEvent append(DomainEvent event) {
+        return outboxEventRepository.save(toOutboxEvent(event));
+    }
+
+    // Unsaved row for the event, for writers that insert it on their own connection
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OutboxEvent toOutboxEvent(DomainEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventId(event.eventId());
+        outboxEvent.setEventType(event.getClass().getName());
+        outboxEvent.setPartitionKey(event.partitionKey());
+        outboxEvent.setPayload(serialize(event));
+        outboxEvent.setStatus(OutboxEvent.OutboxStatus.PENDING);
+        outboxEvent.setAttempts(0);
+        outboxEvent.setAvailableAt(LocalDateTime.now());
+        return outboxEvent;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutboxEvent> claimBatch(String node, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(now, limit);
+        if (!batch.isEmpty()) {
+            List<Long> ids = batch.stream().map(OutboxEvent::getId).collect(Collectors.toList());
+            outboxEventRepository.markProcessing(ids, node, now.plusSeconds(leaseSeconds));
+        }
+        return batch;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markDone(Collection<Long> ids, String node) {
+        outboxEventRepository.markDone(ids, node, LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(OutboxEvent outboxEvent, String node, Throwable error) {
+        // attempts on the claimed row is the value before this delivery
+        int attempts = outboxEvent.getAttempts() + 1;
+        OutboxEvent.OutboxStatus status = attempts >= maxAttempts
+                ? OutboxEvent.OutboxStatus.FAILED
+                : OutboxEvent.OutboxStatus.PENDING;
+        long backoffSeconds = retryBaseSeconds << Math.min(attempts - 1, 10);
+
+        outboxEventRepository.reschedule(outboxEvent.getId(), node, status,
+                LocalDateTime.now().plusSeconds(backoffSeconds), String.valueOf(error));
+
+        if (status == OutboxEvent.OutboxStatus.FAILED) {
+            log.error("Outbox event {} ({}) failed after {} attempts", outboxEvent.getEventId(),
+                    outboxEvent.getEventType(), attempts, error);
+        } else {
+            log.warn("Outbox event {} ({}) failed, retrying in {}s", outboxEvent.getEventId(),
+                    outboxEvent.getEventType(), backoffSeconds, error);
+        }
+    }
+
+    public DomainEvent deserialize(OutboxEvent outboxEvent) {
+        try {
+            Class<?> type = Class.forName(outboxEvent.getEventType());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                throw new RuntimeException("Not a domain event type: " + outboxEvent.getEventType());
+            }
+            return (DomainEvent) objectMapper.readValue(outboxEvent.getPayload(), type);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new RuntimeException("Failed to read outbox event " + outboxEvent.getEventId(), e);
+        }
+    }
+
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int events = outboxEventRepository.deleteProcessedBefore(cutoff);
+        int markers = processedEventRepository.deleteProcessedBefore(cutoff);
+        log.info("Purged {} processed outbox events and {} delivery markers", events, markers);
+    }
+
+    public long getPendingCount() {
+        return outboxEventRepository.countByStatus(OutboxEvent.OutboxStatus.PENDING);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize domain event " + event.eventId(), e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.jobportal.service;
+
+import com.jobportal.entity.JobApplication;
+import com.jobportal.entity.User;
+import com.jobportal.storage.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams a ZIP of the applicants' resumes for a job directly to the response. Access is
+ * checked and applications are read in keyset pages with plain JDBC, so no JPA session pins
+ * a connection and none is held between pages while bytes go out; each resume is
+ * copied from a FileChannel into the archive, and a manifest (spooled to a temp file, as it
+ * goes last) lists every applicant along with resumes that are not in local storage, e.g.
+ * external links.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeArchiveService {
+
+    private static final String PAGE_SQL =
+            "SELECT a.id, a.status, a.resume_url, u.resume_url AS profile_resume_url, " +
+            "u.first_name, u.last_name, u.email " +
+            "FROM job_applications a JOIN users u ON u.id = a.user_id " +
+            "WHERE a.job_id = ? AND a.id > ? AND (? IS NULL OR a.status = ?) " +
+            "ORDER BY a.id LIMIT ?";
+    private static final String POSTER_SQL = "SELECT posted_by FROM jobs WHERE id = ?";
+    private static final String ROLE_SQL = "SELECT role FROM users WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileStorageService fileStorageService;
+
+    @Value("${applications.resume-archive.page-size:500}")
+    private int pageSize;
+
+    @Value("${applications.resume-archive.max-concurrent-per-employer:2}")
+    private int maxConcurrentPerEmployer;
+
+    private final Map<Long, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public void checkArchiveAccess(Long jobId, Long userId) {
+        Long postedBy = jdbcTemplate.queryForList(POSTER_SQL, Long.class, jobId).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!postedBy.equals(userId)
+                && !jdbcTemplate.queryForList(ROLE_SQL, String.class, userId).contains(User.Role.ADMIN.name())) {
+            throw new RuntimeException("You don't have permission to download resumes for this job");
+        }
+    }
+
+    // Empty when the employer already has the maximum number of archives streaming; the
+    // returned release gives the permit back once however many times it runs
+    public Optional<Runnable> tryAcquire(Long employerId) {
+        Semaphore semaphore = permits.computeIfAbsent(employerId, id -> new Semaphore(maxConcurrentPerEmployer));
+        if (!semaphore.tryAcquire()) {
+            return Optional.empty();
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return Optional.of(() -> {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        });
+    }
+
+    public void writeArchive(Long jobId, JobApplication.ApplicationStatus status, OutputStream out) throws IOException {
+        String statusName = status != null ? status.name() : null;
+        Path manifestFile = Files.createTempFile("resume-manifest-", ".csv");
+        try (Writer manifestWriter = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+            CsvWriter manifest = new CsvWriter(manifestWriter);
+            manifest.writeRecord("applicationId", "status", "firstName", "lastName", "email", "file", "resumeUrl");
+            streamArchive(jobId, statusName, manifest, manifestWriter, manifestFile, out);
+        } finally {
+            Files.deleteIfExists(manifestFile);
+        }
+    }
+
+    private void streamArchive(Long jobId, String statusName, CsvWriter manifest, Writer manifestWriter,
+                               Path manifestFile, OutputStream out) throws IOException {
+        int applications = 0;
+        int bundled = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // Resumes are PDF/DOCX and already compressed; deflating them again only burns CPU
+        zip.setLevel(Deflater.NO_COMPRESSION);
+        WritableByteChannel zipChannel = Channels.newChannel(zip);
+
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> page = jdbcTemplate.queryForList(
+                    PAGE_SQL, jobId, lastId, statusName, statusName, pageSize);
+            for (Map<String, Object> row : page) {
+                long applicationId = ((Number) row.get("id")).longValue();
+                lastId = applicationId;
+                String resumeUrl = (String) row.get("resume_url");
+                if (resumeUrl == null || resumeUrl.isBlank()) {
+                    resumeUrl = (String) row.get("profile_resume_url");
+                }
+
+                String entryName = "";
+                Path file = fileStorageService.resolveUrl(resumeUrl).orElse(null);
+                if (file != null) {
+                    entryName = "resumes/" + entryName(row, applicationId, file);
+                    zip.putNextEntry(new ZipEntry(entryName));
+                    copy(file, zipChannel);
+                    zip.closeEntry();
+                    bundled++;
+                }
+                manifest.writeRecord(applicationId, row.get("status"), row.get("first_name"), row.get("last_name"),
+                        row.get("email"), entryName, file == null ? resumeUrl : "");
+                applications++;
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        manifestWriter.flush();
+        zip.putNextEntry(new ZipEntry("manifest.csv"));
+        copy(manifestFile, zipChannel);
+        zip.closeEntry();
+        zip.finish();
+        log.info("Streamed {} resumes for job {} ({} applications)", bundled, jobId, applications);
+    }
+
+    private static void copy(Path file, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; ) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static String entryName(Map<String, Object> row, long applicationId, Path file) {
+        String fileName = file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot >= 0 ? fileName.substring(dot).toLowerCase(Locale.ROOT) : "";
+        String name = (row.get("last_name") + "_" + row.get("first_name")).replaceAll("[^A-Za-z0-9_-]+", "-");
+        return name + "_" + applicationId + extension;
+    }
+}
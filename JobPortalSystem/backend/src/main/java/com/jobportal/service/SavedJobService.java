@@ -1,68 +1,116 @@
-package com.jobportal.service;
-
-import com.jobportal.entity.Job;
-import com.jobportal.entity.SavedJob;
-import com.jobportal.entity.User;
-import com.jobportal.repository.SavedJobRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.Optional;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-@Transactional
-public class SavedJobService {
-
-    private final SavedJobRepository savedJobRepository;
-    private final JobService jobService;
-
-    public SavedJob saveJob(Long jobId, User user) {
-        Job job = jobService.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        // Check if job is already saved
-        if (savedJobRepository.existsByUserAndJob(user, job)) {
-            throw new RuntimeException("Job is already saved");
-        }
-
-        SavedJob savedJob = new SavedJob(user, job);
-        return savedJobRepository.save(savedJob);
-    }
-
-    public void unsaveJob(Long jobId, User user) {
-        Job job = jobService.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        SavedJob savedJob = savedJobRepository.findByUserAndJob(user, job)
-                .orElseThrow(() -> new RuntimeException("Job is not saved"));
-
-        savedJobRepository.delete(savedJob);
-    }
-
-    public List<SavedJob> getSavedJobsByUser(User user) {
-        return savedJobRepository.findByUserOrderBySavedAtDesc(user);
-    }
-
-    public Page<SavedJob> getSavedJobsByUser(User user, Pageable pageable) {
-        return savedJobRepository.findByUserOrderBySavedAtDesc(user, pageable);
-    }
-
-    public boolean isJobSavedByUser(Long jobId, User user) {
-        return savedJobRepository.existsByUserAndJobId(user, jobId);
-    }
-
-    public long getSavedJobCountByUser(User user) {
-        return savedJobRepository.countByUser(user);
-    }
-
-    public Optional<SavedJob> findByUserAndJob(User user, Job job) {
-        return savedJobRepository.findByUserAndJob(user, job);
-    }
-}
+package com.jobportal.service;
+
+import com.jobportal.entity.Job;
+import com.jobportal.entity.SavedJob;
+import com.jobportal.entity.User;
+import com.jobportal.persistence.CoalescedInsert;
+import com.jobportal.persistence.UniqueConstraints;
+import com.jobportal.persistence.WriteCoalescer;
+import com.jobportal.repository.SavedJobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SavedJobService {
+
+    private final SavedJobRepository savedJobRepository;
+    private final JobService jobService;
+    private final WriteCoalescer writeCoalescer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private CoalescedInsert<SavedJob> savedJobInsert;
+
+    @PostConstruct
+    public void init() {
+        savedJobInsert = CoalescedInsert.of(
+                "saved_jobs",
+                "INSERT INTO saved_jobs (id, user_id, job_id, saved_at) VALUES (:id, :userId, :jobId, :savedAt)",
+                savedJob -> new MapSqlParameterSource()
+                        .addValue("userId", savedJob.getUser().getId())
+                        .addValue("jobId", savedJob.getJob().getId())
+                        .addValue("savedAt", savedJob.getSavedAt()),
+                SavedJob::setId
+        );
+    }
+
+    public SavedJob saveJob(Long jobId, User user) {
+        Job job = jobService.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        // Check if job is already saved
+        if (savedJobRepository.existsByUserAndJob(user, job)) {
+            throw new RuntimeException("Job is already saved");
+        }
+
+        SavedJob savedJob = new SavedJob(user, job);
+        if (!writeCoalescer.isEnabled()) {
+            SavedJob saved = savedJobRepository.save(savedJob);
+            publishSaved(user, jobId, true);
+            return saved;
+        }
+
+        // Shares a commit with other concurrent saves
+        savedJob.setSavedAt(LocalDateTime.now());
+        try {
+            writeCoalescer.submit(savedJobInsert, savedJob).join();
+        } catch (CompletionException e) {
+            if (UniqueConstraints.isViolated(e.getCause(), SavedJob.USER_JOB_KEY)) {
+                throw new RuntimeException("Job is already saved");
+            }
+            throw e;
+        }
+        publishSaved(user, jobId, true);
+        return savedJob;
+    }
+
+    public void unsaveJob(Long jobId, User user) {
+        Job job = jobService.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        SavedJob savedJob = savedJobRepository.findByUserAndJob(user, job)
+                .orElseThrow(() -> new RuntimeException("Job is not saved"));
+
+        savedJobRepository.delete(savedJob);
+        publishSaved(user, jobId, false);
+    }
+
+    private void publishSaved(User user, Long jobId, boolean saved) {
+        applicationEventPublisher.publishEvent(new JobMembershipChangedEvent(
+                user.getId(), jobId, JobMembershipChangedEvent.Kind.SAVED, saved));
+    }
+
+    public List<SavedJob> getSavedJobsByUser(User user) {
+        return savedJobRepository.findByUserOrderBySavedAtDesc(user);
+    }
+
+    public Page<SavedJob> getSavedJobsByUser(User user, Pageable pageable) {
+        return savedJobRepository.findByUserOrderBySavedAtDesc(user, pageable);
+    }
+
+    public boolean isJobSavedByUser(Long jobId, User user) {
+        return savedJobRepository.existsByUserAndJobId(user, jobId);
+    }
+
+    public long getSavedJobCountByUser(User user) {
+        return savedJobRepository.countByUser(user);
+    }
+
+    public Optional<SavedJob> findByUserAndJob(User user, Job job) {
+        return savedJobRepository.findByUserAndJob(user, job);
+    }
+}
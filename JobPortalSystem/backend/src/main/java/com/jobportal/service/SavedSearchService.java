@@ -0,0 +1,79 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.SavedSearchRequest;
+import com.jobportal.entity.SavedSearch;
+import com.jobportal.entity.User;
+import com.jobportal.repository.SavedSearchRepository;
+import com.jobportal.search.SavedSearchChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${search.saved-searches.max-per-user:20}")
+    private int maxPerUser;
+
+    public SavedSearch createSavedSearch(SavedSearchRequest request, User user) {
+        if (savedSearchRepository.countByUser_Id(user.getId()) >= maxPerUser) {
+            throw new RuntimeException("You can save at most " + maxPerUser + " searches");
+        }
+
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setUser(user);
+        apply(savedSearch, request);
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        applicationEventPublisher.publishEvent(new SavedSearchChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    public SavedSearch updateSavedSearch(Long id, SavedSearchRequest request, User user) {
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUser_Id(id, user.getId())
+                .orElseThrow(() -> new RuntimeException("Saved search not found"));
+
+        apply(savedSearch, request);
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        applicationEventPublisher.publishEvent(new SavedSearchChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    public void deleteSavedSearch(Long id, User user) {
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUser_Id(id, user.getId())
+                .orElseThrow(() -> new RuntimeException("Saved search not found"));
+
+        savedSearchRepository.delete(savedSearch);
+        applicationEventPublisher.publishEvent(new SavedSearchChangedEvent(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearch> getSavedSearchesByUser(User user) {
+        return savedSearchRepository.findByUser_IdOrderByCreatedAtDesc(user.getId());
+    }
+
+    // Blank filters are stored as null, as /api/jobs/search treats them
+    private void apply(SavedSearch savedSearch, SavedSearchRequest request) {
+        savedSearch.setName(request.getName().trim());
+        savedSearch.setKeyword(blankToNull(request.getKeyword()));
+        savedSearch.setLocation(blankToNull(request.getLocation()));
+        savedSearch.setJobType(request.getJobType());
+        savedSearch.setExperienceLevel(request.getExperienceLevel());
+        savedSearch.setIsRemote(request.getIsRemote());
+        savedSearch.setAlertsEnabled(request.getAlertsEnabled() == null || request.getAlertsEnabled());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobportal.service;
+
+import com.jobportal.cluster.NodeIdentity;
+import com.jobportal.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Lease-based locks on the scheduler_locks table. Every call commits on its own so a lock
+ * is visible to other nodes immediately, independent of any surrounding transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final NodeIdentity nodeIdentity;
+
+    public Optional<Lease> tryAcquire(String name, Duration lockAtMostFor) {
+        LocalDateTime now = now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+        String node = nodeIdentity.getId();
+
+        if (schedulerLockRepository.acquireExpired(name, lockedUntil, now, node) == 1
+                || schedulerLockRepository.insertIfAbsent(name, lockedUntil, now, node) == 1) {
+            return Optional.of(new Lease(name, node, now));
+        }
+        return Optional.empty();
+    }
+
+    // Returns false when the lease already ran out and may have been taken by another node
+    public boolean extend(Lease lease, Duration lockAtMostFor) {
+        LocalDateTime now = now();
+        return schedulerLockRepository.extend(lease.name(), lease.node(), lease.lockedAt(),
+                now.plus(lockAtMostFor), now) == 1;
+    }
+
+    // Keeps the lock until lockAtLeastFor has passed so fast tasks on skewed clocks don't rerun
+    public void release(Lease lease, Duration lockAtLeastFor) {
+        LocalDateTime now = now();
+        LocalDateTime earliest = lease.lockedAt().plus(lockAtLeastFor);
+        schedulerLockRepository.release(lease.name(), lease.node(), lease.lockedAt(),
+                earliest.isAfter(now) ? earliest : now);
+    }
+
+    // Millisecond precision so lockedAt round-trips through the DATETIME column unchanged
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    public record Lease(String name, String node, LocalDateTime lockedAt) {
+    }
+}
@@ -1,80 +1,120 @@
-package com.jobportal.service;
-
-import com.jobportal.entity.Skill;
-import com.jobportal.repository.SkillRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.Optional;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-@Transactional
-public class SkillService {
-
-    private final SkillRepository skillRepository;
-
-    public Skill createSkill(Skill skill) {
-        skill.setIsActive(true);
-        return skillRepository.save(skill);
-    }
-
-    public Optional<Skill> findById(Long id) {
-        return skillRepository.findById(id);
-    }
-
-    public Optional<Skill> findByName(String name) {
-        return skillRepository.findByName(name);
-    }
-
-    public Skill updateSkill(Long id, Skill skillDetails) {
-        Skill skill = skillRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Skill not found"));
-
-        skill.setName(skillDetails.getName());
-        skill.setDescription(skillDetails.getDescription());
-        skill.setCategory(skillDetails.getCategory());
-
-        return skillRepository.save(skill);
-    }
-
-    public void deleteSkill(Long id) {
-        Skill skill = skillRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Skill not found"));
-        skillRepository.deleteById(id);
-    }
-
-    public List<Skill> getAllSkills() {
-        return skillRepository.findByIsActiveTrueOrderByNameAsc();
-    }
-
-    public List<Skill> getAllSkillsIncludingInactive() {
-        return skillRepository.findAll();
-    }
-
-    public List<Skill> getSkillsByCategory(Skill.SkillCategory category) {
-        return skillRepository.findByCategoryAndIsActiveTrueOrderByNameAsc(category);
-    }
-
-    public List<Skill> searchSkills(String keyword) {
-        return skillRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(keyword);
-    }
-
-    public Skill deactivateSkill(Long id) {
-        Skill skill = skillRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Skill not found"));
-        skill.setIsActive(false);
-        return skillRepository.save(skill);
-    }
-
-    public Skill activateSkill(Long id) {
-        Skill skill = skillRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Skill not found"));
-        skill.setIsActive(true);
-        return skillRepository.save(skill);
-    }
-}
+package com.jobportal.service;
+
+import com.jobportal.entity.Skill;
+import com.jobportal.repository.SkillRepository;
+import com.jobportal.search.SkillTagger;
+import com.jobportal.search.SkillsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SkillService {
+
+    private final SkillRepository skillRepository;
+    private final SkillTagger skillTagger;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public Skill createSkill(Skill skill) {
+        skill.setIsActive(true);
+        Skill savedSkill = skillRepository.save(skill);
+        applicationEventPublisher.publishEvent(new SkillsChangedEvent());
+        return savedSkill;
+    }
+
+    public Optional<Skill> findById(Long id) {
+        return skillRepository.findById(id);
+    }
+
+    public List<Skill> findAllById(Collection<Long> ids) {
+        return skillRepository.findAllById(ids);
+    }
+
+    public Optional<Skill> findByName(String name) {
+        return skillRepository.findByName(name);
+    }
+
+    // Ids of the active skills mentioned in the texts, by name or alias
+    public Set<Long> tagSkills(String... texts) {
+        return skillTagger.tag(texts);
+    }
+
+    public List<Skill> suggestSkills(String... texts) {
+        Set<Long> skillIds = skillTagger.tag(texts);
+        if (skillIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Skill> skills = skillRepository.findAllById(skillIds).stream()
+                .collect(Collectors.toMap(Skill::getId, Function.identity()));
+        return skillIds.stream().map(skills::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    public Skill updateSkill(Long id, Skill skillDetails) {
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Skill not found"));
+
+        skill.setName(skillDetails.getName());
+        skill.setDescription(skillDetails.getDescription());
+        skill.setAliases(skillDetails.getAliases());
+        skill.setCategory(skillDetails.getCategory());
+
+        Skill savedSkill = skillRepository.save(skill);
+        applicationEventPublisher.publishEvent(new SkillsChangedEvent());
+        return savedSkill;
+    }
+
+    public void deleteSkill(Long id) {
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Skill not found"));
+        skillRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(new SkillsChangedEvent());
+    }
+
+    public List<Skill> getAllSkills() {
+        return skillRepository.findByIsActiveTrueOrderByNameAsc();
+    }
+
+    public List<Skill> getAllSkillsIncludingInactive() {
+        return skillRepository.findAll();
+    }
+
+    public List<Skill> getSkillsByCategory(Skill.SkillCategory category) {
+        return skillRepository.findByCategoryAndIsActiveTrueOrderByNameAsc(category);
+    }
+
+    public List<Skill> searchSkills(String keyword) {
+        return skillRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(keyword);
+    }
+
+    public Skill deactivateSkill(Long id) {
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Skill not found"));
+        skill.setIsActive(false);
+        Skill savedSkill = skillRepository.save(skill);
+        applicationEventPublisher.publishEvent(new SkillsChangedEvent());
+        return savedSkill;
+    }
+
+    public Skill activateSkill(Long id) {
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Skill not found"));
+        skill.setIsActive(true);
+        Skill savedSkill = skillRepository.save(skill);
+        applicationEventPublisher.publishEvent(new SkillsChangedEvent());
+        return savedSkill;
+    }
+}
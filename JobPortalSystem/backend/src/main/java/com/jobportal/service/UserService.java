@@ -1,104 +1,121 @@
-package com.jobportal.service;
-
-import com.jobportal.dto.RegisterRequest;
-import com.jobportal.entity.User;
-import com.jobportal.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.Optional;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-@Transactional
-public class UserService {
-
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-
-    public User createUser(RegisterRequest registerRequest) {
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new RuntimeException("Error: Email is already in use!");
-        }
-
-        User user = new User();
-        user.setFirstName(registerRequest.getFirstName());
-        user.setLastName(registerRequest.getLastName());
-        user.setEmail(registerRequest.getEmail());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
-        user.setPhone(registerRequest.getPhone());
-        user.setRole(registerRequest.getRole());
-        user.setIsActive(true);
-        user.setIsVerified(false);
-
-        return userRepository.save(user);
-    }
-
-    public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
-    }
-
-    public Optional<User> findById(Long id) {
-        return userRepository.findById(id);
-    }
-
-    public User updateUser(User user) {
-        return userRepository.save(user);
-    }
-
-    public void deleteUser(Long id) {
-        userRepository.deleteById(id);
-    }
-
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
-    }
-
-    public List<User> getUsersByRole(User.Role role) {
-        return userRepository.findByRole(role);
-    }
-
-    public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
-    }
-
-    public User verifyUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setIsVerified(true);
-        return userRepository.save(user);
-    }
-
-    public User updateProfile(User user, String firstName, String lastName, String phone, 
-                             String bio, String location, String website, String linkedinUrl, String githubUrl) {
-        user.setFirstName(firstName);
-        user.setLastName(lastName);
-        user.setPhone(phone);
-        user.setBio(bio);
-        user.setLocation(location);
-        user.setWebsite(website);
-        user.setLinkedinUrl(linkedinUrl);
-        user.setGithubUrl(githubUrl);
-        return userRepository.save(user);
-    }
-
-    public User updatePassword(User user, String newPassword) {
-        user.setPassword(passwordEncoder.encode(newPassword));
-        return userRepository.save(user);
-    }
-
-    public User updateProfilePicture(User user, String profilePictureUrl) {
-        user.setProfilePicture(profilePictureUrl);
-        return userRepository.save(user);
-    }
-
-    public User updateResume(User user, String resumeUrl) {
-        user.setResumeUrl(resumeUrl);
-        return userRepository.save(user);
-    }
-}
+package com.jobportal.service;
+
+import com.jobportal.dto.RegisterRequest;
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
+import com.jobportal.repository.UserRepository;
+import com.jobportal.search.ResumeTextExtractor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SkillService skillService;
+    private final ResumeTextExtractor resumeTextExtractor;
+
+    public User createUser(RegisterRequest registerRequest) {
+        if (userRepository.existsByEmail(registerRequest.getEmail())) {
+            throw new RuntimeException("Error: Email is already in use!");
+        }
+
+        User user = new User();
+        user.setFirstName(registerRequest.getFirstName());
+        user.setLastName(registerRequest.getLastName());
+        user.setEmail(registerRequest.getEmail());
+        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
+        user.setPhone(registerRequest.getPhone());
+        user.setRole(registerRequest.getRole());
+        user.setIsActive(true);
+        user.setIsVerified(false);
+
+        return userRepository.save(user);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    public Optional<User> findById(Long id) {
+        return userRepository.findById(id);
+    }
+
+    public User updateUser(User user) {
+        return userRepository.save(user);
+    }
+
+    public void deleteUser(Long id) {
+        userRepository.deleteById(id);
+    }
+
+    public List<User> getAllUsers() {
+        return userRepository.findAll();
+    }
+
+    public List<User> getUsersByRole(User.Role role) {
+        return userRepository.findByRole(role);
+    }
+
+    public boolean existsByEmail(String email) {
+        return userRepository.existsByEmail(email);
+    }
+
+    public User verifyUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        user.setIsVerified(true);
+        return userRepository.save(user);
+    }
+
+    public User updateProfile(User user, String firstName, String lastName, String phone, 
+                             String bio, String location, String website, String linkedinUrl, String githubUrl) {
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setPhone(phone);
+        user.setBio(bio);
+        user.setLocation(location);
+        user.setWebsite(website);
+        user.setLinkedinUrl(linkedinUrl);
+        user.setGithubUrl(githubUrl);
+        return userRepository.save(user);
+    }
+
+    public User updatePassword(User user, String newPassword) {
+        user.setPassword(passwordEncoder.encode(newPassword));
+        return userRepository.save(user);
+    }
+
+    // Skills mentioned in the user's bio or resume that are not on their profile yet
+    public List<Skill> suggestSkills(User user) {
+        User profile = userRepository.findById(user.getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        Set<Long> ownSkillIds = profile.getSkills().stream().map(Skill::getId).collect(Collectors.toSet());
+        String resumeText = resumeTextExtractor.extract(profile.getResumeUrl());
+        return skillService.suggestSkills(profile.getBio(), resumeText).stream()
+                .filter(skill -> !ownSkillIds.contains(skill.getId()))
+                .collect(Collectors.toList());
+    }
+
+    public User updateProfilePicture(User user, String profilePictureUrl) {
+        user.setProfilePicture(profilePictureUrl);
+        return userRepository.save(user);
+    }
+
+    public User updateResume(User user, String resumeUrl) {
+        user.setResumeUrl(resumeUrl);
+        return userRepository.save(user);
+    }
+}
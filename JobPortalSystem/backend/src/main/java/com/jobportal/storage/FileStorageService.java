@@ -0,0 +1,277 @@
+package com.jobportal.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file store under file.upload-dir. Uploads are streamed to a temp file
+ * while their SHA-256 is computed, then moved to files/&lt;aa&gt;/&lt;sha256&gt;.&lt;ext&gt;;
+ * identical content is stored once. Since a stored file can never change, its URL can be
+ * cached forever and its hash doubles as the ETag.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileStorageService {
+
+    // The /api context path plus FileController's /files mapping
+    public static final String URL_PREFIX = "/api/files/";
+    // Thumbnail size used for logos and avatars in list cards
+    public static final int CARD_IMAGE_SIZE = 128;
+
+    private static final Pattern STORED_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]{2,5}");
+    private static final String[] DERIVATIVE_EXTENSIONS = {"jpg", "png"};
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "pdf", "application/pdf",
+            "doc", "application/msword",
+            "docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "gif", "image/gif",
+            "webp", "image/webp"
+    );
+
+    public enum Kind {
+        DOCUMENT(Set.of("pdf", "doc", "docx")),
+        IMAGE(Set.of("png", "jpg", "gif", "webp"));
+
+        private final Set<String> extensions;
+
+        Kind(Set<String> extensions) {
+            this.extensions = extensions;
+        }
+    }
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${file.upload-dir:./uploads/}")
+    private String uploadDir;
+
+    private Path root;
+    private Path objects;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        objects = root.resolve("files");
+        Files.createDirectories(objects);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // Returns the URL of the stored file
+    public String store(MultipartFile upload, Kind kind) throws IOException {
+        if (upload == null || upload.isEmpty()) {
+            throw new RuntimeException("File is empty");
+        }
+
+        Path temp = Files.createTempFile(objects, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            byte[] head = new byte[16];
+            int headLength = 0;
+            try (InputStream in = upload.getInputStream(); OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (headLength < head.length) {
+                        int copy = Math.min(read, head.length - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copy);
+                        headLength += copy;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String extension = detectExtension(Arrays.copyOf(head, headLength), upload.getOriginalFilename());
+            if (extension == null || !kind.extensions.contains(extension)) {
+                throw new RuntimeException("Unsupported file type; allowed: " + String.join(", ", kind.extensions));
+            }
+
+            String name = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            Path target = pathFor(name);
+            if (Files.exists(target)) {
+                log.debug("Upload deduplicated to existing {}", name);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    applicationEventPublisher.publishEvent(new FileStoredEvent(name, target));
+                } catch (FileAlreadyExistsException e) {
+                    // A concurrent upload of the same content won
+                }
+            }
+            return URL_PREFIX + name;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Resolves a stored file name, as it appears after URL_PREFIX
+    public Optional<Path> resolve(String name) {
+        if (name == null || !STORED_NAME.matcher(name).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathFor(name);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // Derivatives live next to the original as <sha256>_<size>.<jpg|png>
+    public Path derivativePath(String name, int size, String extension) {
+        return derivativePath(name, String.valueOf(size), extension);
+    }
+
+    // The underscore keeps derivative names from ever matching STORED_NAME, so they are not served directly
+    public Path derivativePath(String name, String variant, String extension) {
+        return pathFor(name).resolveSibling(baseName(name) + "_" + variant + "." + extension);
+    }
+
+    public Optional<Path> resolveDerivative(String name, int size) {
+        for (String extension : DERIVATIVE_EXTENSIONS) {
+            Path path = derivativePath(name, size, extension);
+            if (Files.isRegularFile(path)) {
+                return Optional.of(path);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // For stored images, points the URL at a thumbnail no larger than size; other URLs are returned as is
+    public static String sizedUrl(String url, int size) {
+        if (url == null || !url.startsWith(URL_PREFIX) || url.contains("?") || !isImage(url)) {
+            return url;
+        }
+        return url + "?size=" + size;
+    }
+
+    // The stored file name behind a URL returned by store(), or null for any other URL
+    public static String storedName(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String name = url.substring(URL_PREFIX.length());
+        int query = name.indexOf('?');
+        name = query >= 0 ? name.substring(0, query) : name;
+        return STORED_NAME.matcher(name).matches() ? name : null;
+    }
+
+    public static String baseName(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 ? name.substring(0, dot) : name;
+    }
+
+    // Resolves a URL saved on an entity: a stored file URL, or a legacy path inside the upload directory
+    public Optional<Path> resolveUrl(String url) {
+        if (url == null || url.isBlank() || url.contains("://")) {
+            return Optional.empty();
+        }
+        String relative = url.trim();
+        if (relative.startsWith(URL_PREFIX)) {
+            return resolve(relative.substring(URL_PREFIX.length()));
+        }
+        if (relative.startsWith("/")) {
+            relative = relative.substring(1);
+        }
+        if (relative.startsWith("uploads/")) {
+            relative = relative.substring("uploads/".length());
+        }
+        try {
+            Path file = root.resolve(relative).normalize();
+            return file.startsWith(root) && Files.isRegularFile(file) && Files.isReadable(file)
+                    ? Optional.of(file)
+                    : Optional.empty();
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static String contentType(String name) {
+        int dot = name.lastIndexOf('.');
+        return CONTENT_TYPES.getOrDefault(dot >= 0 ? name.substring(dot + 1) : "", "application/octet-stream");
+    }
+
+    public static boolean isImage(String name) {
+        return contentType(name).startsWith("image/");
+    }
+
+    private Path pathFor(String name) {
+        return objects.resolve(name.substring(0, 2)).resolve(name);
+    }
+
+    // Trusts magic bytes, not the client's content type; the file name only separates DOCX from other ZIPs
+    private static String detectExtension(byte[] head, String originalFilename) {
+        if (startsWith(head, "%PDF-".getBytes(StandardCharsets.US_ASCII))) {
+            return "pdf";
+        }
+        if (startsWith(head, new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return "png";
+        }
+        if (startsWith(head, new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+            return "jpg";
+        }
+        if (startsWith(head, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                || startsWith(head, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+            return "gif";
+        }
+        if (startsWith(head, "RIFF".getBytes(StandardCharsets.US_ASCII)) && head.length >= 12
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return "webp";
+        }
+        if (startsWith(head, new byte[] {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0,
+                (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1})) {
+            return "doc";
+        }
+        if (startsWith(head, new byte[] {'P', 'K', 3, 4}) && originalFilename != null
+                && originalFilename.toLowerCase(Locale.ROOT).endsWith(".docx")) {
+            return "docx";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        if (data.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
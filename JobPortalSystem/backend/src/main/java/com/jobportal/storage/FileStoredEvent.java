@@ -0,0 +1,7 @@
+package com.jobportal.storage;
+
+import java.nio.file.Path;
+
+// Published after a new file lands in the store; not fired for deduplicated uploads
+public record FileStoredEvent(String name, Path path) {
+}
@@ -0,0 +1,215 @@
+package com.jobportal.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates fixed-size thumbnails for stored images on a small, low-priority worker pool
+ * with a bounded queue, so resizing can never take threads or unbounded memory from API
+ * requests. Work that does not fit in the queue is dropped and redone the next time that
+ * size is requested. Opaque images become JPEG, images with transparency PNG; the JDK has
+ * no WebP encoder.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageDerivativeService {
+
+    private final FileStorageService fileStorageService;
+
+    @Value("${file.images.sizes:64,128,256,512}")
+    private List<Integer> sizes;
+
+    @Value("${file.images.workers:2}")
+    private int workers;
+
+    @Value("${file.images.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${file.images.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    // Guards against decompression bombs: dimensions are checked before any pixels are decoded
+    @Value("${file.images.max-pixels:40000000}")
+    private long maxPixels;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        ImageIO.setUseCache(false);
+        sizes = sizes.stream().sorted().toList();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivatives-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @EventListener
+    public void onFileStored(FileStoredEvent event) {
+        if (FileStorageService.isImage(event.name())) {
+            for (int size : sizes) {
+                submit(event.name(), size);
+            }
+        }
+    }
+
+    // Smallest configured size that is at least the requested one; empty means serve the original
+    public Optional<Integer> snapSize(int requested) {
+        return sizes.stream().filter(size -> size >= requested).findFirst();
+    }
+
+    public void submit(String name, int size) {
+        String key = name + "_" + size;
+        if (!inFlight.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(name, size);
+                } catch (Exception e) {
+                    log.warn("Failed to generate {}px derivative of {}", size, name, e);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.debug("Derivative queue full, skipping {}px of {}", size, name);
+        }
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private void generate(String name, int size) throws IOException {
+        if (fileStorageService.resolveDerivative(name, size).isPresent()) {
+            return;
+        }
+        Optional<Path> original = fileStorageService.resolve(name);
+        if (original.isEmpty()) {
+            return;
+        }
+
+        BufferedImage source = read(original.get());
+        if (source == null) {
+            // No ImageIO reader for this format (e.g. WebP); the original keeps being served
+            return;
+        }
+        BufferedImage scaled = scale(source, size);
+        boolean alpha = scaled.getColorModel().hasAlpha();
+        String extension = alpha ? "png" : "jpg";
+
+        Path target = fileStorageService.derivativePath(name, size, extension);
+        Path temp = Files.createTempFile(target.getParent(), "derivative-", ".tmp");
+        try {
+            write(scaled, extension, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("Generated {} ({}x{})", target.getFileName(), scaled.getWidth(), scaled.getHeight());
+    }
+
+    private BufferedImage read(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("Skipping derivatives of {}: {} pixels exceeds limit", path.getFileName(), pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Halves repeatedly before the final step; one big bilinear jump would alias badly
+    private static BufferedImage scale(BufferedImage source, int size) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private void write(BufferedImage image, String extension, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(extension.equals("jpg") ? "jpeg" : "png").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && extension.equals("jpg")) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
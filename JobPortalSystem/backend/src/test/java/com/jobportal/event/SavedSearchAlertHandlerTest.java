@@ -0,0 +1,72 @@
+package com.jobportal.event;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SavedSearchAlertHandlerTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SavedSearchAlertHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE jobs (id BIGINT PRIMARY KEY, is_active BOOLEAN, " +
+                "application_deadline TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE saved_search_alerts (id BIGINT PRIMARY KEY, job_id BIGINT, " +
+                "user_id BIGINT, alerted_at TIMESTAMP)");
+
+        handler = new SavedSearchAlertHandler(null, null, jdbcTemplate, null);
+        ReflectionTestUtils.setField(handler, "alertRetentionDays", 90);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private void job(long id, boolean active, LocalDateTime deadline) {
+        jdbcTemplate.update("INSERT INTO jobs VALUES (?, ?, ?)", id, active,
+                deadline == null ? null : Timestamp.valueOf(deadline));
+    }
+
+    private void alert(long id, long jobId, int daysAgo) {
+        jdbcTemplate.update("INSERT INTO saved_search_alerts VALUES (?, ?, ?, ?)", id, jobId, 7,
+                Timestamp.valueOf(LocalDateTime.now().minusDays(daysAgo)));
+    }
+
+    @Test
+    void purgesOldAlertsOfJobsThatAreNoLongerOpen() {
+        LocalDateTime now = LocalDateTime.now();
+        job(1, true, null);
+        job(2, true, now.plusDays(5));
+        job(3, false, null);
+        job(4, true, now.minusDays(1));
+        alert(1, 1, 200);
+        alert(2, 2, 200);
+        alert(3, 3, 200);
+        alert(4, 4, 200);
+        // Job 5 was deleted
+        alert(5, 5, 200);
+        alert(6, 3, 10);
+
+        handler.purgeAlerts();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM saved_search_alerts ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 6L);
+    }
+}
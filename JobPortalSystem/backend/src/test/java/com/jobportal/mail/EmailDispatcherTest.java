@@ -0,0 +1,145 @@
+package com.jobportal.mail;
+
+import com.jobportal.cluster.NodeIdentity;
+import com.jobportal.entity.QueuedEmail;
+import com.jobportal.repository.QueuedEmailRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailDispatcherTest {
+
+    private static final String NODE = "node-1";
+
+    private SmtpStub smtp;
+    private QueuedEmailRepository repository;
+    private EmailDispatcher dispatcher;
+    private final List<QueuedEmail> queued = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtp = new SmtpStub();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.port());
+
+        SmtpEmailTransport transport = new SmtpEmailTransport(mailSender);
+        ReflectionTestUtils.setField(transport, "from", "noreply@jobportal.test");
+
+        repository = mock(QueuedEmailRepository.class);
+        when(repository.lockNextBatch(any(), anyInt())).thenAnswer(invocation -> List.copyOf(queued));
+
+        dispatcher = new EmailDispatcher(transport, new SimpleMeterRegistry(), repository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new NodeIdentity(NODE));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "ratePerSecond", 1000d);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatcher, "retryBaseMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 120L);
+        // Disabled so no worker starts; the test drives dispatchBatch itself
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtp.close();
+    }
+
+    @Test
+    void retriesOnlyTheMessagesTheServerDidNotAccept() throws Exception {
+        smtp.reject("gone@example.com", "550 5.1.1 no such user");
+        smtp.reject("busy@example.com", "451 4.3.0 try again later");
+        queue(1L, "ok@example.com", 0);
+        queue(2L, "gone@example.com", 0);
+        queue(3L, "busy@example.com", 0);
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(3);
+
+        assertThat(smtp.deliveries()).extracting(SmtpStub.Delivery::recipients)
+                .containsExactly(List.of("ok@example.com"));
+        verify(repository).deleteSent(List.of(1L), NODE);
+        verify(repository).reschedule(eq(List.of(2L)), eq(NODE), eq(QueuedEmail.EmailStatus.FAILED), any(), anyString());
+        verify(repository).reschedule(eq(List.of(3L)), eq(NODE), eq(QueuedEmail.EmailStatus.PENDING), any(), anyString());
+    }
+
+    @Test
+    void coalescesMessagesForTheSameRecipient() throws Exception {
+        queue(1L, "ok@example.com", 0);
+        queue(2L, "ok@example.com", 0);
+
+        dispatcher.dispatchBatch();
+
+        assertThat(smtp.deliveries()).hasSize(1);
+        assertThat(smtp.deliveries().get(0).data()).contains("You have 2 new notifications");
+        verify(repository).deleteSent(List.of(1L, 2L), NODE);
+    }
+
+    @Test
+    void retriesTheWholeBatchWhenTheServerIsUnavailable() throws Exception {
+        smtp.unavailable();
+        queue(1L, "ok@example.com", 0);
+        queue(2L, "other@example.com", 0);
+
+        dispatcher.dispatchBatch();
+
+        verify(repository, never()).deleteSent(anyCollection(), anyString());
+        verify(repository).reschedule(eq(List.of(1L)), eq(NODE), eq(QueuedEmail.EmailStatus.PENDING), any(), anyString());
+        verify(repository).reschedule(eq(List.of(2L)), eq(NODE), eq(QueuedEmail.EmailStatus.PENDING), any(), anyString());
+    }
+
+    @Test
+    void givesUpOnTransientFailuresAfterMaxAttempts() throws Exception {
+        smtp.reject("busy@example.com", "451 4.3.0 try again later");
+        queue(1L, "busy@example.com", 4);
+
+        dispatcher.dispatchBatch();
+
+        verify(repository).reschedule(eq(List.of(1L)), eq(NODE), eq(QueuedEmail.EmailStatus.FAILED), any(), anyString());
+    }
+
+    @Test
+    void refusesNewMailWhileTheBacklogIsFull() {
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "maxBacklog", 100L);
+        ReflectionTestUtils.setField(dispatcher, "backlogCheckMs", 0L);
+        EmailMessage message = new EmailMessage("ok@example.com", "Subject", "Body");
+
+        when(repository.countByStatusNot(QueuedEmail.EmailStatus.FAILED)).thenReturn(100L);
+        assertThatThrownBy(() -> dispatcher.enqueue(message)).hasMessageContaining("queue is full");
+        verify(repository, never()).save(any());
+
+        when(repository.countByStatusNot(QueuedEmail.EmailStatus.FAILED)).thenReturn(99L);
+        assertThat(dispatcher.enqueue(message)).isTrue();
+        verify(repository).save(any());
+    }
+
+    private void queue(Long id, String recipient, int attempts) {
+        QueuedEmail email = new QueuedEmail();
+        email.setId(id);
+        email.setRecipient(recipient);
+        email.setSubject("Subject " + id);
+        email.setBody("Body " + id);
+        email.setAttempts(attempts);
+        queued.add(email);
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobportal.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Minimal in-process SMTP server: accepts everything except the recipients given a canned reply
+class SmtpStub implements AutoCloseable {
+
+    record Delivery(List<String> recipients, String data) {
+    }
+
+    private final ServerSocket serverSocket;
+    private final Map<String, String> rcptReplies = new ConcurrentHashMap<>();
+    private final List<Delivery> deliveries = new CopyOnWriteArrayList<>();
+    private final Thread acceptor;
+    private volatile boolean unavailable;
+
+    SmtpStub() {
+        try {
+            serverSocket = new ServerSocket(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        acceptor = new Thread(this::accept, "smtp-stub");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    void reject(String recipient, String reply) {
+        rcptReplies.put(recipient, reply);
+    }
+
+    // Greets every connection with 421 and hangs up, as a server that is down for maintenance does
+    void unavailable() {
+        unavailable = true;
+    }
+
+    List<Delivery> deliveries() {
+        return deliveries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                converse(socket);
+            } catch (IOException e) {
+                // Closed, or the client hung up
+            }
+        }
+    }
+
+    private void converse(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        OutputStream out = socket.getOutputStream();
+        if (unavailable) {
+            reply(out, "421 4.3.2 service not available");
+            return;
+        }
+        reply(out, "220 stub ready");
+        List<String> recipients = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.toUpperCase();
+            if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                reply(out, "250 stub");
+            } else if (command.startsWith("MAIL FROM")) {
+                recipients.clear();
+                reply(out, "250 OK");
+            } else if (command.startsWith("RCPT TO")) {
+                String recipient = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+                String rejection = rcptReplies.get(recipient);
+                if (rejection == null) {
+                    recipients.add(recipient);
+                    reply(out, "250 OK");
+                } else {
+                    reply(out, rejection);
+                }
+            } else if (command.equals("DATA")) {
+                reply(out, "354 go ahead");
+                StringBuilder data = new StringBuilder();
+                while ((line = in.readLine()) != null && !line.equals(".")) {
+                    data.append(line).append('\n');
+                }
+                deliveries.add(new Delivery(List.copyOf(recipients), data.toString()));
+                recipients.clear();
+                reply(out, "250 queued");
+            } else if (command.equals("QUIT")) {
+                reply(out, "221 bye");
+                return;
+            } else {
+                // RSET, NOOP and anything else
+                recipients.clear();
+                reply(out, "250 OK");
+            }
+        }
+    }
+
+    private static void reply(OutputStream out, String reply) throws IOException {
+        out.write((reply + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
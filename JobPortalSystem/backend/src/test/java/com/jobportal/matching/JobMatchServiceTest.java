@@ -0,0 +1,137 @@
+package com.jobportal.matching;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobMatchServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JobMatchService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new JobMatchService(jdbcTemplate);
+        ReflectionTestUtils.setField(service, "minScore", 0.2);
+        ReflectionTestUtils.setField(service, "maxMatchesPerJob", 10);
+        // Tiny leaves so every test also goes through the fork and merge
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    private void givenSeekers(Map<Long, Integer> bitBySkillId, Map<Long, List<Long>> skillsByUser) {
+        SkillMatrix.Builder builder = new SkillMatrix.Builder(bitBySkillId);
+        skillsByUser.forEach((user, skills) -> skills.forEach(skill -> builder.add(user, skill)));
+        ReflectionTestUtils.setField(service, "matrix", builder.build());
+    }
+
+    private void givenJob(long jobId, List<Long> skillIds) {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(jobId))).thenReturn(skillIds);
+    }
+
+    private static Map<Long, Integer> skills(int count) {
+        Map<Long, Integer> bitBySkillId = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            bitBySkillId.put((long) i, i);
+        }
+        return bitBySkillId;
+    }
+
+    @Test
+    void ranksSeekersByJaccardSimilarityAcrossWords() {
+        Map<Long, List<Long>> seekers = new LinkedHashMap<>();
+        seekers.put(10L, List.of(1L, 64L));                  // 2 / (4 + 2 - 2) = 0.5
+        seekers.put(11L, List.of(1L, 64L, 128L));            // 3 / (4 + 3 - 3) = 0.75
+        seekers.put(12L, List.of(1L, 2L, 3L, 4L, 5L, 6L));   // 1 / (4 + 6 - 1), under the minimum
+        seekers.put(13L, List.of(5L));                       // nothing shared
+        seekers.put(14L, List.of(128L, 129L));               // 1 / (4 + 2 - 1) = 0.2, just in
+        givenSeekers(skills(130), seekers);
+        // Skill 999 is nobody's but still counts towards the job's size
+        givenJob(7L, List.of(1L, 64L, 128L, 999L));
+
+        assertThat(service.findMatchingSeekers(7L)).containsExactly(11L, 10L, 14L);
+    }
+
+    @Test
+    void keepsOnlyTheBestMatchesPerJob() {
+        Map<Long, List<Long>> seekers = new LinkedHashMap<>();
+        seekers.put(10L, List.of(1L));
+        seekers.put(11L, List.of(1L, 2L));
+        seekers.put(12L, List.of(1L, 2L, 3L));
+        givenSeekers(skills(4), seekers);
+        givenJob(7L, List.of(1L, 2L, 3L));
+        ReflectionTestUtils.setField(service, "maxMatchesPerJob", 2);
+
+        assertThat(service.findMatchingSeekers(7L)).containsExactly(12L, 11L);
+    }
+
+    @Test
+    void findsNothingForAJobWithoutKnownSkills() {
+        givenSeekers(skills(4), Map.of(10L, List.of(1L)));
+        givenJob(7L, List.of(999L));
+        givenJob(8L, List.of());
+
+        assertThat(service.findMatchingSeekers(7L)).isEmpty();
+        assertThat(service.findMatchingSeekers(8L)).isEmpty();
+    }
+
+    @Test
+    void agreesWithAScoreComputedFromSkillSets() {
+        Random random = new Random(7);
+        Map<Long, List<Long>> seekers = new LinkedHashMap<>();
+        for (long user = 1; user <= 500; user++) {
+            List<Long> skills = new ArrayList<>();
+            for (long skill = 0; skill < 150; skill++) {
+                if (random.nextInt(20) == 0) {
+                    skills.add(skill);
+                }
+            }
+            seekers.put(user, skills);
+        }
+        List<Long> job = List.of(3L, 40L, 63L, 64L, 65L, 100L, 127L, 128L, 149L);
+        givenSeekers(skills(150), seekers);
+        givenJob(7L, job);
+        ReflectionTestUtils.setField(service, "minScore", 0.05);
+        ReflectionTestUtils.setField(service, "maxMatchesPerJob", 500);
+
+        Map<Long, Double> expected = new HashMap<>();
+        seekers.forEach((user, skills) -> {
+            Set<Long> shared = new HashSet<>(skills);
+            shared.retainAll(job);
+            Set<Long> union = new HashSet<>(skills);
+            union.addAll(job);
+            double score = union.isEmpty() ? 0 : (double) shared.size() / union.size();
+            if (!shared.isEmpty() && score >= 0.05) {
+                expected.put(user, score);
+            }
+        });
+
+        List<Long> matches = service.findMatchingSeekers(7L);
+        assertThat(matches).containsExactlyInAnyOrderElementsOf(expected.keySet());
+        assertThat(matches).isSortedAccordingTo(Comparator.comparingDouble((Long user) -> expected.get(user)).reversed());
+    }
+}
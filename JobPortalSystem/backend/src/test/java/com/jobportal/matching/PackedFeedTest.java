@@ -0,0 +1,52 @@
+package com.jobportal.matching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedFeedTest {
+
+    @Test
+    void roundTripsIdsInRankOrderWhateverTheirDeltas() {
+        long[] ids = {1_000_000, 3, 999_999, Long.MAX_VALUE / 2, 42};
+        PackedFeed feed = PackedFeed.of(ids, new double[] {0.9, 0.8, 0.7, 0.6, 0.5}, ids.length);
+
+        assertThat(feed.ids()).containsExactly(ids);
+        assertThat(feed.size()).isEqualTo(5);
+    }
+
+    @Test
+    void insertsByScoreAndDropsTheLastEntryWhenFull() {
+        PackedFeed feed = PackedFeed.of(new long[] {10, 20, 30}, new double[] {0.9, 0.5, 0.1}, 3);
+
+        assertThat(feed.insert(40, 0.6, 3).ids()).containsExactly(10, 40, 20);
+        assertThat(feed.insert(40, 0.6, 5).ids()).containsExactly(10, 40, 20, 30);
+    }
+
+    @Test
+    void leavesTheFeedAloneWhenTheJobWouldNotMakeTheCut() {
+        PackedFeed feed = PackedFeed.of(new long[] {10, 20}, new double[] {0.9, 0.5}, 2);
+
+        assertThat(feed.insert(30, 0.1, 2)).isSameAs(feed);
+    }
+
+    @Test
+    void keepsOneEntryPerJobAtItsHigherScore() {
+        PackedFeed feed = PackedFeed.of(new long[] {10, 20, 30}, new double[] {0.9, 0.5, 0.1}, 3);
+
+        // Replayed at a lower score: nothing changes
+        assertThat(feed.insert(20, 0.2, 3)).isSameAs(feed);
+        // Replayed at a higher score: moves up without pushing anything out
+        assertThat(feed.insert(30, 0.95, 3).ids()).containsExactly(30, 10, 20);
+        assertThat(feed.insert(20, 0.95, 3).ids()).containsExactly(20, 10, 30);
+    }
+
+    @Test
+    void removesMatchingIdsAndReturnsTheSameInstanceWhenNoneMatch() {
+        PackedFeed feed = PackedFeed.of(new long[] {10, 20, 30}, new double[] {0.9, 0.5, 0.1}, 3);
+
+        assertThat(feed.removeIf(id -> id == 20).ids()).containsExactly(10, 30);
+        assertThat(feed.removeIf(id -> id == 99)).isSameAs(feed);
+        assertThat(PackedFeed.EMPTY.insert(5, 0.5, 3).ids()).containsExactly(5);
+    }
+}
@@ -0,0 +1,92 @@
+package com.jobportal.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMatrixTest {
+
+    // Skill 1000 + i gets bit i
+    private static Map<Long, Integer> skills(int count) {
+        Map<Long, Integer> bitBySkillId = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            bitBySkillId.put(1000L + i, i);
+        }
+        return bitBySkillId;
+    }
+
+    @Test
+    void sizesRowsToWholeWords() {
+        assertThat(new SkillMatrix.Builder(skills(0)).build().wordsPerUser()).isEqualTo(1);
+        assertThat(new SkillMatrix.Builder(skills(64)).build().wordsPerUser()).isEqualTo(1);
+        assertThat(new SkillMatrix.Builder(skills(65)).build().wordsPerUser()).isEqualTo(2);
+        assertThat(new SkillMatrix.Builder(skills(130)).build().wordsPerUser()).isEqualTo(3);
+    }
+
+    @Test
+    void placesBitsEitherSideOfWordBoundariesInTheirOwnRow() {
+        SkillMatrix.Builder builder = new SkillMatrix.Builder(skills(130));
+        builder.add(7, 1000 + 63);
+        builder.add(7, 1000 + 64);
+        builder.add(7, 1000 + 129);
+        builder.add(8, 1000);
+        builder.add(8, 1000 + 127);
+        builder.add(8, 1000 + 128);
+        SkillMatrix matrix = builder.build();
+
+        long[] words = matrix.words();
+        assertThat(matrix.size()).isEqualTo(2);
+        assertThat(matrix.userId(0)).isEqualTo(7);
+        assertThat(matrix.userId(1)).isEqualTo(8);
+        assertThat(new long[] {words[0], words[1], words[2]}).containsExactly(1L << 63, 1L, 1L << 1);
+        assertThat(new long[] {words[3], words[4], words[5]}).containsExactly(1L, 1L << 63, 1L);
+        assertThat(matrix.cardinalities()[0]).isEqualTo(3);
+        assertThat(matrix.cardinalities()[1]).isEqualTo(3);
+    }
+
+    @Test
+    void jobBitsLineUpWithRowBits() {
+        SkillMatrix.Builder builder = new SkillMatrix.Builder(skills(130));
+        builder.add(7, 1000 + 63);
+        builder.add(7, 1000 + 64);
+        builder.add(7, 1000 + 129);
+        SkillMatrix matrix = builder.build();
+
+        // Skill 5 is nobody's and gets no bit
+        long[] jobBits = matrix.toBits(List.of(1000L + 63, 1000L + 64, 1000L + 129, 5L));
+        assertThat(jobBits).containsExactly(matrix.words()[0], matrix.words()[1], matrix.words()[2]);
+    }
+
+    @Test
+    void ignoresUnknownSkillsAndRepeatsInTheCardinality() {
+        SkillMatrix.Builder builder = new SkillMatrix.Builder(skills(70));
+        builder.add(7, 1000 + 65);
+        builder.add(7, 1000 + 65);
+        builder.add(7, 5);
+        SkillMatrix matrix = builder.build();
+
+        assertThat(matrix.cardinalities()[0]).isEqualTo(1);
+        assertThat(matrix.words()[1]).isEqualTo(1L << 1);
+    }
+
+    @Test
+    void keepsEveryRowWhenGrowingPastTheInitialCapacity() {
+        SkillMatrix.Builder builder = new SkillMatrix.Builder(skills(200));
+        for (int user = 0; user < 3_000; user++) {
+            builder.add(user, 1000 + user % 200);
+        }
+        SkillMatrix matrix = builder.build();
+
+        assertThat(matrix.size()).isEqualTo(3_000);
+        for (int row = 0; row < 3_000; row++) {
+            int bit = row % 200;
+            assertThat(matrix.userId(row)).isEqualTo(row);
+            assertThat(matrix.words()[row * 4 + (bit >>> 6)]).isEqualTo(1L << bit);
+            assertThat(matrix.cardinalities()[row]).isEqualTo(1);
+        }
+    }
+}
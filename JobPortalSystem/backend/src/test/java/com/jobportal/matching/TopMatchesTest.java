@@ -0,0 +1,95 @@
+package com.jobportal.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopMatchesTest {
+
+    @Test
+    void drainsRowsByDescendingScoreWhateverTheOfferOrder() {
+        TopMatches top = new TopMatches(5);
+        top.offer(1, 0.3);
+        top.offer(2, 0.9);
+        top.offer(3, 0.1);
+        top.offer(4, 0.5);
+
+        double[] scores = new double[4];
+        assertThat(top.drainDescending(scores)).containsExactly(2, 4, 1, 3);
+        assertThat(scores).containsExactly(0.9, 0.5, 0.3, 0.1);
+    }
+
+    @Test
+    void evictsTheWorstRowOnceFull() {
+        TopMatches top = new TopMatches(3);
+        top.offer(1, 0.4);
+        top.offer(2, 0.6);
+        top.offer(3, 0.2);
+
+        assertThat(top.accepts(0.2)).isFalse();
+        assertThat(top.accepts(0.3)).isTrue();
+        top.offer(4, 0.3);
+        // Not better than the new worst: ignored
+        top.offer(5, 0.3);
+        top.offer(6, 0.1);
+
+        assertThat(top.drainDescending()).containsExactly(2, 1, 4);
+    }
+
+    @Test
+    void drainingEmptiesTheHeap() {
+        TopMatches top = new TopMatches(2);
+        top.offer(7, 0.5);
+
+        assertThat(top.drainDescending()).containsExactly(7);
+        assertThat(top.drainDescending()).isEmpty();
+        assertThat(top.accepts(0.0)).isTrue();
+    }
+
+    @Test
+    void mergedHeapsKeepTheBestOfBoth() {
+        TopMatches left = new TopMatches(3);
+        left.offer(1, 0.9);
+        left.offer(2, 0.2);
+        left.offer(3, 0.5);
+        TopMatches right = new TopMatches(3);
+        right.offer(4, 0.7);
+        right.offer(5, 0.1);
+
+        left.addAll(right);
+
+        assertThat(left.drainDescending()).containsExactly(1, 4, 3);
+    }
+
+    @Test
+    void keepsTheSameRowsAsSortingEverything() {
+        Random random = new Random(42);
+        double[] scores = new double[2_000];
+        TopMatches top = new TopMatches(50);
+        for (int row = 0; row < scores.length; row++) {
+            // Distinct scores so the expected order is unambiguous
+            scores[row] = row / (double) scores.length;
+        }
+        for (int i = scores.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double swap = scores[i];
+            scores[i] = scores[j];
+            scores[j] = swap;
+        }
+        for (int row = 0; row < scores.length; row++) {
+            top.offer(row, scores[row]);
+        }
+
+        double[] drained = new double[50];
+        int[] rows = top.drainDescending(drained);
+        double[] expected = Arrays.stream(scores).boxed().sorted((a, b) -> Double.compare(b, a))
+                .limit(50).mapToDouble(Double::doubleValue).toArray();
+        assertThat(drained).containsExactly(expected);
+        for (int i = 0; i < rows.length; i++) {
+            assertThat(scores[rows[i]]).isEqualTo(drained[i]);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.jobportal.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdBlockAllocatorTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(4);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE id_sequences (sequence_name VARCHAR(255) PRIMARY KEY, next_val BIGINT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void handsOutConsecutiveIdsStartingAtOneForANewSequence() {
+        IdBlockAllocator allocator = allocator(3);
+
+        assertThat(LongStream.range(0, 7).map(i -> allocator.next("jobs")).toArray())
+                .containsExactly(1, 2, 3, 4, 5, 6, 7);
+        // Three blocks of three reserved, so the next free id is 10
+        assertThat(nextVal("jobs")).isEqualTo(10);
+    }
+
+    @Test
+    void startsAtTheSeededNextValue() {
+        // What migrate-id-sequences.sql writes for a table whose highest id is 41
+        jdbcTemplate.update("INSERT INTO id_sequences VALUES ('jobs', 42)");
+        IdBlockAllocator allocator = allocator(50);
+
+        assertThat(allocator.next("jobs")).isEqualTo(42);
+        assertThat(nextVal("jobs")).isEqualTo(92);
+    }
+
+    @Test
+    void leavesNextValAtTheFirstIdAfterItsBlock() {
+        // A pooled-lo generator with stored_last_used=false reads next_val as its first id,
+        // so it starts exactly where this block ends
+        jdbcTemplate.update("INSERT INTO id_sequences VALUES ('notifications', 100)");
+        IdBlockAllocator allocator = allocator(50);
+
+        long first = allocator.next("notifications");
+        long last = first;
+        for (int i = 1; i < 50; i++) {
+            last = allocator.next("notifications");
+        }
+
+        assertThat(first).isEqualTo(100);
+        assertThat(last).isEqualTo(149);
+        assertThat(nextVal("notifications")).isEqualTo(150);
+    }
+
+    @Test
+    void keepsSequencesApart() {
+        IdBlockAllocator allocator = allocator(10);
+
+        assertThat(allocator.next("jobs")).isEqualTo(1);
+        assertThat(allocator.next("notifications")).isEqualTo(1);
+        assertThat(allocator.next("jobs")).isEqualTo(2);
+    }
+
+    @Test
+    void allocatorsSharingTheTableNeverOverlap() throws Exception {
+        // Two allocators stand in for two nodes, or for the write coalescer and the import
+        List<IdBlockAllocator> allocators = List.of(allocator(7), allocator(13));
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            IdBlockAllocator allocator = allocators.get(t % 2);
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    assertThat(ids.add(allocator.next("jobs"))).isTrue();
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(4000);
+    }
+
+    private IdBlockAllocator allocator(int blockSize) {
+        return new IdBlockAllocator(jdbcTemplate, new DataSourceTransactionManager(dataSource), blockSize);
+    }
+
+    private long nextVal(String sequence) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequence);
+    }
+}
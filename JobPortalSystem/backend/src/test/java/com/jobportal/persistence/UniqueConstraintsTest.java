@@ -0,0 +1,51 @@
+package com.jobportal.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniqueConstraintsTest {
+
+    private static final String KEY = "uk_job_applications_user_job";
+
+    @Test
+    void recognisesADuplicateOnTheNamedKey() {
+        DuplicateKeyException error = new DuplicateKeyException("insert failed", mysql(1062,
+                "Duplicate entry '3-7' for key 'job_applications.uk_job_applications_user_job'"));
+
+        assertThat(UniqueConstraints.isViolated(error, KEY)).isTrue();
+    }
+
+    @Test
+    void ignoresPrimaryKeyCollisions() {
+        DuplicateKeyException error = new DuplicateKeyException("insert failed", mysql(1062,
+                "Duplicate entry '101' for key 'job_applications.PRIMARY'"));
+
+        assertThat(UniqueConstraints.isViolated(error, KEY)).isFalse();
+    }
+
+    @Test
+    void ignoresForeignKeyFailures() {
+        DataIntegrityViolationException error = new DataIntegrityViolationException("insert failed", mysql(1452,
+                "Cannot add or update a child row: a foreign key constraint fails (uk_job_applications_user_job)"));
+
+        assertThat(UniqueConstraints.isViolated(error, KEY)).isFalse();
+    }
+
+    @Test
+    void acceptsTheStandardUniqueViolationState() {
+        SQLIntegrityConstraintViolationException h2 = new SQLIntegrityConstraintViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_JOB_APPLICATIONS_USER_JOB\"", "23505", 23505);
+
+        assertThat(UniqueConstraints.isViolated(new DataIntegrityViolationException("insert failed", h2), KEY))
+                .isTrue();
+    }
+
+    private static SQLIntegrityConstraintViolationException mysql(int errorCode, String message) {
+        return new SQLIntegrityConstraintViolationException(message, "23000", errorCode);
+    }
+}
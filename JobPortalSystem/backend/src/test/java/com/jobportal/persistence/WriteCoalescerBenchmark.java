@@ -0,0 +1,124 @@
+package com.jobportal.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one transaction per insert against the write coalescer, at 1, 16 and 256
+ * concurrent writers. Not a unit test; run it from the test classpath with
+ * {@code java com.jobportal.persistence.WriteCoalescerBenchmark [jdbc-url [user [password]]]}.
+ * Defaults to a file-backed H2 database in MySQL mode; point it at a scratch MySQL schema for
+ * numbers that include a real fsync per commit. Rows go to a benchmark_rows table that is
+ * dropped afterwards.
+ */
+public class WriteCoalescerBenchmark {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO benchmark_rows (id, payload, created_at) VALUES (:id, :payload, :createdAt)";
+    private static final int SECONDS_PER_RUN = Integer.getInteger("benchmark.seconds-per-run", 10);
+    private static final int[] WRITERS = {1, 16, 256};
+    // Hikari's default, so the per-insert runs see the same limit the application does
+    private static final int MAIN_POOL_SIZE = 10;
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "jdbc:h2:file:./target/coalescer-benchmark;MODE=MySQL";
+        try (HikariDataSource main = pool(url, args, "benchmark-main", MAIN_POOL_SIZE);
+             HikariDataSource coalescerPool = pool(url, args, "benchmark-coalescer", 4)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(main);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_sequences " +
+                    "(sequence_name VARCHAR(255) NOT NULL PRIMARY KEY, next_val BIGINT)");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS benchmark_rows " +
+                    "(id BIGINT NOT NULL PRIMARY KEY, payload VARCHAR(64), created_at TIMESTAMP)");
+
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(main);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+            IdBlockAllocator ids = new IdBlockAllocator(jdbcTemplate, transactionManager, 500);
+
+            WriteCoalescer coalescer = new WriteCoalescer(coalescerPool, new SimpleMeterRegistry(), null, null);
+            ReflectionTestUtils.setField(coalescer, "maxBatchSize", 256);
+            ReflectionTestUtils.setField(coalescer, "maxDelayMs", Long.getLong("benchmark.max-delay-ms", 0));
+            ReflectionTestUtils.setField(coalescer, "queueCapacity", 10_000);
+            ReflectionTestUtils.setField(coalescer, "idBlockSize", 500);
+            coalescer.start();
+            CoalescedInsert<String> insert = CoalescedInsert.of("benchmark_rows", INSERT_SQL,
+                    WriteCoalescerBenchmark::parameters, (row, id) -> { });
+
+            List<String> results = new ArrayList<>();
+            try {
+                for (int writers : WRITERS) {
+                    // The id is taken before the transaction, as a refill needs a connection of its own
+                    double direct = measure(writers, () -> {
+                        MapSqlParameterSource row = parameters("direct").addValue("id", ids.next("benchmark_rows"));
+                        transactionTemplate.executeWithoutResult(status -> named.update(INSERT_SQL, row));
+                    });
+                    double coalesced = measure(writers, () -> coalescer.submit(insert, "coalesced").join());
+                    results.add(String.format("writers=%-4d per-insert tx=%10.0f rows/s   coalesced=%10.0f rows/s   gain=%5.1fx",
+                            writers, direct, coalesced, coalesced / direct));
+                }
+            } finally {
+                coalescer.stop();
+                jdbcTemplate.execute("DROP TABLE benchmark_rows");
+                jdbcTemplate.update("DELETE FROM id_sequences WHERE sequence_name = 'benchmark_rows'");
+            }
+            System.out.printf("Write coalescer benchmark against %s (%ds per run):%n%s%n",
+                    url, SECONDS_PER_RUN, String.join("\n", results));
+        }
+    }
+
+    private static double measure(int writers, Runnable insert) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS_PER_RUN);
+        long start = System.nanoTime();
+        try {
+            List<Future<Long>> counts = new ArrayList<>(writers);
+            for (int i = 0; i < writers; i++) {
+                counts.add(executor.submit(() -> {
+                    long written = 0;
+                    while (System.nanoTime() < deadline) {
+                        insert.run();
+                        written++;
+                    }
+                    return written;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> count : counts) {
+                total += count.get();
+            }
+            return total / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static HikariDataSource pool(String url, String[] args, String name, int size) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(url);
+        pool.setUsername(args.length > 1 ? args[1] : "sa");
+        pool.setPassword(args.length > 2 ? args[2] : "");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(size);
+        return pool;
+    }
+
+    private static MapSqlParameterSource parameters(String payload) {
+        return new MapSqlParameterSource()
+                .addValue("payload", payload)
+                .addValue("createdAt", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,218 @@
+package com.jobportal.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.event.DomainEvent;
+import com.jobportal.event.DomainEventBus;
+import com.jobportal.repository.OutboxEventRepository;
+import com.jobportal.repository.ProcessedEventRepository;
+import com.jobportal.service.OutboxService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WriteCoalescerTest {
+
+    private static final CoalescedInsert<String> INSERT = CoalescedInsert.of("rows",
+            "INSERT INTO rows (id, name) VALUES (:id, :name)",
+            name -> new MapSqlParameterSource("name", name), (name, id) -> { });
+
+    private static final CoalescedInsert<String> INSERT_WITH_EVENT = CoalescedInsert.of("rows",
+            "INSERT INTO rows (id, name) VALUES (:id, :name)",
+            name -> new MapSqlParameterSource("name", name),
+            (name, id) -> List.of(new RowInserted(UUID.randomUUID().toString(), Instant.now(), id, name)),
+            (name, id) -> { });
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private String url;
+    private JdbcTemplate jdbcTemplate;
+    private WriteCoalescer coalescer;
+    private DomainEventBus domainEventBus;
+
+    @BeforeEach
+    void setUp() {
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        jdbcTemplate = new JdbcTemplate(pool(2));
+        jdbcTemplate.execute("CREATE TABLE id_sequences (sequence_name VARCHAR(255) PRIMARY KEY, next_val BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE rows (id BIGINT PRIMARY KEY, name VARCHAR(64) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE TABLE outbox_events (id BIGINT PRIMARY KEY, event_id VARCHAR(36) NOT NULL, " +
+                "event_type VARCHAR(255) NOT NULL, partition_key BIGINT, payload TEXT NOT NULL, " +
+                "status VARCHAR(20) NOT NULL, attempts INT, available_at TIMESTAMP NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL)");
+        domainEventBus = mock(DomainEventBus.class);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (coalescer != null) {
+            coalescer.stop();
+        }
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void concurrentWritersOnASmallPoolAllGetDistinctIds() throws Exception {
+        coalescer = coalescer(2, 0);
+        int writers = 64;
+        int rowsPerWriter = 50;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            results.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < rowsPerWriter; i++) {
+                    ids.add(coalescer.submit(INSERT, writer + "-" + i).join());
+                }
+                return ids;
+            }));
+        }
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> result : results) {
+            ids.addAll(result.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(writers * rowsPerWriter);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rows", Long.class))
+                .isEqualTo(writers * rowsPerWriter);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM rows", Long.class))
+                .isEqualTo(writers * rowsPerWriter);
+    }
+
+    @Test
+    void callersHoldingEveryMainConnectionDoNotDeadlock() {
+        coalescer = coalescer(2, 5);
+        // Two main connections and eight callers, each holding one inside its transaction
+        TransactionTemplate mainTransactions = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String name = "caller-" + i;
+                results.add(executor.submit(() -> mainTransactions.execute(status -> {
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rows", Long.class);
+                    return coalescer.submit(INSERT, name).join();
+                })));
+            }
+            for (Future<Long> result : results) {
+                assertThat(result.get()).isPositive();
+            }
+            executor.shutdown();
+        });
+    }
+
+    @Test
+    void aDuplicateFailsOnlyItsOwnRow() {
+        coalescer = coalescer(2, 200);
+        jdbcTemplate.update("INSERT INTO rows (id, name) VALUES (0, 'taken')");
+
+        // Submitted back to back, so all three land in one batch and it has to be split
+        CompletableFuture<Long> first = coalescer.submit(INSERT, "first");
+        CompletableFuture<Long> duplicate = coalescer.submit(INSERT, "taken");
+        CompletableFuture<Long> last = coalescer.submit(INSERT, "last");
+
+        assertThat(first.join()).isPositive();
+        assertThat(last.join()).isPositive();
+        assertThatThrownBy(duplicate::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM rows ORDER BY name", String.class))
+                .containsExactly("first", "last", "taken");
+    }
+
+    @Test
+    void eventsCommitWithTheirRowsAndAreDispatchedOnlyAfterwards() {
+        coalescer = coalescer(2, 200);
+        jdbcTemplate.update("INSERT INTO rows (id, name) VALUES (0, 'taken')");
+        List<String> dispatched = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            RowInserted event = invocation.getArgument(0);
+            // Read on a main-pool connection, so only committed rows are visible
+            if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE event_id = ?",
+                    Long.class, event.eventId()) == 1) {
+                dispatched.add(event.name());
+            }
+            return null;
+        }).when(domainEventBus).dispatch(any());
+
+        // The duplicate rolls back the shared batch; its retry must not leave the others' events twice
+        CompletableFuture<Long> first = coalescer.submit(INSERT_WITH_EVENT, "first");
+        CompletableFuture<Long> duplicate = coalescer.submit(INSERT_WITH_EVENT, "taken");
+        CompletableFuture<Long> last = coalescer.submit(INSERT_WITH_EVENT, "last");
+
+        first.join();
+        last.join();
+        assertThatThrownBy(duplicate::join).hasCauseInstanceOf(DuplicateKeyException.class);
+
+        assertThat(dispatched).containsExactlyInAnyOrder("first", "last");
+        assertThat(jdbcTemplate.queryForList("SELECT partition_key FROM outbox_events ORDER BY partition_key", Long.class))
+                .containsExactly(Math.min(first.join(), last.join()), Math.max(first.join(), last.join()));
+        verify(domainEventBus, times(2)).dispatch(any());
+    }
+
+    private WriteCoalescer coalescer(int poolSize, long maxDelayMs) {
+        OutboxService outboxService = new OutboxService(mock(OutboxEventRepository.class),
+                mock(ProcessedEventRepository.class), new ObjectMapper().findAndRegisterModules());
+        WriteCoalescer writeCoalescer = new WriteCoalescer(pool(poolSize), new SimpleMeterRegistry(),
+                outboxService, domainEventBus);
+        ReflectionTestUtils.setField(writeCoalescer, "enabled", true);
+        ReflectionTestUtils.setField(writeCoalescer, "maxBatchSize", 256);
+        ReflectionTestUtils.setField(writeCoalescer, "maxDelayMs", maxDelayMs);
+        ReflectionTestUtils.setField(writeCoalescer, "queueCapacity", 10_000);
+        ReflectionTestUtils.setField(writeCoalescer, "idBlockSize", 100);
+        writeCoalescer.start();
+        return writeCoalescer;
+    }
+
+    private record RowInserted(String eventId, Instant occurredAt, Long rowId, String name) implements DomainEvent {
+
+        @Override
+        public long partitionKey() {
+            return rowId;
+        }
+    }
+
+    private HikariDataSource pool(int size) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(url);
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(size);
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,80 @@
+package com.jobportal.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    void firesTimeoutsOnceTheirTickHasPassed() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 450);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("a");
+        assertThat(wheel.advance(400)).isEmpty();
+        assertThat(wheel.advance(500)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void keepsTimeoutsMoreThanOneRevolutionOutUntilTheirTick() {
+        // 8 buckets of 100ms, so 1050 shares a bucket with 250
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        wheel.schedule("near", 250);
+        wheel.schedule("far", 1050);
+
+        assertThat(wheel.advance(300)).containsExactly("near");
+        assertThat(wheel.advance(1000)).isEmpty();
+        assertThat(wheel.advance(1100)).containsExactly("far");
+    }
+
+    @Test
+    void firesEverythingDueAfterALongPause() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(10, 4, 0);
+        for (int i = 0; i < 20; i++) {
+            wheel.schedule(i, i * 25L);
+        }
+
+        assertThat(wheel.advance(10_000)).containsExactlyInAnyOrder(
+                0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 1_000);
+        wheel.advance(1_500);
+        wheel.schedule("late", 200);
+
+        assertThat(wheel.advance(1_600)).containsExactly("late");
+    }
+
+    @Test
+    void cancelledTimeoutsNeverFire() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 250);
+        TimingWheel.Timeout<String> kept = wheel.schedule("kept", 250);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(cancelled.isPending()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advance(300)).containsExactly("kept");
+        assertThat(kept.isPending()).isFalse();
+        assertThat(kept.cancel()).isFalse();
+    }
+
+    @Test
+    void roundsTheWheelUpToAPowerOfTwo() {
+        // 5 becomes 8 buckets, so 750 is still within the first revolution
+        TimingWheel<String> wheel = new TimingWheel<>(100, 5, 0);
+        wheel.schedule("x", 750);
+
+        assertThat(wheel.advance(700)).isEmpty();
+        assertThat(wheel.advance(800)).containsExactly("x");
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateIndexTest {
+
+    private static CandidateIndex sample() {
+        CandidateIndex index = new CandidateIndex();
+        index.add(101, 1, List.of("java", "spring", "berlin"));
+        index.add(102, 1, List.of("python", "berlin"));
+        index.add(103, 2, List.of("java", "kotlin", "munich"));
+        index.add(104, 1, List.of("java", "spring", "munich"));
+        return index;
+    }
+
+    @Test
+    void andsTermsAndReturnsNewestFirst() {
+        assertThat(sample().search(List.of(List.of("java", "spring")), null, 10)).containsExactly(104L, 101L);
+    }
+
+    @Test
+    void orsClausesWithoutDuplicates() {
+        List<List<String>> clauses = List.of(List.of("java", "munich"), List.of("berlin"), List.of("kotlin"));
+
+        assertThat(sample().search(clauses, null, 10)).containsExactly(104L, 103L, 102L, 101L);
+    }
+
+    @Test
+    void filtersByJobAndLimits() {
+        assertThat(sample().search(List.of(List.of("java")), 1L, 10)).containsExactly(104L, 101L);
+        assertThat(sample().search(List.of(List.of("java")), null, 2)).containsExactly(104L, 103L);
+    }
+
+    @Test
+    void unknownTermEmptiesItsClause() {
+        assertThat(sample().search(List.of(List.of("java", "cobol")), null, 10)).isEmpty();
+        assertThat(sample().search(List.of(List.of("cobol"), List.of("python")), null, 10)).containsExactly(102L);
+    }
+
+    @Test
+    void intersectionMatchesABruteForceScan() {
+        Random random = new Random(42);
+        CandidateIndex index = new CandidateIndex();
+        List<Set<String>> docs = new ArrayList<>();
+        // Skewed term frequencies, so the rarest-first merge walks lists of very different lengths
+        String[] vocabulary = {"common", "frequent", "medium", "rare", "rarer"};
+        double[] frequency = {0.9, 0.6, 0.3, 0.05, 0.02};
+        for (int doc = 0; doc < 5000; doc++) {
+            Set<String> terms = new HashSet<>();
+            for (int t = 0; t < vocabulary.length; t++) {
+                if (random.nextDouble() < frequency[t]) {
+                    terms.add(vocabulary[t]);
+                }
+            }
+            docs.add(terms);
+            index.add(doc, 1, terms);
+        }
+
+        for (List<String> clause : List.of(List.of("common", "frequent"), List.of("rare", "common", "medium"),
+                List.of("rarer", "rare"), List.of("frequent", "medium", "common", "rare"))) {
+            List<Long> expected = new ArrayList<>();
+            for (int doc = docs.size() - 1; doc >= 0; doc--) {
+                if (docs.get(doc).containsAll(clause)) {
+                    expected.add((long) doc);
+                }
+            }
+            assertThat(index.search(List.of(clause), null, Integer.MAX_VALUE)).as("%s", clause).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateSearchServiceTest {
+
+    @Test
+    void upperCaseOrSplitsClausesAndEverythingElseIsAnded() {
+        assertThat(CandidateSearchService.parseQuery("kubernetes AND go OR golang docker"))
+                .containsExactly(List.of("kubernetes", "go"), List.of("golang", "docker"));
+        assertThat(CandidateSearchService.parseQuery("java && spring || kotlin"))
+                .containsExactly(List.of("java", "spring"), List.of("kotlin"));
+    }
+
+    @Test
+    void lowerCaseOrIsAStopWordNotAnOperator() {
+        assertThat(CandidateSearchService.parseQuery("java or python"))
+                .containsExactly(List.of("java", "python"));
+    }
+
+    @Test
+    void keepsTechnologyNamesAndSkipsEmptyClauses() {
+        assertThat(CandidateSearchService.parseQuery("OR c++ AND node.js OR OR the OR c#"))
+                .containsExactly(List.of("c++", "node.js"), List.of("c#"));
+    }
+
+    @Test
+    void blankOrStopWordOnlyQueriesHaveNoClauses() {
+        assertThat(CandidateSearchService.parseQuery(null)).isEmpty();
+        assertThat(CandidateSearchService.parseQuery("   ")).isEmpty();
+        assertThat(CandidateSearchService.parseQuery("the and of")).isEmpty();
+    }
+
+    @Test
+    void capsTheNumberOfTermsAcrossClauses() {
+        StringBuilder query = new StringBuilder();
+        for (int i = 0; i < 15; i++) {
+            query.append("a").append(i).append(' ');
+        }
+        query.append("OR ");
+        for (int i = 0; i < 15; i++) {
+            query.append("b").append(i).append(' ');
+        }
+        query.append("OR extra");
+
+        List<List<String>> clauses = CandidateSearchService.parseQuery(query.toString());
+
+        assertThat(clauses).hasSize(2);
+        assertThat(clauses.get(0)).hasSize(15);
+        assertThat(clauses.get(1)).hasSize(5).startsWith("b0");
+    }
+}
@@ -0,0 +1,206 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Job;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PercolatorIndexTest {
+
+    // Anchor namespaces, as packed into the top bits of a posting key
+    private static final long ANY = 0;
+    private static final long KEYWORD = 1;
+    private static final long LOCATION = 2;
+    private static final long JOB_TYPE = 3;
+    private static final long REMOTE = 5;
+
+    private static PercolatorIndex.Query query(long id, String keyword, String location, Job.JobType jobType,
+                                               Boolean isRemote) {
+        return new PercolatorIndex.Query(id, 100 + id, keyword, location, jobType, null, isRemote);
+    }
+
+    private static PercolatorIndex.JobDocument job(String title, String description, String location) {
+        return new PercolatorIndex.JobDocument(title, description, location, Job.JobType.FULL_TIME,
+                Job.ExperienceLevel.MID_LEVEL, false);
+    }
+
+    // Number of searches filed under each anchor namespace
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Integer> anchors(PercolatorIndex index) {
+        Map<Long, Object> postings = (Map<Long, Object>) ReflectionTestUtils.getField(index, "postings");
+        Map<Long, Integer> counts = new HashMap<>();
+        postings.forEach((key, list) ->
+                counts.merge(key >>> 48, (Integer) ReflectionTestUtils.getField(list, "size"), Integer::sum));
+        return counts;
+    }
+
+    @Test
+    void filesASearchUnderAKeywordTrigramAheadOfItsFilters() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "java", "berlin", Job.JobType.FULL_TIME, true));
+
+        assertThat(anchors(index)).containsExactly(Map.entry(KEYWORD, 1));
+    }
+
+    @Test
+    void spreadsSearchesForTheSameKeywordOverItsLeastUsedTrigrams() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "java", null, null, null));
+        index.put(query(2, "java", null, null, null));
+        index.put(query(3, "java", null, null, null));
+
+        // "jav" and "ava" take one each, then the third goes back to the first least used
+        Map<Long, Object> postings = (Map<Long, Object>) ReflectionTestUtils.getField(index, "postings");
+        assertThat(postings).hasSize(2);
+        assertThat(anchors(index)).containsExactly(Map.entry(KEYWORD, 3));
+    }
+
+    @Test
+    void usesTheLocationWhenTheKeywordIsTooShortForATrigram() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "go", "berlin", Job.JobType.FULL_TIME, null));
+
+        assertThat(anchors(index)).containsExactly(Map.entry(LOCATION, 1));
+    }
+
+    @Test
+    void fallsBackToTheLeastUsedEqualityFilter() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "go", "ny", Job.JobType.FULL_TIME, true));
+        index.put(query(2, "go", "ny", Job.JobType.FULL_TIME, true));
+
+        assertThat(anchors(index)).containsOnly(Map.entry(JOB_TYPE, 1), Map.entry(REMOTE, 1));
+    }
+
+    @Test
+    void filesSearchesWithNothingSelectiveUnderTheCatchAll() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "go", null, null, null));
+        index.put(query(2, null, null, null, null));
+
+        assertThat(anchors(index)).containsExactly(Map.entry(ANY, 2));
+    }
+
+    @Test
+    void findsSearchesWhateverTheirAnchor() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "java", null, null, null));
+        index.put(query(2, "go", "berlin", null, null));
+        index.put(query(3, "go", null, Job.JobType.FULL_TIME, null));
+        index.put(query(4, "go", null, null, null));
+        index.put(query(5, "go", null, Job.JobType.CONTRACT, null));
+        index.put(query(6, "rust", null, null, null));
+
+        List<PercolatorIndex.Query> matches =
+                index.match(job("senior java engineer", "backend work in go", "berlin, germany"));
+
+        assertThat(matches).extracting(PercolatorIndex.Query::id).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void dropsRemovedAndReplacedSearches() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "java", null, null, null));
+        index.put(query(2, "java", null, null, null));
+        index.remove(1);
+        index.put(query(2, "rust", null, null, null));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.match(job("java developer", "", ""))).isEmpty();
+        assertThat(index.match(job("rust developer", "", ""))).extracting(PercolatorIndex.Query::id)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void treatsLikeWildcardsInTheKeywordAsTheDatabaseDoes() {
+        PercolatorIndex index = new PercolatorIndex();
+        index.put(query(1, "java%engineer", null, null, null));
+        index.put(query(2, "ci_cd", null, null, null));
+        index.put(query(3, "100\\%", null, null, null));
+
+        assertThat(index.match(job("java backend engineer", "", ""))).extracting(PercolatorIndex.Query::id)
+                .containsExactly(1L);
+        assertThat(index.match(job("ci/cd pipelines", "", ""))).extracting(PercolatorIndex.Query::id)
+                .containsExactly(2L);
+        assertThat(index.match(job("100% remote", "", ""))).extracting(PercolatorIndex.Query::id)
+                .containsExactly(3L);
+        assertThat(index.match(job("1000 users", "", ""))).isEmpty();
+    }
+
+    @Test
+    void agreesWithTheJobSearchQuery() {
+        String[][] jobs = {
+                {"Senior Java Engineer", "Spring Boot and Kotlin", "Berlin, Germany"},
+                {"GO developer", "Distributed systems", "New York"},
+                {"Data Scientist", null, "Remote - EU"},
+                {"C# / .NET Lead", "100% remote, Azure", "London"},
+                {"Frontend (React)", "TypeScript_first team", "São Paulo"},
+                {"QA", "manual and automated testing", "NY"},
+        };
+        String[] keywords = {
+                "java", "JAVA", "Jav", "go", "GO", "Go", "a", "qa", "c#", ".net", "net lead", "100%", "100\\%",
+                "s_o", "script\\_f", "java%kotlin", "react)", "spring  boot", " ", "x", "%", "_",
+                "systems", "eu", "paulo", "são",
+        };
+        String[] locations = {"berlin", "BERLIN", "ny", "new", "york", "remote", "lo", "são paulo", "e_"};
+
+        HikariDataSource dataSource = new HikariDataSource();
+        try {
+            dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+            dataSource.setUsername("sa");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE jobs (id BIGINT PRIMARY KEY, title VARCHAR(255), " +
+                    "description VARCHAR(255), location VARCHAR(255))");
+            for (int i = 0; i < jobs.length; i++) {
+                jdbcTemplate.update("INSERT INTO jobs VALUES (?, ?, ?, ?)", i, jobs[i][0], jobs[i][1], jobs[i][2]);
+            }
+
+            // The keyword and location conditions of JobRepository.findJobsWithFilters
+            String keywordSql = "SELECT id FROM jobs WHERE LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) OR " +
+                    "LOWER(description) LIKE LOWER(CONCAT('%', ?, '%')) ORDER BY id";
+            String locationSql = "SELECT id FROM jobs WHERE LOWER(location) LIKE LOWER(CONCAT('%', ?, '%')) " +
+                    "ORDER BY id";
+            for (String keyword : keywords) {
+                PercolatorIndex index = new PercolatorIndex();
+                index.put(query(1, keyword.toLowerCase(Locale.ROOT), null, null, null));
+                assertThat(matchingJobs(index, jobs))
+                        .as("keyword '%s'", keyword)
+                        .isEqualTo(jdbcTemplate.queryForList(keywordSql, Long.class, keyword, keyword));
+            }
+            for (String location : locations) {
+                PercolatorIndex index = new PercolatorIndex();
+                index.put(query(1, null, location.toLowerCase(Locale.ROOT), null, null));
+                assertThat(matchingJobs(index, jobs))
+                        .as("location '%s'", location)
+                        .isEqualTo(jdbcTemplate.queryForList(locationSql, Long.class, location));
+            }
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    // Ids of the jobs the index's searches match, lower-cased as SavedSearchPercolator reads them
+    private static List<Long> matchingJobs(PercolatorIndex index, String[][] jobs) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < jobs.length; i++) {
+            if (!index.match(job(lower(jobs[i][0]), lower(jobs[i][1]), lower(jobs[i][2]))).isEmpty()) {
+                ids.add((long) i);
+            }
+        }
+        return ids;
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,102 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeekerIndexTest {
+
+    private static SeekerIndex.Builder seeker(SeekerIndex.Builder builder, long userId, String location, String bio) {
+        builder.addSeeker(userId, Tokenizer.terms(location), Tokenizer.terms(bio));
+        return builder;
+    }
+
+    private static SeekerIndex sample() {
+        SeekerIndex.Builder builder = new SeekerIndex.Builder();
+        seeker(builder, 1, "Berlin", "Java developer who enjoys distributed systems");
+        seeker(builder, 2, "Berlin", "Python data engineer");
+        seeker(builder, 3, "Munich", "Java and Kotlin developer");
+        seeker(builder, 4, "Berlin", "Kotlin developer");
+        builder.addSkill(1, 10);
+        builder.addSkill(1, 20);
+        builder.addSkill(2, 20);
+        builder.addSkill(3, 10);
+        builder.addSkill(4, 10);
+        builder.addSkill(4, 20);
+        // Not a seeker in the index; ignored
+        builder.addSkill(5, 10);
+        return builder.build();
+    }
+
+    @Test
+    void intersectsSkillsAndLocationsNewestFirstWhenNothingRanks() {
+        SeekerIndex.Result result = sample().search(List.of(10L, 20L), Set.of("berlin"), Set.of(), 0, 10);
+
+        assertThat(result.userIds()).containsExactly(4, 1);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void ranksByBioTermsAndDropsSeekersNoneOfThemMatch() {
+        SeekerIndex.Result result = sample().search(List.of(10L), Set.of(), Set.of("java", "distributed"), 0, 10);
+
+        // Seeker 4 has the skill but neither bio term
+        assertThat(result.userIds()).containsExactly(1, 3);
+        assertThat(result.scores()[0]).isGreaterThan(result.scores()[1]);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void searchesBioTermsAloneAsAUnion() {
+        SeekerIndex.Result result = sample().search(List.of(), Set.of(), Set.of("kotlin", "python"), 0, 10);
+
+        assertThat(result.userIds()).containsExactlyInAnyOrder(2, 3, 4);
+    }
+
+    @Test
+    void returnsNothingForAnUnknownSkillOrTerm() {
+        SeekerIndex index = sample();
+
+        assertThat(index.search(List.of(99L), Set.of(), Set.of(), 0, 10).total()).isZero();
+        assertThat(index.search(List.of(), Set.of("paris"), Set.of(), 0, 10).total()).isZero();
+        assertThat(index.search(List.of(10L), Set.of(), Set.of("cobol"), 0, 10).total()).isZero();
+    }
+
+    @Test
+    void pagesThroughTheMatchesWithTheFullTotal() {
+        SeekerIndex index = sample();
+
+        SeekerIndex.Result first = index.search(List.of(10L), Set.of(), Set.of(), 0, 2);
+        SeekerIndex.Result second = index.search(List.of(10L), Set.of(), Set.of(), 2, 2);
+
+        assertThat(first.userIds()).containsExactly(4, 3);
+        assertThat(second.userIds()).containsExactly(1);
+        assertThat(first.total()).isEqualTo(3);
+        assertThat(second.total()).isEqualTo(3);
+    }
+
+    @Test
+    void givesTheSameAnswersOnceTermsAreDenseEnoughForBitmaps() {
+        // One seeker in two has skill 10 and lives in Berlin, well past the one-in-32 switch to bitmaps
+        SeekerIndex.Builder builder = new SeekerIndex.Builder();
+        for (long userId = 1; userId <= 2000; userId++) {
+            seeker(builder, userId, userId % 2 == 0 ? "Berlin" : "Munich", userId % 100 == 0 ? "rare" : "common");
+        }
+        for (long userId = 1; userId <= 2000; userId++) {
+            if (userId % 2 == 0 || userId % 3 == 0) {
+                builder.addSkill(userId, 10);
+            }
+        }
+        SeekerIndex index = builder.build();
+
+        SeekerIndex.Result result = index.search(List.of(10L), Set.of("berlin"), Set.of("rare", "common"), 0, 5);
+
+        assertThat(index.size()).isEqualTo(2000);
+        assertThat(result.total()).isEqualTo(1000);
+        // The rarer term weighs more, so the 20 seekers with it come first, newest first on ties
+        assertThat(result.userIds()).containsExactly(2000, 1900, 1800, 1700, 1600);
+    }
+}
@@ -0,0 +1,142 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Job;
+import com.jobportal.event.JobExpiredEvent;
+import com.jobportal.repository.JobRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimilarJobServiceTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimilarJobService service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE jobs (id BIGINT PRIMARY KEY, title VARCHAR(255), category_id BIGINT, " +
+                "experience_level VARCHAR(32), is_active BOOLEAN, application_deadline TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE job_skills (job_id BIGINT, skill_id BIGINT)");
+
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Job> jobs = new ArrayList<>();
+            for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+                Job job = new Job();
+                job.setId((Long) id);
+                job.setIsActive(true);
+                jobs.add(job);
+            }
+            return jobs;
+        });
+        service = new SimilarJobService(jdbcTemplate, jobRepository);
+        ReflectionTestUtils.setField(service, "maxCandidates", 200);
+        ReflectionTestUtils.setField(service, "maxResults", 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private void job(long id, String title, long categoryId, long... skillIds) {
+        jdbcTemplate.update("INSERT INTO jobs VALUES (?, ?, ?, 'SENIOR', true, NULL)", id, title, categoryId);
+        for (long skillId : skillIds) {
+            jdbcTemplate.update("INSERT INTO job_skills VALUES (?, ?)", id, skillId);
+        }
+    }
+
+    private static long[] features(int from, int to) {
+        long[] features = LongStream.range(from, to).map(i -> SimilarJobService.feature("s:" + i)).toArray();
+        Arrays.sort(features);
+        return features;
+    }
+
+    private static boolean shareABucket(long[] a, long[] b) {
+        long[] keysA = SimilarJobService.bucketKeys(a);
+        long[] keysB = SimilarJobService.bucketKeys(b);
+        for (int band = 0; band < keysA.length; band++) {
+            if (keysA[band] == keysB[band]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void computesExactJaccardOnSortedFeatures() {
+        assertThat(SimilarJobService.jaccard(new long[] {1, 2, 3, 4}, new long[] {3, 4, 5, 6})).isEqualTo(2.0 / 6);
+        assertThat(SimilarJobService.jaccard(new long[] {1, 2}, new long[] {1, 2})).isEqualTo(1.0);
+        assertThat(SimilarJobService.jaccard(new long[0], new long[0])).isZero();
+    }
+
+    @Test
+    void filesIdenticalFeatureSetsUnderTheSameBuckets() {
+        long[] features = features(0, 12);
+
+        assertThat(SimilarJobService.bucketKeys(features)).containsExactly(SimilarJobService.bucketKeys(features.clone()));
+    }
+
+    @Test
+    void nearDuplicatesCollideAndUnrelatedJobsDoNot() {
+        SplittableRandom random = new SplittableRandom(42);
+        int nearHits = 0;
+        int farHits = 0;
+        for (int trial = 0; trial < 100; trial++) {
+            int base = random.nextInt(1_000_000);
+            // 18 shared of 20: Jaccard 0.9
+            long[] job = features(base, base + 19);
+            long[] nearDuplicate = features(base + 1, base + 20);
+            long[] unrelated = features(base + 100, base + 119);
+            nearHits += shareABucket(job, nearDuplicate) ? 1 : 0;
+            farHits += shareABucket(job, unrelated) ? 1 : 0;
+        }
+
+        assertThat(nearHits).isGreaterThanOrEqualTo(99);
+        assertThat(farHits).isZero();
+    }
+
+    @Test
+    void ranksCandidatesByExactSimilarityAndLeavesOutTheJobItself() {
+        job(1, "Senior Java Backend Engineer", 1, 10, 11, 12);
+        job(2, "Senior Java Backend Engineer", 1, 10, 11, 12);
+        job(3, "Java Backend Engineer", 1, 10, 11);
+        job(4, "Pastry Chef", 9, 90);
+        service.rebuild();
+
+        List<Job> similar = service.findSimilar(1L, 10);
+
+        assertThat(similar).extracting(Job::getId).startsWith(2L).doesNotContain(1L, 4L);
+    }
+
+    @Test
+    void dropsExpiredJobsFromTheIndex() {
+        job(1, "Senior Java Backend Engineer", 1, 10, 11, 12);
+        job(2, "Senior Java Backend Engineer", 1, 10, 11, 12);
+        service.rebuild();
+
+        service.onJobExpired(JobExpiredEvent.of(2L));
+
+        assertThat(service.findSimilar(1L, 10)).isEmpty();
+    }
+}
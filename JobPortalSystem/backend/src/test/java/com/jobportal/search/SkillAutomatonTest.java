@@ -0,0 +1,80 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillAutomatonTest {
+
+    private static Set<Long> match(SkillAutomaton automaton, String text) {
+        Set<Long> found = new LinkedHashSet<>();
+        automaton.match(text, found);
+        return found;
+    }
+
+    @Test
+    void findsPatternsInOrderOfFirstOccurrence() {
+        SkillAutomaton automaton = new SkillAutomaton.Builder()
+                .add("Java", 1)
+                .add("Docker", 2)
+                .add("Kubernetes", 3)
+                .build();
+
+        assertThat(match(automaton, "Docker and Kubernetes experience; Java a plus. Docker again."))
+                .containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void matchesOnlyOnTermBoundaries() {
+        SkillAutomaton automaton = new SkillAutomaton.Builder().add("Java", 1).build();
+
+        assertThat(match(automaton, "JavaScript developer")).isEmpty();
+        assertThat(match(automaton, "java, developer")).containsExactly(1L);
+    }
+
+    @Test
+    void keepsTechnologyPunctuationInTerms() {
+        SkillAutomaton automaton = new SkillAutomaton.Builder()
+                .add("C++", 1)
+                .add("Node.js", 2)
+                .build();
+
+        assertThat(match(automaton, "Modern C++ and node.js services")).containsExactly(1L, 2L);
+        assertThat(match(automaton, "C and Node")).isEmpty();
+    }
+
+    @Test
+    void findsOverlappingMultiTermPatternsThroughFailLinks() {
+        SkillAutomaton automaton = new SkillAutomaton.Builder()
+                .add("Microsoft SQL Server", 1)
+                .add("SQL Server", 2)
+                .add("Server", 3)
+                .build();
+
+        assertThat(match(automaton, "Microsoft SQL Server")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        // A failed longer match falls back to the shorter pattern it contains
+        assertThat(match(automaton, "Microsoft Excel, SQL Server")).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    void mapsAliasesToTheSameSkill() {
+        SkillAutomaton automaton = new SkillAutomaton.Builder()
+                .add("Go", 7)
+                .add("golang", 7)
+                .build();
+
+        assertThat(match(automaton, "golang and Go")).containsExactly(7L);
+        assertThat(automaton.patternCount()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoresPatternsThatTokenizeToNothing() {
+        SkillAutomaton automaton = new SkillAutomaton.Builder().add("the", 1).add("--", 2).build();
+
+        assertThat(automaton.patternCount()).isZero();
+        assertThat(match(automaton, "the -- end")).isEmpty();
+    }
+}
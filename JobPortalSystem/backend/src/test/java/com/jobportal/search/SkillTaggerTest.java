@@ -0,0 +1,57 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.Skill;
+import com.jobportal.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkillTaggerTest {
+
+    private SkillTagger tagger;
+
+    @BeforeEach
+    void setUp() {
+        SkillRepository skillRepository = mock(SkillRepository.class);
+        when(skillRepository.findVersion()).thenReturn("1");
+        when(skillRepository.findByIsActiveTrueOrderByNameAsc()).thenReturn(List.of(
+                skill(1L, "Java", Skill.SkillCategory.PROGRAMMING_LANGUAGES, null),
+                skill(2L, "Go", Skill.SkillCategory.PROGRAMMING_LANGUAGES, "golang"),
+                skill(3L, "React", Skill.SkillCategory.FRAMEWORKS, "reactjs, react.js"),
+                skill(4L, "C#", Skill.SkillCategory.PROGRAMMING_LANGUAGES, null),
+                skill(5L, "Communication", Skill.SkillCategory.SOFT_SKILLS, null),
+                skill(6L, "SQL Server", Skill.SkillCategory.DATABASES, null)));
+        tagger = new SkillTagger(skillRepository);
+        tagger.rebuild();
+    }
+
+    private static Skill skill(Long id, String name, Skill.SkillCategory category, String aliases) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        skill.setCategory(category);
+        skill.setAliases(aliases);
+        return skill;
+    }
+
+    @Test
+    void tagsSpecificSkillNames() {
+        assertThat(tagger.tag("Senior Java engineer", "Runs on SQL Server")).containsExactly(1L, 6L);
+    }
+
+    @Test
+    void skipsEverydayWordsAndShortNamesButKeepsTheirAliases() {
+        assertThat(tagger.tag("Go the extra mile and react quickly to C# or F# issues")).isEmpty();
+        assertThat(tagger.tag("Golang backend with a react.js front end")).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void skipsSoftSkills() {
+        assertThat(tagger.tag("Strong communication skills")).isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenizerTest {
+
+    @Test
+    void keepsTechnologyNamesTogether() {
+        assertThat(Tokenizer.tokenize("C++, C# and Node.js on ASP.NET"))
+                .containsExactly("c++", "c#", "node.js", "asp.net");
+    }
+
+    @Test
+    void dropsDotsThatDoNotSitBetweenTermCharacters() {
+        assertThat(Tokenizer.tokenize("Ships fast. .NET shop, v1.5 ready..."))
+                .containsExactly("ships", "fast", "net", "shop", "v1.5", "ready");
+    }
+
+    @Test
+    void plusAndHashOnlyFollowATerm() {
+        assertThat(Tokenizer.tokenize("++x #tag a+b")).containsExactly("x", "tag", "a+b");
+    }
+
+    @Test
+    void dropsStopWordsAndOverlongRuns() {
+        String overlong = "x".repeat(Tokenizer.MAX_TOKEN_LENGTH + 1);
+        String longest = "y".repeat(Tokenizer.MAX_TOKEN_LENGTH);
+
+        assertThat(Tokenizer.tokenize("The Java team is hiring " + overlong + " " + longest))
+                .containsExactly("java", "team", "hiring", longest);
+    }
+
+    @Test
+    void termsAreDistinctInFirstSeenOrder() {
+        assertThat(Tokenizer.terms("Go go GO rust Go")).containsExactly("go", "rust");
+    }
+}
@@ -0,0 +1,194 @@
+package com.jobportal.security;
+
+import com.jobportal.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyFilterTest {
+
+    private IdempotencyService idempotencyService;
+    private IdempotencyFilter filter;
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = mock(IdempotencyService.class);
+        filter = new IdempotencyFilter(idempotencyService);
+        signIn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void storesTheResponseOfTheFirstRequest() throws Exception {
+        outcome(IdempotencyService.Outcome.Type.PROCEED, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("{\"jobId\":5}"), response, controller(201, "{\"id\":7}"));
+
+        assertThat(controllerCalls).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+        verify(idempotencyService).complete(eq(1L), eq("key-1"), anyString(), eq(201), eq("application/json"),
+                eq("{\"id\":7}"));
+    }
+
+    @Test
+    void replaysTheStoredResponseWithoutRunningTheController() throws Exception {
+        outcome(IdempotencyService.Outcome.Type.REPLAY, new IdempotencyService.StoredResponse(
+                "hash", 201, "application/json", "{\"id\":7}", LocalDateTime.now().plusHours(1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("{\"jobId\":5}"), response, controller(201, "{\"id\":8}"));
+
+        assertThat(controllerCalls).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    void answersConflictWhileTheOriginalIsInProgress() throws Exception {
+        outcome(IdempotencyService.Outcome.Type.IN_PROGRESS, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("{\"jobId\":5}"), response, controller(201, "{}"));
+
+        assertThat(controllerCalls).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentBody() throws Exception {
+        outcome(IdempotencyService.Outcome.Type.MISMATCH, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("{\"jobId\":6}"), response, controller(201, "{}"));
+
+        assertThat(controllerCalls).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void fingerprintDependsOnTheBody() throws Exception {
+        List<String> hashes = new ArrayList<>();
+        when(idempotencyService.begin(any(), anyString(), anyString())).thenAnswer(invocation -> {
+            hashes.add(invocation.getArgument(2));
+            return new IdempotencyService.Outcome(IdempotencyService.Outcome.Type.PROCEED, null);
+        });
+
+        filter.doFilter(request("{\"jobId\":5}"), new MockHttpServletResponse(), controller(201, "{}"));
+        filter.doFilter(request("{\"jobId\":5}"), new MockHttpServletResponse(), controller(201, "{}"));
+        filter.doFilter(request("{\"jobId\":6}"), new MockHttpServletResponse(), controller(201, "{}"));
+
+        assertThat(hashes.get(0)).isEqualTo(hashes.get(1)).isNotEqualTo(hashes.get(2));
+    }
+
+    @Test
+    void releasesTheKeyOnAServerError() throws Exception {
+        outcome(IdempotencyService.Outcome.Type.PROCEED, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("{\"jobId\":5}"), response, controller(503, "{}"));
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        verify(idempotencyService).release(1L, "key-1");
+        verify(idempotencyService, never()).complete(any(), anyString(), anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void releasesTheKeyWhenTheControllerThrows() {
+        outcome(IdempotencyService.Outcome.Type.PROCEED, null);
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request("{\"jobId\":5}"), new MockHttpServletResponse(), failing))
+                .hasMessageContaining("boom");
+        verify(idempotencyService).release(1L, "key-1");
+        verify(idempotencyService, never()).complete(any(), anyString(), anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void scopesKeysToTheSignedInUser() throws Exception {
+        outcome(IdempotencyService.Outcome.Type.PROCEED, null);
+
+        filter.doFilter(request("{\"jobId\":5}"), new MockHttpServletResponse(), controller(201, "{}"));
+        signIn(2L);
+        filter.doFilter(request("{\"jobId\":5}"), new MockHttpServletResponse(), controller(201, "{}"));
+
+        verify(idempotencyService).begin(eq(1L), eq("key-1"), anyString());
+        verify(idempotencyService).begin(eq(2L), eq("key-1"), anyString());
+    }
+
+    @Test
+    void leavesAnonymousAndUnlistedRequestsAlone() throws Exception {
+        MockHttpServletRequest unlisted = request("{}");
+        unlisted.setRequestURI("/api/companies");
+        filter.doFilter(unlisted, new MockHttpServletResponse(), controller(201, "{}"));
+
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request("{}"), new MockHttpServletResponse(), controller(201, "{}"));
+
+        assertThat(controllerCalls).hasValue(2);
+        verify(idempotencyService, never()).begin(any(), anyString(), anyString());
+    }
+
+    private void outcome(IdempotencyService.Outcome.Type type, IdempotencyService.StoredResponse stored) {
+        when(idempotencyService.begin(any(), anyString(), anyString()))
+                .thenReturn(new IdempotencyService.Outcome(type, stored));
+    }
+
+    private FilterChain controller(int status, String body) {
+        return (request, response) -> {
+            controllerCalls.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/applications");
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static void signIn(Long userId) {
+        UserDetailsImpl user = new UserDetailsImpl(userId, "user" + userId + "@example.com", "user" + userId + "@example.com",
+                "secret", List.of(), true, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
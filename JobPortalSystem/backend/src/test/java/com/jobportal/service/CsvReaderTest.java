@@ -0,0 +1,60 @@
+package com.jobportal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithCommasNewlinesAndQuotes() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(
+                "title,description\n" +
+                "\"Java, Senior\",\"Line one\nline two\"\n" +
+                "\"Say \"\"hi\"\"\",plain\n"));
+
+        assertThat(csv.readRecord()).containsExactly("title", "description");
+        assertThat(csv.readRecord()).containsExactly("Java, Senior", "Line one\nline two");
+        assertThat(csv.readRecord()).containsExactly("Say \"hi\"", "plain");
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void reportsTheLineEachRecordStartsOn() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a,b\r\n\"x\r\ny\",1\r\nz,2"));
+
+        csv.readRecord();
+        assertThat(csv.getRecordLine()).isEqualTo(1);
+        assertThat(csv.readRecord()).containsExactly("x\r\ny", "1");
+        assertThat(csv.getRecordLine()).isEqualTo(2);
+        assertThat(csv.readRecord()).containsExactly("z", "2");
+        assertThat(csv.getRecordLine()).isEqualTo(4);
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(",a,,\n"));
+
+        assertThat(csv.readRecord()).containsExactly("", "a", "", "");
+    }
+
+    @Test
+    void quotesOnlyOpenAFieldAtItsStart() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("5\" screen,b\n"));
+
+        assertThat(csv.readRecord()).isEqualTo(List.of("5\" screen", "b"));
+    }
+
+    @Test
+    void rejectsAnUnterminatedQuote() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a\n\"open,b\n"));
+        csv.readRecord();
+
+        assertThatThrownBy(csv::readRecord).isInstanceOf(IOException.class).hasMessageContaining("line 2");
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobportal.service;
+
+import com.jobportal.entity.IdempotencyRecord;
+import com.jobportal.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    private final Map<String, IdempotencyRecord> table = new HashMap<>();
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        // Map-backed stand-in for the idempotency_keys table
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        when(repository.claim(anyLong(), anyString(), anyString(), any(), any())).thenAnswer(invocation -> {
+            String id = invocation.getArgument(0) + ":" + invocation.getArgument(1);
+            if (table.containsKey(id)) {
+                return 0;
+            }
+            IdempotencyRecord record = new IdempotencyRecord();
+            record.setUserId(invocation.getArgument(0));
+            record.setIdempotencyKey(invocation.getArgument(1));
+            record.setRequestHash(invocation.getArgument(2));
+            record.setStatus(IdempotencyRecord.Status.IN_PROGRESS);
+            record.setExpiresAt(invocation.getArgument(4));
+            table.put(id, record);
+            return 1;
+        });
+        when(repository.findByUserIdAndIdempotencyKey(anyLong(), anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(table.get(invocation.getArgument(0) + ":" + invocation.getArgument(1))));
+        when(repository.complete(anyLong(), anyString(), anyInt(), any(), any())).thenAnswer(invocation -> {
+            IdempotencyRecord record = table.get(invocation.getArgument(0) + ":" + invocation.getArgument(1));
+            record.setStatus(IdempotencyRecord.Status.COMPLETED);
+            record.setResponseStatus(invocation.getArgument(2));
+            record.setContentType(invocation.getArgument(3));
+            record.setResponseBody(invocation.getArgument(4));
+            return 1;
+        });
+        when(repository.release(anyLong(), anyString())).thenAnswer(invocation ->
+                table.remove(invocation.getArgument(0) + ":" + invocation.getArgument(1)) == null ? 0 : 1);
+
+        service = new IdempotencyService(repository);
+        ReflectionTestUtils.setField(service, "ttlHours", 24L);
+        ReflectionTestUtils.setField(service, "cacheSize", 100);
+        service.init();
+    }
+
+    @Test
+    void replaysTheStoredResponse() {
+        assertThat(service.begin(1L, "key", "hash").type()).isEqualTo(IdempotencyService.Outcome.Type.PROCEED);
+        service.complete(1L, "key", "hash", 201, "application/json", "{\"id\":7}");
+
+        IdempotencyService.Outcome replay = service.begin(1L, "key", "hash");
+
+        assertThat(replay.type()).isEqualTo(IdempotencyService.Outcome.Type.REPLAY);
+        assertThat(replay.response().status()).isEqualTo(201);
+        assertThat(replay.response().body()).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    void replaysFromTheTableWhenAnotherNodeStoredTheResponse() {
+        service.begin(1L, "key", "hash");
+        service.complete(1L, "key", "hash", 201, "application/json", "{\"id\":7}");
+        // A fresh cache stands in for a different node
+        service.init();
+
+        IdempotencyService.Outcome replay = service.begin(1L, "key", "hash");
+
+        assertThat(replay.type()).isEqualTo(IdempotencyService.Outcome.Type.REPLAY);
+        assertThat(replay.response().body()).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    void reportsInProgressWhileTheOriginalIsRunning() {
+        service.begin(1L, "key", "hash");
+
+        assertThat(service.begin(1L, "key", "hash").type()).isEqualTo(IdempotencyService.Outcome.Type.IN_PROGRESS);
+    }
+
+    @Test
+    void rejectsTheSameKeyWithADifferentRequest() {
+        service.begin(1L, "key", "hash");
+        assertThat(service.begin(1L, "key", "other").type()).isEqualTo(IdempotencyService.Outcome.Type.MISMATCH);
+
+        service.complete(1L, "key", "hash", 201, "application/json", "{}");
+        assertThat(service.begin(1L, "key", "other").type()).isEqualTo(IdempotencyService.Outcome.Type.MISMATCH);
+    }
+
+    @Test
+    void releasedKeyRunsAgain() {
+        service.begin(1L, "key", "hash");
+        service.release(1L, "key");
+
+        assertThat(service.begin(1L, "key", "hash").type()).isEqualTo(IdempotencyService.Outcome.Type.PROCEED);
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        service.begin(1L, "key", "hash");
+        service.complete(1L, "key", "hash", 201, "application/json", "{\"id\":7}");
+
+        assertThat(service.begin(2L, "key", "hash").type()).isEqualTo(IdempotencyService.Outcome.Type.PROCEED);
+        assertThat(service.begin(2L, "key", "hash").type()).isEqualTo(IdempotencyService.Outcome.Type.IN_PROGRESS);
+    }
+
+    @Test
+    void expiredKeyIsClaimedAgain() {
+        service.begin(1L, "key", "hash");
+        table.get("1:key").setExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+        assertThat(service.begin(1L, "key", "other").type()).isEqualTo(IdempotencyService.Outcome.Type.PROCEED);
+    }
+}
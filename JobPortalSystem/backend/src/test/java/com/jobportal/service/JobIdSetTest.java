@@ -0,0 +1,54 @@
+package com.jobportal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobIdSetTest {
+
+    @Test
+    void containsTheLoadedIdsWhateverTheirOrderOrDuplicates() {
+        JobIdSet set = JobIdSet.of(List.of(30L, 10L, 20L, 10L));
+
+        assertThat(set.contains(10L)).isTrue();
+        assertThat(set.contains(20L)).isTrue();
+        assertThat(set.contains(30L)).isTrue();
+        assertThat(set.contains(15L)).isFalse();
+        assertThat(set.contains(null)).isFalse();
+    }
+
+    @Test
+    void addsIdsAtEveryPositionWithoutChangingTheOriginal() {
+        JobIdSet set = JobIdSet.of(List.of(10L, 20L));
+
+        JobIdSet updated = set.with(5L, true).with(15L, true).with(25L, true);
+
+        for (long id : new long[] {5, 10, 15, 20, 25}) {
+            assertThat(updated.contains(id)).isTrue();
+        }
+        assertThat(set.contains(15L)).isFalse();
+    }
+
+    @Test
+    void removesIdsAtEveryPosition() {
+        JobIdSet set = JobIdSet.of(List.of(10L, 20L, 30L));
+
+        JobIdSet updated = set.with(10L, false).with(30L, false);
+
+        assertThat(updated.contains(10L)).isFalse();
+        assertThat(updated.contains(20L)).isTrue();
+        assertThat(updated.contains(30L)).isFalse();
+        assertThat(updated.with(20L, false).contains(20L)).isFalse();
+    }
+
+    @Test
+    void returnsTheSameInstanceWhenNothingChanges() {
+        JobIdSet set = JobIdSet.of(List.of(10L));
+
+        assertThat(set.with(10L, true)).isSameAs(set);
+        assertThat(set.with(99L, false)).isSameAs(set);
+        assertThat(JobIdSet.of(List.of()).with(1L, false).contains(1L)).isFalse();
+    }
+}
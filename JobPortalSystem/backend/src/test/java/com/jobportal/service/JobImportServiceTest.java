@@ -0,0 +1,187 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.dto.JobImportResponse;
+import com.jobportal.entity.Category;
+import com.jobportal.entity.Skill;
+import com.jobportal.entity.User;
+import com.jobportal.event.DomainEventBus;
+import com.jobportal.persistence.IdBlockAllocator;
+import com.jobportal.repository.CategoryRepository;
+import com.jobportal.repository.CompanyRepository;
+import com.jobportal.repository.SkillRepository;
+import com.jobportal.search.SkillTagger;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobImportServiceTest {
+
+    private final List<SqlParameterSource> insertedJobs = new ArrayList<>();
+    private final List<SqlParameterSource> insertedSkills = new ArrayList<>();
+    private JobImportService service;
+    private User employer;
+
+    @BeforeEach
+    void setUp() {
+        NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            SqlParameterSource[] rows = invocation.getArgument(1);
+            (sql.startsWith("INSERT INTO jobs") ? insertedJobs : insertedSkills).addAll(List.of(rows));
+            return new int[rows.length];
+        });
+
+        AtomicLong ids = new AtomicLong(100);
+        IdBlockAllocator idBlockAllocator = mock(IdBlockAllocator.class);
+        when(idBlockAllocator.next("jobs")).thenAnswer(invocation -> ids.incrementAndGet());
+
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Technology")));
+        SkillRepository skillRepository = mock(SkillRepository.class);
+        when(skillRepository.findAll()).thenReturn(List.of(skill(10L, "Java"), skill(11L, "Spring Boot")));
+        CompanyRepository companyRepository = mock(CompanyRepository.class);
+        when(companyRepository.findAllIds()).thenReturn(List.of(5L));
+        when(companyRepository.findByUser_Id(any())).thenReturn(Optional.empty());
+
+        service = new JobImportService(jdbc, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                idBlockAllocator, companyRepository, categoryRepository, skillRepository, mock(SkillTagger.class),
+                mock(DomainEventBus.class), new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxUploadMb", 1L);
+        ReflectionTestUtils.setField(service, "maxErrors", 1000);
+        ReflectionTestUtils.setField(service, "workers", 1);
+        service.start();
+
+        employer = new User();
+        employer.setId(3L);
+        employer.setRole(User.Role.EMPLOYER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void csvAndNdjsonImportTheSameRows() throws Exception {
+        String csv = "title,description,location,jobType,experienceLevel,companyId,category,skills\n" +
+                "\"Java, Senior\",\"Build services\nwith Spring\",Remote,FULL_TIME,SENIOR_LEVEL,5,technology,Java;Spring Boot\n" +
+                "Intern,Learn,Berlin,INTERNSHIP,ENTRY_LEVEL,,,\n";
+        String ndjson = "{\"title\":\"Java, Senior\",\"description\":\"Build services\\nwith Spring\",\"location\":\"Remote\"," +
+                "\"jobType\":\"FULL_TIME\",\"experienceLevel\":\"SENIOR_LEVEL\",\"companyId\":5,\"category\":\"technology\"," +
+                "\"skills\":[\"Java\",\"Spring Boot\"]}\n" +
+                "\n" +
+                "{\"title\":\"Intern\",\"description\":\"Learn\",\"location\":\"Berlin\"," +
+                "\"jobType\":\"INTERNSHIP\",\"experienceLevel\":\"ENTRY_LEVEL\"}\n";
+
+        JobImportResponse fromCsv = runImport(csv, JobImportService.Format.CSV);
+        List<String> csvRows = describeInserted();
+        insertedJobs.clear();
+        insertedSkills.clear();
+        JobImportResponse fromNdjson = runImport(ndjson, JobImportService.Format.NDJSON);
+
+        assertThat(fromCsv.getRowsImported()).isEqualTo(2);
+        assertThat(fromNdjson.getRowsImported()).isEqualTo(2);
+        assertThat(describeInserted()).isEqualTo(csvRows).containsExactly(
+                "Java, Senior|Build services\nwith Spring|FULL_TIME|5|1|[10, 11]",
+                "Intern|Learn|INTERNSHIP|null|null|[]");
+    }
+
+    @Test
+    void reportsBadRowsWithTheirLinesAndKeepsGoing() throws Exception {
+        String csv = "title,description,location,jobType,experienceLevel,skills\n" +
+                "Ok,\"Two\nlines\",Remote,FULL_TIME,MID_LEVEL,Java\n" +
+                "Bad type,Desc,Remote,SOMETIMES,MID_LEVEL,\n" +
+                "Missing,columns\n" +
+                ",Desc,Remote,FULL_TIME,MID_LEVEL,Cobol\n";
+
+        JobImportResponse response = runImport(csv, JobImportService.Format.CSV);
+
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getRowsRead()).isEqualTo(4);
+        assertThat(response.getRowsImported()).isEqualTo(1);
+        assertThat(response.getRowsFailed()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(JobImportResponse.RowError::getLine).containsExactly(4L, 5L, 6L);
+        assertThat(response.getErrors().get(1).getMessage()).contains("Expected 6 columns, found 2");
+        assertThat(response.getErrors().get(2).getMessage())
+                .contains("Job title is required").contains("Unknown skill 'Cobol'");
+    }
+
+    @Test
+    void capsTheStoredErrorsButCountsThemAll() throws Exception {
+        ReflectionTestUtils.setField(service, "maxErrors", 2);
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            ndjson.append("{not json}\n");
+        }
+
+        JobImportResponse response = runImport(ndjson.toString(), JobImportService.Format.NDJSON);
+
+        assertThat(response.getRowsFailed()).isEqualTo(5);
+        assertThat(response.getErrors()).hasSize(2);
+        assertThat(response.getErrors().get(0).getMessage()).startsWith("Invalid JSON");
+    }
+
+    private JobImportResponse runImport(String body, JobImportService.Format format) throws Exception {
+        JobImportResponse started = service.startImport(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, employer);
+        for (int i = 0; i < 500; i++) {
+            JobImportResponse response = service.getImport(started.getImportId(), employer);
+            // status is the last field an import sets when it finishes
+            if (response.getStatus().equals("COMPLETED") || response.getStatus().equals("FAILED")) {
+                return response;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Import did not finish");
+    }
+
+    private List<String> describeInserted() {
+        List<String> rows = new ArrayList<>();
+        for (SqlParameterSource job : insertedJobs) {
+            Object id = job.getValue("id");
+            List<Object> skills = insertedSkills.stream()
+                    .filter(skill -> skill.getValue("jobId").equals(id))
+                    .map(skill -> skill.getValue("skillId"))
+                    .toList();
+            rows.add(job.getValue("title") + "|" + job.getValue("description") + "|" + job.getValue("jobType") + "|"
+                    + job.getValue("companyId") + "|" + job.getValue("categoryId") + "|" + skills);
+        }
+        return rows;
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        return skill;
+    }
+}
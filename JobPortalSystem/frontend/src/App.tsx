@@ -1,64 +1,64 @@
-import React from 'react';
-import { Routes, Route, Navigate } from 'react-router-dom';
-import { Box } from '@mui/material';
-import { useAuth } from './contexts/AuthContext';
-import Navbar from './components/Navbar';
-import Footer from './components/Footer';
-import HomePage from './pages/HomePage';
-import LoginPage from './pages/LoginPage';
-import RegisterPage from './pages/RegisterPage';
-import JobsPage from './pages/JobsPage';
-import JobDetailsPage from './pages/JobDetailsPage';
-import PostJobPage from './pages/PostJobPage';
-import ProfilePage from './pages/ProfilePage';
-import ApplicationsPage from './pages/ApplicationsPage';
-import SavedJobsPage from './pages/SavedJobsPage';
-import NotificationsPage from './pages/NotificationsPage';
-import CompaniesPage from './pages/CompaniesPage';
-import CompanyDetailsPage from './pages/CompanyDetailsPage';
-import CreateCompanyPage from './pages/CreateCompanyPage';
-import DashboardPage from './pages/DashboardPage';
-import LoadingSpinner from './components/LoadingSpinner';
-
-function App() {
-  const { user, loading } = useAuth();
-
-  if (loading) {
-    return <LoadingSpinner />;
-  }
-
-  return (
-    <Box sx={{ display: 'flex', flexDirection: 'column', minHeight: '100vh' }}>
-      <Navbar />
-      <Box component="main" sx={{ flexGrow: 1, pt: 8 }}>
-        <Routes>
-          {/* Public routes */}
-          <Route path="/" element={<HomePage />} />
-          <Route path="/login" element={!user ? <LoginPage /> : <Navigate to="/dashboard" />} />
-          <Route path="/register" element={!user ? <RegisterPage /> : <Navigate to="/dashboard" />} />
-          <Route path="/jobs" element={<JobsPage />} />
-          <Route path="/jobs/:id" element={<JobDetailsPage />} />
-          <Route path="/companies" element={<CompaniesPage />} />
-          <Route path="/companies/:id" element={<CompanyDetailsPage />} />
-          
-          {/* Protected routes */}
-          <Route path="/dashboard" element={user ? <DashboardPage /> : <Navigate to="/login" />} />
-          <Route path="/profile" element={user ? <ProfilePage /> : <Navigate to="/login" />} />
-          <Route path="/applications" element={user ? <ApplicationsPage /> : <Navigate to="/login" />} />
-          <Route path="/saved-jobs" element={user ? <SavedJobsPage /> : <Navigate to="/login" />} />
-          <Route path="/notifications" element={user ? <NotificationsPage /> : <Navigate to="/login" />} />
-          
-          {/* Employer routes */}
-          <Route path="/post-job" element={user?.role === 'EMPLOYER' ? <PostJobPage /> : <Navigate to="/" />} />
-          <Route path="/create-company" element={user?.role === 'EMPLOYER' ? <CreateCompanyPage /> : <Navigate to="/" />} />
-          
-          {/* Catch all route */}
-          <Route path="*" element={<Navigate to="/" />} />
-        </Routes>
-      </Box>
-      <Footer />
-    </Box>
-  );
-}
-
-export default App;
+import React from 'react';
+import { Routes, Route, Navigate } from 'react-router-dom';
+import { Box } from '@mui/material';
+import { useAuth } from './contexts/AuthContext';
+import Navbar from './components/Navbar';
+import Footer from './components/Footer';
+import HomePage from './pages/HomePage';
+import LoginPage from './pages/LoginPage';
+import RegisterPage from './pages/RegisterPage';
+import JobsPage from './pages/JobsPage';
+import JobDetailsPage from './pages/JobDetailsPage';
+import PostJobPage from './pages/PostJobPage';
+import ProfilePage from './pages/ProfilePage';
+import ApplicationsPage from './pages/ApplicationsPage';
+import SavedJobsPage from './pages/SavedJobsPage';
+import NotificationsPage from './pages/NotificationsPage';
+import CompaniesPage from './pages/CompaniesPage';
+import CompanyDetailsPage from './pages/CompanyDetailsPage';
+import CreateCompanyPage from './pages/CreateCompanyPage';
+import DashboardPage from './pages/DashboardPage';
+import LoadingSpinner from './components/LoadingSpinner';
+
+function App() {
+  const { user, loading } = useAuth();
+
+  if (loading) {
+    return <LoadingSpinner />;
+  }
+
+  return (
+    <Box sx={{ display: 'flex', flexDirection: 'column', minHeight: '100vh' }}>
+      <Navbar />
+      <Box component="main" sx={{ flexGrow: 1, pt: 8 }}>
+        <Routes>
+          {/* Public routes */}
+          <Route path="/" element={<HomePage />} />
+          <Route path="/login" element={!user ? <LoginPage /> : <Navigate to="/dashboard" />} />
+          <Route path="/register" element={!user ? <RegisterPage /> : <Navigate to="/dashboard" />} />
+          <Route path="/jobs" element={<JobsPage />} />
+          <Route path="/jobs/:id" element={<JobDetailsPage />} />
+          <Route path="/companies" element={<CompaniesPage />} />
+          <Route path="/companies/:id" element={<CompanyDetailsPage />} />
+          
+          {/* Protected routes */}
+          <Route path="/dashboard" element={user ? <DashboardPage /> : <Navigate to="/login" />} />
+          <Route path="/profile" element={user ? <ProfilePage /> : <Navigate to="/login" />} />
+          <Route path="/applications" element={user ? <ApplicationsPage /> : <Navigate to="/login" />} />
+          <Route path="/saved-jobs" element={user ? <SavedJobsPage /> : <Navigate to="/login" />} />
+          <Route path="/notifications" element={user ? <NotificationsPage /> : <Navigate to="/login" />} />
+          
+          {/* Employer routes */}
+          <Route path="/post-job" element={user?.role === 'EMPLOYER' ? <PostJobPage /> : <Navigate to="/" />} />
+          <Route path="/create-company" element={user?.role === 'EMPLOYER' ? <CreateCompanyPage /> : <Navigate to="/" />} />
+          
+          {/* Catch all route */}
+          <Route path="*" element={<Navigate to="/" />} />
+        </Routes>
+      </Box>
+      <Footer />
+    </Box>
+  );
+}
+
+export default App;
@@ -1,164 +1,164 @@
-import React from 'react';
-import {
-  Box,
-  Container,
-  Grid,
-  Typography,
-  Link,
-  IconButton,
-  Divider,
-} from '@mui/material';
-import {
-  Facebook,
-  Twitter,
-  LinkedIn,
-  GitHub,
-  Email,
-  Phone,
-  LocationOn,
-} from '@mui/icons-material';
-
-const Footer: React.FC = () => {
-  const currentYear = new Date().getFullYear();
-
-  return (
-    <Box
-      component="footer"
-      sx={{
-        bgcolor: 'background.paper',
-        borderTop: 1,
-        borderColor: 'divider',
-        mt: 'auto',
-        py: 4,
-      }}
-    >
-      <Container maxWidth="lg">
-        <Grid container spacing={4}>
-          {/* Company Info */}
-          <Grid item xs={12} sm={6} md={3}>
-            <Typography variant="h6" gutterBottom fontWeight="bold">
-              JobPortal
-            </Typography>
-            <Typography variant="body2" color="text.secondary" paragraph>
-              Connecting talented professionals with amazing opportunities. 
-              Find your dream job or hire the best talent.
-            </Typography>
-            <Box sx={{ display: 'flex', gap: 1 }}>
-              <IconButton size="small" color="primary">
-                <Facebook />
-              </IconButton>
-              <IconButton size="small" color="primary">
-                <Twitter />
-              </IconButton>
-              <IconButton size="small" color="primary">
-                <LinkedIn />
-              </IconButton>
-              <IconButton size="small" color="primary">
-                <GitHub />
-              </IconButton>
-            </Box>
-          </Grid>
-
-          {/* For Job Seekers */}
-          <Grid item xs={12} sm={6} md={3}>
-            <Typography variant="h6" gutterBottom fontWeight="bold">
-              For Job Seekers
-            </Typography>
-            <Box sx={{ display: 'flex', flexDirection: 'column', gap: 1 }}>
-              <Link href="/jobs" color="text.secondary" underline="hover">
-                Browse Jobs
-              </Link>
-              <Link href="/companies" color="text.secondary" underline="hover">
-                Explore Companies
-              </Link>
-              <Link href="/register" color="text.secondary" underline="hover">
-                Create Profile
-              </Link>
-              <Link href="/saved-jobs" color="text.secondary" underline="hover">
-                Saved Jobs
-              </Link>
-            </Box>
-          </Grid>
-
-          {/* For Employers */}
-          <Grid item xs={12} sm={6} md={3}>
-            <Typography variant="h6" gutterBottom fontWeight="bold">
-              For Employers
-            </Typography>
-            <Box sx={{ display: 'flex', flexDirection: 'column', gap: 1 }}>
-              <Link href="/post-job" color="text.secondary" underline="hover">
-                Post a Job
-              </Link>
-              <Link href="/create-company" color="text.secondary" underline="hover">
-                Create Company
-              </Link>
-              <Link href="/applications" color="text.secondary" underline="hover">
-                Manage Applications
-              </Link>
-              <Link href="/register" color="text.secondary" underline="hover">
-                Sign Up
-              </Link>
-            </Box>
-          </Grid>
-
-          {/* Contact Info */}
-          <Grid item xs={12} sm={6} md={3}>
-            <Typography variant="h6" gutterBottom fontWeight="bold">
-              Contact Us
-            </Typography>
-            <Box sx={{ display: 'flex', flexDirection: 'column', gap: 1 }}>
-              <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
-                <Email fontSize="small" color="action" />
-                <Typography variant="body2" color="text.secondary">
-                  support@jobportal.com
-                </Typography>
-              </Box>
-              <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
-                <Phone fontSize="small" color="action" />
-                <Typography variant="body2" color="text.secondary">
-                  +1 (555) 123-4567
-                </Typography>
-              </Box>
-              <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
-                <LocationOn fontSize="small" color="action" />
-                <Typography variant="body2" color="text.secondary">
-                  123 Business St, City, State 12345
-                </Typography>
-              </Box>
-            </Box>
-          </Grid>
-        </Grid>
-
-        <Divider sx={{ my: 3 }} />
-
-        {/* Bottom Section */}
-        <Box
-          sx={{
-            display: 'flex',
-            flexDirection: { xs: 'column', sm: 'row' },
-            justifyContent: 'space-between',
-            alignItems: 'center',
-            gap: 2,
-          }}
-        >
-          <Typography variant="body2" color="text.secondary">
-            © {currentYear} JobPortal. All rights reserved.
-          </Typography>
-          <Box sx={{ display: 'flex', gap: 3 }}>
-            <Link href="/privacy" color="text.secondary" underline="hover">
-              Privacy Policy
-            </Link>
-            <Link href="/terms" color="text.secondary" underline="hover">
-              Terms of Service
-            </Link>
-            <Link href="/cookies" color="text.secondary" underline="hover">
-              Cookie Policy
-            </Link>
-          </Box>
-        </Box>
-      </Container>
-    </Box>
-  );
-};
-
-export default Footer;
+import React from 'react';
+import {
+  Box,
+  Container,
+  Grid,
+  Typography,
+  Link,
+  IconButton,
+  Divider,
+} from '@mui/material';
+import {
+  Facebook,
+  Twitter,
+  LinkedIn,
+  GitHub,
+  Email,
+  Phone,
+  LocationOn,
+} from '@mui/icons-material';
+
+const Footer: React.FC = () => {
+  const currentYear = new Date().getFullYear();
+
+  return (
+    <Box
+      component="footer"
+      sx={{
+        bgcolor: 'background.paper',
+        borderTop: 1,
+        borderColor: 'divider',
+        mt: 'auto',
+        py: 4,
+      }}
+    >
+      <Container maxWidth="lg">
+        <Grid container spacing={4}>
+          {/* Company Info */}
+          <Grid item xs={12} sm={6} md={3}>
+            <Typography variant="h6" gutterBottom fontWeight="bold">
+              JobPortal
+            </Typography>
+            <Typography variant="body2" color="text.secondary" paragraph>
+              Connecting talented professionals with amazing opportunities. 
+              Find your dream job or hire the best talent.
+            </Typography>
+            <Box sx={{ display: 'flex', gap: 1 }}>
+              <IconButton size="small" color="primary">
+                <Facebook />
+              </IconButton>
+              <IconButton size="small" color="primary">
+                <Twitter />
+              </IconButton>
+              <IconButton size="small" color="primary">
+                <LinkedIn />
+              </IconButton>
+              <IconButton size="small" color="primary">
+                <GitHub />
+              </IconButton>
+            </Box>
+          </Grid>
+
+          {/* For Job Seekers */}
+          <Grid item xs={12} sm={6} md={3}>
+            <Typography variant="h6" gutterBottom fontWeight="bold">
+              For Job Seekers
+            </Typography>
+            <Box sx={{ display: 'flex', flexDirection: 'column', gap: 1 }}>
+              <Link href="/jobs" color="text.secondary" underline="hover">
+                Browse Jobs
+              </Link>
+              <Link href="/companies" color="text.secondary" underline="hover">
+                Explore Companies
+              </Link>
+              <Link href="/register" color="text.secondary" underline="hover">
+                Create Profile
+              </Link>
+              <Link href="/saved-jobs" color="text.secondary" underline="hover">
+                Saved Jobs
+              </Link>
+            </Box>
+          </Grid>
+
+          {/* For Employers */}
+          <Grid item xs={12} sm={6} md={3}>
+            <Typography variant="h6" gutterBottom fontWeight="bold">
+              For Employers
+            </Typography>
+            <Box sx={{ display: 'flex', flexDirection: 'column', gap: 1 }}>
+              <Link href="/post-job" color="text.secondary" underline="hover">
+                Post a Job
+              </Link>
+              <Link href="/create-company" color="text.secondary" underline="hover">
+                Create Company
+              </Link>
+              <Link href="/applications" color="text.secondary" underline="hover">
+                Manage Applications
+              </Link>
+              <Link href="/register" color="text.secondary" underline="hover">
+                Sign Up
+              </Link>
+            </Box>
+          </Grid>
+
+          {/* Contact Info */}
+          <Grid item xs={12} sm={6} md={3}>
+            <Typography variant="h6" gutterBottom fontWeight="bold">
+              Contact Us
+            </Typography>
+            <Box sx={{ display: 'flex', flexDirection: 'column', gap: 1 }}>
+              <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
+                <Email fontSize="small" color="action" />
+                <Typography variant="body2" color="text.secondary">
+                  support@jobportal.com
+                </Typography>
+              </Box>
+              <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
+                <Phone fontSize="small" color="action" />
+                <Typography variant="body2" color="text.secondary">
+                  +1 (555) 123-4567
+                </Typography>
+              </Box>
+              <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
+                <LocationOn fontSize="small" color="action" />
+                <Typography variant="body2" color="text.secondary">
+                  123 Business St, City, State 12345
+                </Typography>
+              </Box>
+            </Box>
+          </Grid>
+        </Grid>
+
+        <Divider sx={{ my: 3 }} />
+
+        {/* Bottom Section */}
+        <Box
+          sx={{
+            display: 'flex',
+            flexDirection: { xs: 'column', sm: 'row' },
+            justifyContent: 'space-between',
+            alignItems: 'center',
+            gap: 2,
+          }}
+        >
+          <Typography variant="body2" color="text.secondary">
+            © {currentYear} JobPortal. All rights reserved.
+          </Typography>
+          <Box sx={{ display: 'flex', gap: 3 }}>
+            <Link href="/privacy" color="text.secondary" underline="hover">
+              Privacy Policy
+            </Link>
+            <Link href="/terms" color="text.secondary" underline="hover">
+              Terms of Service
+            </Link>
+            <Link href="/cookies" color="text.secondary" underline="hover">
+              Cookie Policy
+            </Link>
+          </Box>
+        </Box>
+      </Container>
+    </Box>
+  );
+};
+
+export default Footer;
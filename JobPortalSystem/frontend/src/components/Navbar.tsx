@@ -1,296 +1,296 @@
-import React, { useState } from 'react';
-import {
-  AppBar,
-  Toolbar,
-  Typography,
-  Button,
-  IconButton,
-  Menu,
-  MenuItem,
-  Avatar,
-  Box,
-  Badge,
-  InputBase,
-  alpha,
-  useTheme,
-  useMediaQuery,
-  Drawer,
-  List,
-  ListItem,
-  ListItemIcon,
-  ListItemText,
-} from '@mui/material';
-import {
-  Search as SearchIcon,
-  Notifications as NotificationsIcon,
-  AccountCircle,
-  Menu as MenuIcon,
-  Work as WorkIcon,
-  Business as BusinessIcon,
-  Dashboard as DashboardIcon,
-  Bookmark as BookmarkIcon,
-  Description as DescriptionIcon,
-  Logout as LogoutIcon,
-} from '@mui/icons-material';
-import { useNavigate, useLocation } from 'react-router-dom';
-import { useAuth } from '../contexts/AuthContext';
-import { notificationService } from '../services/notificationService';
-import { useQuery } from 'react-query';
-
-const Navbar: React.FC = () => {
-  const theme = useTheme();
-  const isMobile = useMediaQuery(theme.breakpoints.down('md'));
-  const navigate = useNavigate();
-  const location = useLocation();
-  const { user, logout } = useAuth();
-  
-  const [anchorEl, setAnchorEl] = useState<null | HTMLElement>(null);
-  const [mobileMenuOpen, setMobileMenuOpen] = useState(false);
-  const [searchQuery, setSearchQuery] = useState('');
-
-  const { data: unreadCount } = useQuery(
-    'unreadNotifications',
-    () => notificationService.getUnreadNotificationCount(),
-    {
-      enabled: !!user,
-      refetchInterval: 30000, // Refetch every 30 seconds
-    }
-  );
-
-  const handleMenuOpen = (event: React.MouseEvent<HTMLElement>) => {
-    setAnchorEl(event.currentTarget);
-  };
-
-  const handleMenuClose = () => {
-    setAnchorEl(null);
-  };
-
-  const handleLogout = async () => {
-    await logout();
-    navigate('/');
-    handleMenuClose();
-  };
-
-  const handleSearch = (e: React.FormEvent) => {
-    e.preventDefault();
-    if (searchQuery.trim()) {
-      navigate(`/jobs?search=${encodeURIComponent(searchQuery.trim())}`);
-    }
-  };
-
-  const menuItems = [
-    { label: 'Dashboard', icon: <DashboardIcon />, path: '/dashboard', roles: ['JOB_SEEKER', 'EMPLOYER'] },
-    { label: 'Jobs', icon: <WorkIcon />, path: '/jobs', roles: ['JOB_SEEKER', 'EMPLOYER'] },
-    { label: 'Companies', icon: <BusinessIcon />, path: '/companies', roles: ['JOB_SEEKER', 'EMPLOYER'] },
-    { label: 'Applications', icon: <DescriptionIcon />, path: '/applications', roles: ['JOB_SEEKER'] },
-    { label: 'Saved Jobs', icon: <BookmarkIcon />, path: '/saved-jobs', roles: ['JOB_SEEKER'] },
-    { label: 'Post Job', icon: <WorkIcon />, path: '/post-job', roles: ['EMPLOYER'] },
-  ];
-
-  const filteredMenuItems = user 
-    ? menuItems.filter(item => item.roles.includes(user.role))
-    : [];
-
-  const drawerContent = (
-    <Box sx={{ width: 250, pt: 2 }}>
-      <List>
-        {filteredMenuItems.map((item) => (
-          <ListItem
-            button
-            key={item.path}
-            onClick={() => {
-              navigate(item.path);
-              setMobileMenuOpen(false);
-            }}
-            selected={location.pathname === item.path}
-          >
-            <ListItemIcon>{item.icon}</ListItemIcon>
-            <ListItemText primary={item.label} />
-          </ListItem>
-        ))}
-        {user && (
-          <ListItem button onClick={handleLogout}>
-            <ListItemIcon><LogoutIcon /></ListItemIcon>
-            <ListItemText primary="Logout" />
-          </ListItem>
-        )}
-      </List>
-    </Box>
-  );
-
-  return (
-    <AppBar position="fixed" sx={{ zIndex: theme.zIndex.drawer + 1 }}>
-      <Toolbar>
-        {/* Logo */}
-        <Typography
-          variant="h6"
-          component="div"
-          sx={{ 
-            flexGrow: 0, 
-            mr: 2, 
-            cursor: 'pointer',
-            fontWeight: 'bold'
-          }}
-          onClick={() => navigate('/')}
-        >
-          JobPortal
-        </Typography>
-
-        {/* Search Bar */}
-        <Box
-          component="form"
-          onSubmit={handleSearch}
-          sx={{
-            position: 'relative',
-            borderRadius: 1,
-            backgroundColor: alpha(theme.palette.common.white, 0.15),
-            '&:hover': {
-              backgroundColor: alpha(theme.palette.common.white, 0.25),
-            },
-            marginLeft: 0,
-            width: '100%',
-            maxWidth: 400,
-            mr: 2,
-            [theme.breakpoints.up('sm')]: {
-              marginLeft: theme.spacing(1),
-              width: 'auto',
-            },
-          }}
-        >
-          <Box
-            sx={{
-              padding: theme.spacing(0, 2),
-              height: '100%',
-              position: 'absolute',
-              pointerEvents: 'none',
-              display: 'flex',
-              alignItems: 'center',
-              justifyContent: 'center',
-            }}
-          >
-            <SearchIcon />
-          </Box>
-          <InputBase
-            placeholder="Search jobs, companies..."
-            value={searchQuery}
-            onChange={(e) => setSearchQuery(e.target.value)}
-            sx={{
-              color: 'inherit',
-              '& .MuiInputBase-input': {
-                padding: theme.spacing(1, 1, 1, 0),
-                paddingLeft: `calc(1em + ${theme.spacing(4)})`,
-                transition: theme.transitions.create('width'),
-                width: '100%',
-                [theme.breakpoints.up('sm')]: {
-                  width: '20ch',
-                  '&:focus': {
-                    width: '30ch',
-                  },
-                },
-              },
-            }}
-          />
-        </Box>
-
-        <Box sx={{ flexGrow: 1 }} />
-
-        {/* Desktop Menu */}
-        {!isMobile && (
-          <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
-            {user ? (
-              <>
-                {/* Notifications */}
-                <IconButton
-                  color="inherit"
-                  onClick={() => navigate('/notifications')}
-                >
-                  <Badge badgeContent={unreadCount?.unreadCount || 0} color="error">
-                    <NotificationsIcon />
-                  </Badge>
-                </IconButton>
-
-                {/* User Menu */}
-                <IconButton
-                  size="large"
-                  aria-label="account of current user"
-                  aria-controls="menu-appbar"
-                  aria-haspopup="true"
-                  onClick={handleMenuOpen}
-                  color="inherit"
-                >
-                  <Avatar
-                    src={user.profilePicture}
-                    sx={{ width: 32, height: 32 }}
-                  >
-                    {user.firstName.charAt(0)}
-                  </Avatar>
-                </IconButton>
-                <Menu
-                  id="menu-appbar"
-                  anchorEl={anchorEl}
-                  anchorOrigin={{
-                    vertical: 'top',
-                    horizontal: 'right',
-                  }}
-                  keepMounted
-                  transformOrigin={{
-                    vertical: 'top',
-                    horizontal: 'right',
-                  }}
-                  open={Boolean(anchorEl)}
-                  onClose={handleMenuClose}
-                >
-                  <MenuItem onClick={() => { navigate('/profile'); handleMenuClose(); }}>
-                    <AccountCircle sx={{ mr: 1 }} />
-                    Profile
-                  </MenuItem>
-                  <MenuItem onClick={handleLogout}>
-                    <LogoutIcon sx={{ mr: 1 }} />
-                    Logout
-                  </MenuItem>
-                </Menu>
-              </>
-            ) : (
-              <>
-                <Button color="inherit" onClick={() => navigate('/login')}>
-                  Login
-                </Button>
-                <Button 
-                  color="inherit" 
-                  variant="outlined"
-                  sx={{ borderColor: 'white', color: 'white' }}
-                  onClick={() => navigate('/register')}
-                >
-                  Sign Up
-                </Button>
-              </>
-            )}
-          </Box>
-        )}
-
-        {/* Mobile Menu Button */}
-        {isMobile && (
-          <IconButton
-            color="inherit"
-            aria-label="open drawer"
-            edge="start"
-            onClick={() => setMobileMenuOpen(true)}
-          >
-            <MenuIcon />
-          </IconButton>
-        )}
-      </Toolbar>
-
-      {/* Mobile Drawer */}
-      <Drawer
-        anchor="right"
-        open={mobileMenuOpen}
-        onClose={() => setMobileMenuOpen(false)}
-      >
-        {drawerContent}
-      </Drawer>
-    </AppBar>
-  );
-};
-
-export default Navbar;
+import React, { useState } from 'react';
+import {
+  AppBar,
+  Toolbar,
+  Typography,
+  Button,
+  IconButton,
+  Menu,
+  MenuItem,
+  Avatar,
+  Box,
+  Badge,
+  InputBase,
+  alpha,
+  useTheme,
+  useMediaQuery,
+  Drawer,
+  List,
+  ListItem,
+  ListItemIcon,
+  ListItemText,
+} from '@mui/material';
+import {
+  Search as SearchIcon,
+  Notifications as NotificationsIcon,
+  AccountCircle,
+  Menu as MenuIcon,
+  Work as WorkIcon,
+  Business as BusinessIcon,
+  Dashboard as DashboardIcon,
+  Bookmark as BookmarkIcon,
+  Description as DescriptionIcon,
+  Logout as LogoutIcon,
+} from '@mui/icons-material';
+import { useNavigate, useLocation } from 'react-router-dom';
+import { useAuth } from '../contexts/AuthContext';
+import { notificationService } from '../services/notificationService';
+import { useQuery } from 'react-query';
+
+const Navbar: React.FC = () => {
+  const theme = useTheme();
+  const isMobile = useMediaQuery(theme.breakpoints.down('md'));
+  const navigate = useNavigate();
+  const location = useLocation();
+  const { user, logout } = useAuth();
+  
+  const [anchorEl, setAnchorEl] = useState<null | HTMLElement>(null);
+  const [mobileMenuOpen, setMobileMenuOpen] = useState(false);
+  const [searchQuery, setSearchQuery] = useState('');
+
+  const { data: unreadCount } = useQuery(
+    'unreadNotifications',
+    () => notificationService.getUnreadNotificationCount(),
+    {
+      enabled: !!user,
+      refetchInterval: 30000, // Refetch every 30 seconds
+    }
+  );
+
+  const handleMenuOpen = (event: React.MouseEvent<HTMLElement>) => {
+    setAnchorEl(event.currentTarget);
+  };
+
+  const handleMenuClose = () => {
+    setAnchorEl(null);
+  };
+
+  const handleLogout = async () => {
+    await logout();
+    navigate('/');
+    handleMenuClose();
+  };
+
+  const handleSearch = (e: React.FormEvent) => {
+    e.preventDefault();
+    if (searchQuery.trim()) {
+      navigate(`/jobs?search=${encodeURIComponent(searchQuery.trim())}`);
+    }
+  };
+
+  const menuItems = [
+    { label: 'Dashboard', icon: <DashboardIcon />, path: '/dashboard', roles: ['JOB_SEEKER', 'EMPLOYER'] },
+    { label: 'Jobs', icon: <WorkIcon />, path: '/jobs', roles: ['JOB_SEEKER', 'EMPLOYER'] },
+    { label: 'Companies', icon: <BusinessIcon />, path: '/companies', roles: ['JOB_SEEKER', 'EMPLOYER'] },
+    { label: 'Applications', icon: <DescriptionIcon />, path: '/applications', roles: ['JOB_SEEKER'] },
+    { label: 'Saved Jobs', icon: <BookmarkIcon />, path: '/saved-jobs', roles: ['JOB_SEEKER'] },
+    { label: 'Post Job', icon: <WorkIcon />, path: '/post-job', roles: ['EMPLOYER'] },
+  ];
+
+  const filteredMenuItems = user 
+    ? menuItems.filter(item => item.roles.includes(user.role))
+    : [];
+
+  const drawerContent = (
+    <Box sx={{ width: 250, pt: 2 }}>
+      <List>
+        {filteredMenuItems.map((item) => (
+          <ListItem
+            button
+            key={item.path}
+            onClick={() => {
+              navigate(item.path);
+              setMobileMenuOpen(false);
+            }}
+            selected={location.pathname === item.path}
+          >
+            <ListItemIcon>{item.icon}</ListItemIcon>
+            <ListItemText primary={item.label} />
+          </ListItem>
+        ))}
+        {user && (
+          <ListItem button onClick={handleLogout}>
+            <ListItemIcon><LogoutIcon /></ListItemIcon>
+            <ListItemText primary="Logout" />
+          </ListItem>
+        )}
+      </List>
+    </Box>
+  );
+
+  return (
+    <AppBar position="fixed" sx={{ zIndex: theme.zIndex.drawer + 1 }}>
+      <Toolbar>
+        {/* Logo */}
+        <Typography
+          variant="h6"
+          component="div"
+          sx={{ 
+            flexGrow: 0, 
+            mr: 2, 
+            cursor: 'pointer',
+            fontWeight: 'bold'
+          }}
+          onClick={() => navigate('/')}
+        >
+          JobPortal
+        </Typography>
+
+        {/* Search Bar */}
+        <Box
+          component="form"
+          onSubmit={handleSearch}
+          sx={{
+            position: 'relative',
+            borderRadius: 1,
+            backgroundColor: alpha(theme.palette.common.white, 0.15),
+            '&:hover': {
+              backgroundColor: alpha(theme.palette.common.white, 0.25),
+            },
+            marginLeft: 0,
+            width: '100%',
+            maxWidth: 400,
+            mr: 2,
+            [theme.breakpoints.up('sm')]: {
+              marginLeft: theme.spacing(1),
+              width: 'auto',
+            },
+          }}
+        >
+          <Box
+            sx={{
+              padding: theme.spacing(0, 2),
+              height: '100%',
+              position: 'absolute',
+              pointerEvents: 'none',
+              display: 'flex',
+              alignItems: 'center',
+              justifyContent: 'center',
+            }}
+          >
+            <SearchIcon />
+          </Box>
+          <InputBase
+            placeholder="Search jobs, companies..."
+            value={searchQuery}
+            onChange={(e) => setSearchQuery(e.target.value)}
+            sx={{
+              color: 'inherit',
+              '& .MuiInputBase-input': {
+                padding: theme.spacing(1, 1, 1, 0),
+                paddingLeft: `calc(1em + ${theme.spacing(4)})`,
+                transition: theme.transitions.create('width'),
+                width: '100%',
+                [theme.breakpoints.up('sm')]: {
+                  width: '20ch',
+                  '&:focus': {
+                    width: '30ch',
+                  },
+                },
+              },
+            }}
+          />
+        </Box>
+
+        <Box sx={{ flexGrow: 1 }} />
+
+        {/* Desktop Menu */}
+        {!isMobile && (
+          <Box sx={{ display: 'flex', alignItems: 'center', gap: 1 }}>
+            {user ? (
+              <>
+                {/* Notifications */}
+                <IconButton
+                  color="inherit"
+                  onClick={() => navigate('/notifications')}
+                >
+                  <Badge badgeContent={unreadCount?.unreadCount || 0} color="error">
+                    <NotificationsIcon />
+                  </Badge>
+                </IconButton>
+
+                {/* User Menu */}
+                <IconButton
+                  size="large"
+                  aria-label="account of current user"
+                  aria-controls="menu-appbar"
+                  aria-haspopup="true"
+                  onClick={handleMenuOpen}
+                  color="inherit"
+                >
+                  <Avatar
+                    src={user.profilePicture}
+                    sx={{ width: 32, height: 32 }}
+                  >
+                    {user.firstName.charAt(0)}
+                  </Avatar>
+                </IconButton>
+                <Menu
+                  id="menu-appbar"
+                  anchorEl={anchorEl}
+                  anchorOrigin={{
+                    vertical: 'top',
+                    horizontal: 'right',
+                  }}
+                  keepMounted
+                  transformOrigin={{
+                    vertical: 'top',
+                    horizontal: 'right',
+                  }}
+                  open={Boolean(anchorEl)}
+                  onClose={handleMenuClose}
+                >
+                  <MenuItem onClick={() => { navigate('/profile'); handleMenuClose(); }}>
+                    <AccountCircle sx={{ mr: 1 }} />
+                    Profile
+                  </MenuItem>
+                  <MenuItem onClick={handleLogout}>
+                    <LogoutIcon sx={{ mr: 1 }} />
+                    Logout
+                  </MenuItem>
+                </Menu>
+              </>
+            ) : (
+              <>
+                <Button color="inherit" onClick={() => navigate('/login')}>
+                  Login
+                </Button>
+                <Button 
+                  color="inherit" 
+                  variant="outlined"
+                  sx={{ borderColor: 'white', color: 'white' }}
+                  onClick={() => navigate('/register')}
+                >
+                  Sign Up
+                </Button>
+              </>
+            )}
+          </Box>
+        )}
+
+        {/* Mobile Menu Button */}
+        {isMobile && (
+          <IconButton
+            color="inherit"
+            aria-label="open drawer"
+            edge="start"
+            onClick={() => setMobileMenuOpen(true)}
+          >
+            <MenuIcon />
+          </IconButton>
+        )}
+      </Toolbar>
+
+      {/* Mobile Drawer */}
+      <Drawer
+        anchor="right"
+        open={mobileMenuOpen}
+        onClose={() => setMobileMenuOpen(false)}
+      >
+        {drawerContent}
+      </Drawer>
+    </AppBar>
+  );
+};
+
+export default Navbar;
@@ -1,122 +1,122 @@
-import React, { createContext, useContext, useState, useEffect, ReactNode } from 'react';
-import { User, LoginRequest, RegisterRequest } from '../types';
-import { authService } from '../services/authService';
-import toast from 'react-hot-toast';
-
-interface AuthContextType {
-  user: User | null;
-  loading: boolean;
-  login: (credentials: LoginRequest) => Promise<void>;
-  register: (userData: RegisterRequest) => Promise<void>;
-  logout: () => Promise<void>;
-  updateUser: (user: User) => void;
-}
-
-const AuthContext = createContext<AuthContextType | undefined>(undefined);
-
-interface AuthProviderProps {
-  children: ReactNode;
-}
-
-export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
-  const [user, setUser] = useState<User | null>(null);
-  const [loading, setLoading] = useState(true);
-
-  useEffect(() => {
-    const initAuth = async () => {
-      try {
-        const token = authService.getAuthToken();
-        if (token) {
-          const storedUser = authService.getStoredUser();
-          if (storedUser) {
-            setUser(storedUser);
-          } else {
-            // Try to fetch current user from API
-            try {
-              const currentUser = await authService.getCurrentUser();
-              setUser(currentUser);
-              authService.storeUser(currentUser);
-            } catch (error) {
-              // Token might be invalid, remove it
-              authService.removeAuthToken();
-            }
-          }
-        }
-      } catch (error) {
-        console.error('Auth initialization error:', error);
-      } finally {
-        setLoading(false);
-      }
-    };
-
-    initAuth();
-  }, []);
-
-  const login = async (credentials: LoginRequest) => {
-    try {
-      setLoading(true);
-      const response = await authService.login(credentials);
-      
-      // Fetch user details
-      const currentUser = await authService.getCurrentUser();
-      setUser(currentUser);
-      authService.storeUser(currentUser);
-      
-      toast.success('Login successful!');
-    } catch (error) {
-      toast.error('Login failed. Please check your credentials.');
-      throw error;
-    } finally {
-      setLoading(false);
-    }
-  };
-
-  const register = async (userData: RegisterRequest) => {
-    try {
-      setLoading(true);
-      const newUser = await authService.register(userData);
-      toast.success('Registration successful! Please login to continue.');
-    } catch (error) {
-      toast.error('Registration failed. Please try again.');
-      throw error;
-    } finally {
-      setLoading(false);
-    }
-  };
-
-  const logout = async () => {
-    try {
-      await authService.logout();
-    } catch (error) {
-      console.error('Logout error:', error);
-    } finally {
-      setUser(null);
-      authService.removeStoredUser();
-      toast.success('Logged out successfully!');
-    }
-  };
-
-  const updateUser = (updatedUser: User) => {
-    setUser(updatedUser);
-    authService.storeUser(updatedUser);
-  };
-
-  const value: AuthContextType = {
-    user,
-    loading,
-    login,
-    register,
-    logout,
-    updateUser,
-  };
-
-  return <AuthContext.Provider value={value}>{children}</AuthContext.Provider>;
-};
-
-export const useAuth = (): AuthContextType => {
-  const context = useContext(AuthContext);
-  if (context === undefined) {
-    throw new Error('useAuth must be used within an AuthProvider');
-  }
-  return context;
-};
+import React, { createContext, useContext, useState, useEffect, ReactNode } from 'react';
+import { User, LoginRequest, RegisterRequest } from '../types';
+import { authService } from '../services/authService';
+import toast from 'react-hot-toast';
+
+interface AuthContextType {
+  user: User | null;
+  loading: boolean;
+  login: (credentials: LoginRequest) => Promise<void>;
+  register: (userData: RegisterRequest) => Promise<void>;
+  logout: () => Promise<void>;
+  updateUser: (user: User) => void;
+}
+
+const AuthContext = createContext<AuthContextType | undefined>(undefined);
+
+interface AuthProviderProps {
+  children: ReactNode;
+}
+
+export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
+  const [user, setUser] = useState<User | null>(null);
+  const [loading, setLoading] = useState(true);
+
+  useEffect(() => {
+    const initAuth = async () => {
+      try {
+        const token = authService.getAuthToken();
+        if (token) {
+          const storedUser = authService.getStoredUser();
+          if (storedUser) {
+            setUser(storedUser);
+          } else {
+            // Try to fetch current user from API
+            try {
+              const currentUser = await authService.getCurrentUser();
+              setUser(currentUser);
+              authService.storeUser(currentUser);
+            } catch (error) {
+              // Token might be invalid, remove it
+              authService.removeAuthToken();
+            }
+          }
+        }
+      } catch (error) {
+        console.error('Auth initialization error:', error);
+      } finally {
+        setLoading(false);
+      }
+    };
+
+    initAuth();
+  }, []);
+
+  const login = async (credentials: LoginRequest) => {
+    try {
+      setLoading(true);
+      const response = await authService.login(credentials);
+      
+      // Fetch user details
+      const currentUser = await authService.getCurrentUser();
+      setUser(currentUser);
+      authService.storeUser(currentUser);
+      
+      toast.success('Login successful!');
+    } catch (error) {
+      toast.error('Login failed. Please check your credentials.');
+      throw error;
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  const register = async (userData: RegisterRequest) => {
+    try {
+      setLoading(true);
+      const newUser = await authService.register(userData);
+      toast.success('Registration successful! Please login to continue.');
+    } catch (error) {
+      toast.error('Registration failed. Please try again.');
+      throw error;
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  const logout = async () => {
+    try {
+      await authService.logout();
+    } catch (error) {
+      console.error('Logout error:', error);
+    } finally {
+      setUser(null);
+      authService.removeStoredUser();
+      toast.success('Logged out successfully!');
+    }
+  };
+
+  const updateUser = (updatedUser: User) => {
+    setUser(updatedUser);
+    authService.storeUser(updatedUser);
+  };
+
+  const value: AuthContextType = {
+    user,
+    loading,
+    login,
+    register,
+    logout,
+    updateUser,
+  };
+
+  return <AuthContext.Provider value={value}>{children}</AuthContext.Provider>;
+};
+
+export const useAuth = (): AuthContextType => {
+  const context = useContext(AuthContext);
+  if (context === undefined) {
+    throw new Error('useAuth must be used within an AuthProvider');
+  }
+  return context;
+};
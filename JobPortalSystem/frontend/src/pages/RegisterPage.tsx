@@ -1,255 +1,255 @@
-import React, { useState } from 'react';
-import {
-  Container,
-  Paper,
-  TextField,
-  Button,
-  Typography,
-  Box,
-  Link,
-  Alert,
-  CircularProgress,
-  FormControl,
-  InputLabel,
-  Select,
-  MenuItem,
-  FormControlLabel,
-  Checkbox,
-} from '@mui/material';
-import { useForm } from 'react-hook-form';
-import { useNavigate, Link as RouterLink } from 'react-router-dom';
-import { useAuth } from '../contexts/AuthContext';
-import { RegisterRequest } from '../types';
-
-const RegisterPage: React.FC = () => {
-  const navigate = useNavigate();
-  const { register: registerUser } = useAuth();
-  const [loading, setLoading] = useState(false);
-  const [error, setError] = useState<string | null>(null);
-
-  const {
-    register,
-    handleSubmit,
-    watch,
-    formState: { errors },
-  } = useForm<RegisterRequest & { confirmPassword: string; agreeToTerms: boolean }>();
-
-  const password = watch('password');
-
-  const onSubmit = async (data: RegisterRequest & { confirmPassword: string; agreeToTerms: boolean }) => {
-    try {
-      setLoading(true);
-      setError(null);
-      await registerUser({
-        firstName: data.firstName,
-        lastName: data.lastName,
-        email: data.email,
-        password: data.password,
-        phone: data.phone,
-        role: data.role,
-      });
-      navigate('/login');
-    } catch (err) {
-      setError('Registration failed. Please try again.');
-    } finally {
-      setLoading(false);
-    }
-  };
-
-  return (
-    <Container component="main" maxWidth="sm">
-      <Box
-        sx={{
-          marginTop: 8,
-          display: 'flex',
-          flexDirection: 'column',
-          alignItems: 'center',
-        }}
-      >
-        <Paper elevation={3} sx={{ padding: 4, width: '100%' }}>
-          <Box sx={{ textAlign: 'center', mb: 3 }}>
-            <Typography component="h1" variant="h4" fontWeight="bold">
-              Create Account
-            </Typography>
-            <Typography variant="body1" color="text.secondary">
-              Join JobPortal and start your career journey
-            </Typography>
-          </Box>
-
-          {error && (
-            <Alert severity="error" sx={{ mb: 2 }}>
-              {error}
-            </Alert>
-          )}
-
-          <Box component="form" onSubmit={handleSubmit(onSubmit)} noValidate>
-            <Box sx={{ display: 'flex', gap: 2, mb: 2 }}>
-              <TextField
-                margin="normal"
-                required
-                fullWidth
-                id="firstName"
-                label="First Name"
-                autoComplete="given-name"
-                {...register('firstName', {
-                  required: 'First name is required',
-                  minLength: {
-                    value: 2,
-                    message: 'First name must be at least 2 characters',
-                  },
-                })}
-                error={!!errors.firstName}
-                helperText={errors.firstName?.message}
-              />
-              <TextField
-                margin="normal"
-                required
-                fullWidth
-                id="lastName"
-                label="Last Name"
-                autoComplete="family-name"
-                {...register('lastName', {
-                  required: 'Last name is required',
-                  minLength: {
-                    value: 2,
-                    message: 'Last name must be at least 2 characters',
-                  },
-                })}
-                error={!!errors.lastName}
-                helperText={errors.lastName?.message}
-              />
-            </Box>
-
-            <TextField
-              margin="normal"
-              required
-              fullWidth
-              id="email"
-              label="Email Address"
-              autoComplete="email"
-              {...register('email', {
-                required: 'Email is required',
-                pattern: {
-                  value: /^[A-Z0-9._%+-]+@[A-Z0-9.-]+\.[A-Z]{2,}$/i,
-                  message: 'Invalid email address',
-                },
-              })}
-              error={!!errors.email}
-              helperText={errors.email?.message}
-            />
-
-            <TextField
-              margin="normal"
-              fullWidth
-              id="phone"
-              label="Phone Number"
-              autoComplete="tel"
-              {...register('phone')}
-              error={!!errors.phone}
-              helperText={errors.phone?.message}
-            />
-
-            <FormControl margin="normal" fullWidth required>
-              <InputLabel id="role-label">I am a</InputLabel>
-              <Select
-                labelId="role-label"
-                id="role"
-                label="I am a"
-                {...register('role', { required: 'Please select your role' })}
-                error={!!errors.role}
-              >
-                <MenuItem value="JOB_SEEKER">Job Seeker</MenuItem>
-                <MenuItem value="EMPLOYER">Employer</MenuItem>
-              </Select>
-            </FormControl>
-
-            <TextField
-              margin="normal"
-              required
-              fullWidth
-              label="Password"
-              type="password"
-              id="password"
-              autoComplete="new-password"
-              {...register('password', {
-                required: 'Password is required',
-                minLength: {
-                  value: 6,
-                  message: 'Password must be at least 6 characters',
-                },
-              })}
-              error={!!errors.password}
-              helperText={errors.password?.message}
-            />
-
-            <TextField
-              margin="normal"
-              required
-              fullWidth
-              label="Confirm Password"
-              type="password"
-              id="confirmPassword"
-              autoComplete="new-password"
-              {...register('confirmPassword', {
-                required: 'Please confirm your password',
-                validate: (value) =>
-                  value === password || 'Passwords do not match',
-              })}
-              error={!!errors.confirmPassword}
-              helperText={errors.confirmPassword?.message}
-            />
-
-            <FormControlLabel
-              control={
-                <Checkbox
-                  {...register('agreeToTerms', {
-                    required: 'You must agree to the terms and conditions',
-                  })}
-                  color="primary"
-                />
-              }
-              label={
-                <Typography variant="body2">
-                  I agree to the{' '}
-                  <Link href="/terms" target="_blank">
-                    Terms of Service
-                  </Link>{' '}
-                  and{' '}
-                  <Link href="/privacy" target="_blank">
-                    Privacy Policy
-                  </Link>
-                </Typography>
-              }
-            />
-            {errors.agreeToTerms && (
-              <Typography variant="body2" color="error" sx={{ mt: 1 }}>
-                {errors.agreeToTerms.message}
-              </Typography>
-            )}
-
-            <Button
-              type="submit"
-              fullWidth
-              variant="contained"
-              sx={{ mt: 3, mb: 2, py: 1.5 }}
-              disabled={loading}
-            >
-              {loading ? <CircularProgress size={24} /> : 'Create Account'}
-            </Button>
-
-            <Box sx={{ textAlign: 'center' }}>
-              <Typography variant="body2">
-                Already have an account?{' '}
-                <Link component={RouterLink} to="/login" variant="body2">
-                  Sign in here
-                </Link>
-              </Typography>
-            </Box>
-          </Box>
-        </Paper>
-      </Box>
-    </Container>
-  );
-};
-
-export default RegisterPage;
+import React, { useState } from 'react';
+import {
+  Container,
+  Paper,
+  TextField,
+  Button,
+  Typography,
+  Box,
+  Link,
+  Alert,
+  CircularProgress,
+  FormControl,
+  InputLabel,
+  Select,
+  MenuItem,
+  FormControlLabel,
+  Checkbox,
+} from '@mui/material';
+import { useForm } from 'react-hook-form';
+import { useNavigate, Link as RouterLink } from 'react-router-dom';
+import { useAuth } from '../contexts/AuthContext';
+import { RegisterRequest } from '../types';
+
+const RegisterPage: React.FC = () => {
+  const navigate = useNavigate();
+  const { register: registerUser } = useAuth();
+  const [loading, setLoading] = useState(false);
+  const [error, setError] = useState<string | null>(null);
+
+  const {
+    register,
+    handleSubmit,
+    watch,
+    formState: { errors },
+  } = useForm<RegisterRequest & { confirmPassword: string; agreeToTerms: boolean }>();
+
+  const password = watch('password');
+
+  const onSubmit = async (data: RegisterRequest & { confirmPassword: string; agreeToTerms: boolean }) => {
+    try {
+      setLoading(true);
+      setError(null);
+      await registerUser({
+        firstName: data.firstName,
+        lastName: data.lastName,
+        email: data.email,
+        password: data.password,
+        phone: data.phone,
+        role: data.role,
+      });
+      navigate('/login');
+    } catch (err) {
+      setError('Registration failed. Please try again.');
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  return (
+    <Container component="main" maxWidth="sm">
+      <Box
+        sx={{
+          marginTop: 8,
+          display: 'flex',
+          flexDirection: 'column',
+          alignItems: 'center',
+        }}
+      >
+        <Paper elevation={3} sx={{ padding: 4, width: '100%' }}>
+          <Box sx={{ textAlign: 'center', mb: 3 }}>
+            <Typography component="h1" variant="h4" fontWeight="bold">
+              Create Account
+            </Typography>
+            <Typography variant="body1" color="text.secondary">
+              Join JobPortal and start your career journey
+            </Typography>
+          </Box>
+
+          {error && (
+            <Alert severity="error" sx={{ mb: 2 }}>
+              {error}
+            </Alert>
+          )}
+
+          <Box component="form" onSubmit={handleSubmit(onSubmit)} noValidate>
+            <Box sx={{ display: 'flex', gap: 2, mb: 2 }}>
+              <TextField
+                margin="normal"
+                required
+                fullWidth
+                id="firstName"
+                label="First Name"
+                autoComplete="given-name"
+                {...register('firstName', {
+                  required: 'First name is required',
+                  minLength: {
+                    value: 2,
+                    message: 'First name must be at least 2 characters',
+                  },
+                })}
+                error={!!errors.firstName}
+                helperText={errors.firstName?.message}
+              />
+              <TextField
+                margin="normal"
+                required
+                fullWidth
+                id="lastName"
+                label="Last Name"
+                autoComplete="family-name"
+                {...register('lastName', {
+                  required: 'Last name is required',
+                  minLength: {
+                    value: 2,
+                    message: 'Last name must be at least 2 characters',
+                  },
+                })}
+                error={!!errors.lastName}
+                helperText={errors.lastName?.message}
+              />
+            </Box>
+
+            <TextField
+              margin="normal"
+              required
+              fullWidth
+              id="email"
+              label="Email Address"
+              autoComplete="email"
+              {...register('email', {
+                required: 'Email is required',
+                pattern: {
+                  value: /^[A-Z0-9._%+-]+@[A-Z0-9.-]+\.[A-Z]{2,}$/i,
+                  message: 'Invalid email address',
+                },
+              })}
+              error={!!errors.email}
+              helperText={errors.email?.message}
+            />
+
+            <TextField
+              margin="normal"
+              fullWidth
+              id="phone"
+              label="Phone Number"
+              autoComplete="tel"
+              {...register('phone')}
+              error={!!errors.phone}
+              helperText={errors.phone?.message}
+            />
+
+            <FormControl margin="normal" fullWidth required>
+              <InputLabel id="role-label">I am a</InputLabel>
+              <Select
+                labelId="role-label"
+                id="role"
+                label="I am a"
+                {...register('role', { required: 'Please select your role' })}
+                error={!!errors.role}
+              >
+                <MenuItem value="JOB_SEEKER">Job Seeker</MenuItem>
+                <MenuItem value="EMPLOYER">Employer</MenuItem>
+              </Select>
+            </FormControl>
+
+            <TextField
+              margin="normal"
+              required
+              fullWidth
+              label="Password"
+              type="password"
+              id="password"
+              autoComplete="new-password"
+              {...register('password', {
+                required: 'Password is required',
+                minLength: {
+                  value: 6,
+                  message: 'Password must be at least 6 characters',
+                },
+              })}
+              error={!!errors.password}
+              helperText={errors.password?.message}
+            />
+
+            <TextField
+              margin="normal"
+              required
+              fullWidth
+              label="Confirm Password"
+              type="password"
+              id="confirmPassword"
+              autoComplete="new-password"
+              {...register('confirmPassword', {
+                required: 'Please confirm your password',
+                validate: (value) =>
+                  value === password || 'Passwords do not match',
+              })}
+              error={!!errors.confirmPassword}
+              helperText={errors.confirmPassword?.message}
+            />
+
+            <FormControlLabel
+              control={
+                <Checkbox
+                  {...register('agreeToTerms', {
+                    required: 'You must agree to the terms and conditions',
+                  })}
+                  color="primary"
+                />
+              }
+              label={
+                <Typography variant="body2">
+                  I agree to the{' '}
+                  <Link href="/terms" target="_blank">
+                    Terms of Service
+                  </Link>{' '}
+                  and{' '}
+                  <Link href="/privacy" target="_blank">
+                    Privacy Policy
+                  </Link>
+                </Typography>
+              }
+            />
+            {errors.agreeToTerms && (
+              <Typography variant="body2" color="error" sx={{ mt: 1 }}>
+                {errors.agreeToTerms.message}
+              </Typography>
+            )}
+
+            <Button
+              type="submit"
+              fullWidth
+              variant="contained"
+              sx={{ mt: 3, mb: 2, py: 1.5 }}
+              disabled={loading}
+            >
+              {loading ? <CircularProgress size={24} /> : 'Create Account'}
+            </Button>
+
+            <Box sx={{ textAlign: 'center' }}>
+              <Typography variant="body2">
+                Already have an account?{' '}
+                <Link component={RouterLink} to="/login" variant="body2">
+                  Sign in here
+                </Link>
+              </Typography>
+            </Box>
+          </Box>
+        </Paper>
+      </Box>
+    </Container>
+  );
+};
+
+export default RegisterPage;
@@ -0,0 +1,20 @@
+import apiService from './api';
+import { SavedSearch, SavedSearchRequest } from '../types';
+
+export const savedSearchService = {
+  async getSavedSearches(): Promise<SavedSearch[]> {
+    return apiService.get<SavedSearch[]>('/saved-searches');
+  },
+
+  async createSavedSearch(data: SavedSearchRequest): Promise<SavedSearch> {
+    return apiService.post<SavedSearch>('/saved-searches', data);
+  },
+
+  async updateSavedSearch(id: number, data: SavedSearchRequest): Promise<SavedSearch> {
+    return apiService.put<SavedSearch>(`/saved-searches/${id}`, data);
+  },
+
+  async deleteSavedSearch(id: number): Promise<void> {
+    return apiService.delete<void>(`/saved-searches/${id}`);
+  },
+};
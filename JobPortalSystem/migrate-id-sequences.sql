@@ -0,0 +1,48 @@
+-- Job Portal id_sequences migration
+-- Run once against an existing database before starting a build where entities use
+-- table-generated ids; safe to re-run. Re-run it as well when upgrading a database that
+-- Hibernate wrote with stored_last_used=true, where next_val was the last id used.
+
+USE job_portal_db;
+
+-- Start the table-based id generators above the ids already in use. next_val is the next id
+-- to hand out (hibernate.id.generator.stored_last_used=false), hence MAX(id) + 1
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) VALUES
+('users', (SELECT COALESCE(MAX(id), 0) + 1 FROM users)),
+('companies', (SELECT COALESCE(MAX(id), 0) + 1 FROM companies)),
+('categories', (SELECT COALESCE(MAX(id), 0) + 1 FROM categories)),
+('skills', (SELECT COALESCE(MAX(id), 0) + 1 FROM skills)),
+('jobs', (SELECT COALESCE(MAX(id), 0) + 1 FROM jobs)),
+('job_applications', (SELECT COALESCE(MAX(id), 0) + 1 FROM job_applications)),
+('saved_jobs', (SELECT COALESCE(MAX(id), 0) + 1 FROM saved_jobs)),
+('notifications', (SELECT COALESCE(MAX(id), 0) + 1 FROM notifications)),
+('notification_digest_entries', (SELECT COALESCE(MAX(id), 0) + 1 FROM notification_digest_entries)),
+('outbox_events', (SELECT COALESCE(MAX(id), 0) + 1 FROM outbox_events))
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+-- Saved searches and their alerts used auto-increment ids; their tables only exist on
+-- databases that have run a build with saved searches
+SET @seed = (SELECT IF(COUNT(*) = 0, 'DO 0',
+        'INSERT INTO id_sequences (sequence_name, next_val)
+         SELECT ''saved_searches'', COALESCE(MAX(id), 0) + 1 FROM saved_searches
+         ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))')
+    FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'saved_searches');
+PREPARE stmt FROM @seed;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @seed = (SELECT IF(COUNT(*) = 0, 'DO 0',
+        'INSERT INTO id_sequences (sequence_name, next_val)
+         SELECT ''saved_search_alerts'', COALESCE(MAX(id), 0) + 1 FROM saved_search_alerts
+         ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))')
+    FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'saved_search_alerts');
+PREPARE stmt FROM @seed;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,48 @@
+-- Job Portal unique key migration
+-- Run once against an existing database before starting a build that reports duplicate
+-- applications and saved jobs from these keys; safe to re-run.
+
+USE job_portal_db;
+
+-- Keep the earliest of any duplicates that slipped past the old exists-then-save checks
+DELETE a FROM job_applications a
+JOIN job_applications b ON a.user_id = b.user_id AND a.job_id = b.job_id AND a.id > b.id;
+
+DELETE s FROM saved_jobs s
+JOIN saved_jobs t ON s.user_id = t.user_id AND s.job_id = t.job_id AND s.id > t.id;
+
+-- One application per user and job
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE job_applications ADD CONSTRAINT uk_job_applications_user_job UNIQUE (user_id, job_id)',
+        'DO 0')
+    FROM information_schema.TABLE_CONSTRAINTS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'job_applications'
+      AND CONSTRAINT_NAME = 'uk_job_applications_user_job');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- One save per user and job, under a fixed name instead of the one Hibernate generated
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE saved_jobs ADD CONSTRAINT uk_saved_jobs_user_job UNIQUE (user_id, job_id)',
+        'DO 0')
+    FROM information_schema.TABLE_CONSTRAINTS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'saved_jobs'
+      AND CONSTRAINT_NAME = 'uk_saved_jobs_user_job');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Drop the generated key on the same columns, so duplicates are always reported by name
+SET @ddl = (SELECT COALESCE(MAX(CONCAT('ALTER TABLE saved_jobs DROP INDEX `', keys_.INDEX_NAME, '`')), 'DO 0')
+    FROM (SELECT INDEX_NAME, GROUP_CONCAT(COLUMN_NAME ORDER BY SEQ_IN_INDEX) AS columns_
+          FROM information_schema.STATISTICS
+          WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'saved_jobs' AND NON_UNIQUE = 0
+            AND INDEX_NAME NOT IN ('PRIMARY', 'uk_saved_jobs_user_job')
+          GROUP BY INDEX_NAME) keys_
+    WHERE keys_.columns_ = 'user_id,job_id');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+COMMIT;